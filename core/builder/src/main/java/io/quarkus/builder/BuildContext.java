@@ -231,15 +231,33 @@ private void doProduce(ItemId id, BuildItem value) {
         execution.getMetrics().buildItemProduced(value);
     }
 
-    void depFinished() {
+    /**
+     * @return {@code true} if this was the last dependency, and the step is now ready to run
+     */
+    boolean depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
-        if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
-        }
+        return remaining == 0;
+    }
+
+    StepInfo getStepInfo() {
+        return stepInfo;
     }
 
     void run() {
+        BuildContext next = this;
+        do {
+            next = next.runStep();
+        } while (next != null);
+    }
+
+    /**
+     * Runs this step and schedules the dependents that became ready.
+     *
+     * @return the most critical of these dependents, to be run on the current thread, or {@code null} if there is none or
+     *         the durations of a previous build are unknown
+     */
+    private BuildContext runStep() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
@@ -265,17 +283,39 @@ void run() {
             }
         } finally {
             long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, start, duration);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
+            List<BuildContext> ready = null;
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                final BuildContext dependent = execution.getBuildContext(info);
+                if (dependent.depFinished()) {
+                    if (ready == null) {
+                        ready = new ArrayList<>(2);
+                    }
+                    ready.add(dependent);
+                }
+            }
+            if (ready != null) {
+                if (!execution.hasPriorities()) {
+                    for (BuildContext dependent : ready) {
+                        execution.getExecutor().execute(dependent::run);
+                    }
+                    return null;
+                }
+                // the steps on the longest remaining path are started first, and the first one does not need a thread handoff
+                execution.sortByPriority(ready);
+                for (int i = 1; i < ready.size(); i++) {
+                    execution.getExecutor().execute(ready.get(i)::run);
+                }
+                return ready.get(0);
             }
         } else {
             execution.depFinished();
         }
+        return null;
     }
 }
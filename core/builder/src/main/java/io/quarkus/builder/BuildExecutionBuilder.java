@@ -20,6 +20,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Map<String, Long> stepDurations = Collections.emptyMap();
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +70,21 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Provide the durations of the build steps recorded by a previous execution, in milliseconds and keyed by the
+     * {@linkplain BuildStep#getId() step id}. When several steps are ready to run, the ones on the longest remaining path
+     * of the build are started first.
+     *
+     * @param stepDurations the durations (must not be {@code null})
+     * @return this builder
+     * @see BuildMetrics#getStepDurations()
+     */
+    public BuildExecutionBuilder setStepDurations(Map<String, Long> stepDurations) {
+        Assert.checkNotNullParam("stepDurations", stepDurations);
+        this.stepDurations = stepDurations;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -102,6 +118,10 @@ private void produce(final ItemId id, final BuildItem value) {
         }
     }
 
+    Map<String, Long> getStepDurations() {
+        return stepDurations;
+    }
+
     Map<ItemId, BuildItem> getInitialSingle() {
         return initialSingle;
     }
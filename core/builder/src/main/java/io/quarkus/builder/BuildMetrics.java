@@ -1,9 +1,11 @@
 package io.quarkus.builder;
 
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -11,11 +13,16 @@
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
@@ -53,8 +60,95 @@ public void buildFinished(long duration) {
     }
 
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        buildStepFinished(stepInfo, thread, started, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(duration), duration);
+    }
+
+    /**
+     * @param started the time the execution started
+     * @param startedNanos the {@link System#nanoTime()} value when the execution started
+     * @param duration the duration in ms
+     */
+    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long startedNanos, long duration) {
         records.put(stepInfo.getBuildStep().getId(),
-                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
+                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, startedNanos, duration));
+    }
+
+    /**
+     * @return the duration of each build step in ms, keyed by the step id
+     * @see BuildExecutionBuilder#setStepDurations(Map)
+     */
+    public Map<String, Long> getStepDurations() {
+        Map<String, Long> durations = new HashMap<>();
+        for (BuildStepRecord rec : records.values()) {
+            durations.put(rec.stepInfo.getBuildStep().getId(), rec.duration);
+        }
+        return durations;
+    }
+
+    /**
+     * Analyzes the recorded build steps.
+     *
+     * @return the critical path of the build
+     */
+    public CriticalPath getCriticalPath() {
+        // the longest chain of dependent steps, computed from the recorded durations
+        Map<String, Long> longestFrom = new HashMap<>();
+        BuildStepRecord first = null;
+        for (BuildStepRecord rec : records.values()) {
+            if (first == null || longestFrom(rec, longestFrom) > longestFrom(first, longestFrom)) {
+                first = rec;
+            }
+        }
+        List<BuildStepRecord> chain = new ArrayList<>();
+        BuildStepRecord current = first;
+        while (current != null) {
+            chain.add(current);
+            BuildStepRecord next = null;
+            for (StepInfo dependent : current.stepInfo.getDependents()) {
+                BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+                if (dependentRecord != null && (next == null
+                        || longestFrom(dependentRecord, longestFrom) > longestFrom(next, longestFrom))) {
+                    next = dependentRecord;
+                }
+            }
+            current = next;
+        }
+
+        // the time each thread spent between its first and its last step without running a step
+        Map<String, long[]> threads = new HashMap<>();
+        long busyTime = 0;
+        for (BuildStepRecord rec : records.values()) {
+            // the wall clock time of day wraps at midnight, the monotonic time does not
+            long start = TimeUnit.NANOSECONDS.toMillis(rec.startedNanos);
+            long[] thread = threads.computeIfAbsent(rec.thread, t -> new long[] { Long.MAX_VALUE, Long.MIN_VALUE, 0 });
+            thread[0] = Math.min(thread[0], start);
+            thread[1] = Math.max(thread[1], start + rec.duration);
+            thread[2] += rec.duration;
+            busyTime += rec.duration;
+        }
+        long idleWorkerTime = 0;
+        for (long[] thread : threads.values()) {
+            idleWorkerTime += Math.max(0, thread[1] - thread[0] - thread[2]);
+        }
+        return new CriticalPath(chain, first != null ? longestFrom(first, longestFrom) : 0, duration, busyTime,
+                threads.size(), idleWorkerTime);
+    }
+
+    private long longestFrom(BuildStepRecord rec, Map<String, Long> longestFrom) {
+        String stepId = rec.stepInfo.getBuildStep().getId();
+        Long longest = longestFrom.get(stepId);
+        if (longest == null) {
+            long longestDependent = 0;
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+                if (dependentRecord != null) {
+                    longestDependent = Math.max(longestDependent, longestFrom(dependentRecord, longestFrom));
+                }
+            }
+            longest = rec.duration + longestDependent;
+            longestFrom.put(stepId, longest);
+        }
+        return longest;
     }
 
     public void buildItemProduced(BuildItem buildItem) {
@@ -126,11 +220,115 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
         json.put("itemsCount", itemsCount);
 
+        CriticalPath criticalPath = getCriticalPath();
+        JsonObjectBuilder criticalPathObject = Json.object();
+        criticalPathObject.put("duration", criticalPath.duration);
+        JsonArrayBuilder criticalPathSteps = Json.array();
+        for (BuildStepRecord rec : criticalPath.steps) {
+            criticalPathSteps.add(rec.id);
+        }
+        criticalPathObject.put("steps", criticalPathSteps);
+        criticalPathObject.put("busyTime", criticalPath.busyTime);
+        criticalPathObject.put("workers", criticalPath.workers);
+        criticalPathObject.put("idleWorkerTime", criticalPath.idleWorkerTime);
+        json.put("criticalPath", criticalPathObject);
+
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
     }
 
+    /**
+     * Dumps the duration of each build step, so that a later build can start the most critical steps first.
+     *
+     * @see #loadStepDurations(Path)
+     */
+    public void dumpStepDurationsTo(Path file) throws IOException {
+        Properties properties = new Properties();
+        for (Entry<String, Long> e : getStepDurations().entrySet()) {
+            properties.setProperty(e.getKey(), e.getValue().toString());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, buildTargetName);
+        }
+    }
+
+    /**
+     * @return the step durations dumped by a previous build, or an empty map if the file does not exist or is invalid
+     * @see #dumpStepDurationsTo(Path)
+     */
+    public static Map<String, Long> loadStepDurations(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        Properties properties = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            Map<String, Long> durations = new HashMap<>();
+            for (String stepId : properties.stringPropertyNames()) {
+                durations.put(stepId, Long.parseLong(properties.getProperty(stepId)));
+            }
+            return durations;
+        } catch (IOException | NumberFormatException e) {
+            LOG.debugf(e, "Unable to load the build step durations from %s", file);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * The chain of dependent build steps that took the longest, and how well the other steps were run in parallel.
+     */
+    public static class CriticalPath {
+
+        /**
+         * The steps of the longest chain, in execution order.
+         */
+        public final List<BuildStepRecord> steps;
+
+        /**
+         * The sum of the durations of the steps of the chain, in ms.
+         */
+        public final long duration;
+
+        /**
+         * The duration of the build in ms.
+         */
+        public final long buildDuration;
+
+        /**
+         * The sum of the durations of all the steps, in ms.
+         */
+        public final long busyTime;
+
+        /**
+         * The number of threads that executed build steps.
+         */
+        public final int workers;
+
+        /**
+         * The time the threads spent between their first and last step without executing a step, in ms.
+         */
+        public final long idleWorkerTime;
+
+        CriticalPath(List<BuildStepRecord> steps, long duration, long buildDuration, long busyTime, int workers,
+                long idleWorkerTime) {
+            this.steps = steps;
+            this.duration = duration;
+            this.buildDuration = buildDuration;
+            this.busyTime = busyTime;
+            this.workers = workers;
+            this.idleWorkerTime = idleWorkerTime;
+        }
+
+        /**
+         * @return the average number of steps that were executed at the same time
+         */
+        public double getParallelism() {
+            return buildDuration > 0 ? (double) busyTime / buildDuration : 0;
+        }
+
+    }
+
     public static class BuildStepRecord {
 
         /**
@@ -150,16 +348,22 @@ public static class BuildStepRecord {
          */
         public final LocalTime started;
 
+        /**
+         * The {@link System#nanoTime()} value when the execution started.
+         */
+        public final long startedNanos;
+
         /**
          * The duration in ms.
          */
         public final long duration;
 
-        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long startedNanos, long duration) {
             this.id = id;
             this.stepInfo = stepInfo;
             this.thread = thread;
             this.started = started;
+            this.startedNanos = startedNanos;
             this.duration = duration;
         }
 
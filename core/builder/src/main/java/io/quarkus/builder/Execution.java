@@ -6,7 +6,10 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +44,11 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    /**
+     * For each step, the duration of the longest path from this step to the end of the build, as recorded by a previous
+     * execution. Empty if no durations were recorded.
+     */
+    private final Map<StepInfo, Long> priorities;
 
     static {
         try {
@@ -67,6 +75,54 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        priorities = computePriorities(chain.getStartSteps(), builder.getStepDurations());
+    }
+
+    private static Map<StepInfo, Long> computePriorities(List<StepInfo> startSteps, Map<String, Long> stepDurations) {
+        if (stepDurations.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<StepInfo, Long> priorities = new HashMap<>();
+        for (StepInfo startStep : startSteps) {
+            computePriority(startStep, stepDurations, priorities);
+        }
+        return priorities;
+    }
+
+    private static long computePriority(StepInfo stepInfo, Map<String, Long> stepDurations, Map<StepInfo, Long> priorities) {
+        Long priority = priorities.get(stepInfo);
+        if (priority == null) {
+            long longestDependent = 0;
+            for (StepInfo dependent : stepInfo.getDependents()) {
+                longestDependent = max(longestDependent, computePriority(dependent, stepDurations, priorities));
+            }
+            // steps that were not recorded (e.g. new steps) are assumed to be cheap
+            priority = longestDependent + stepDurations.getOrDefault(stepInfo.getBuildStep().getId(), 0L);
+            priorities.put(stepInfo, priority);
+        }
+        return priority;
+    }
+
+    /**
+     * @return {@code true} if the durations of a previous build are known, so that the steps can be prioritized
+     */
+    boolean hasPriorities() {
+        return !priorities.isEmpty();
+    }
+
+    /**
+     * Sorts the given steps so that the ones on the longest remaining path come first.
+     */
+    void sortByPriority(List<BuildContext> contexts) {
+        if (contexts.size() > 1 && !priorities.isEmpty()) {
+            contexts.sort(new Comparator<BuildContext>() {
+                @Override
+                public int compare(BuildContext o1, BuildContext o2) {
+                    return Long.compare(priorities.getOrDefault(o2.getStepInfo(), 0L),
+                            priorities.getOrDefault(o1.getStepInfo(), 0L));
+                }
+            });
+        }
     }
 
     List<Diagnostic> getDiagnostics() {
@@ -87,9 +143,13 @@ BuildResult run() throws BuildException {
         runningThread = Thread.currentThread();
 
         // run the build
-        final List<StepInfo> startSteps = chain.getStartSteps();
-        for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+        final List<BuildContext> startSteps = new ArrayList<>(chain.getStartSteps().size());
+        for (StepInfo startStep : chain.getStartSteps()) {
+            startSteps.add(getBuildContext(startStep));
+        }
+        sortByPriority(startSteps);
+        for (BuildContext startStep : startSteps) {
+            executor.execute(startStep::run);
         }
         // wait for the wrap-up
         boolean intr = false;
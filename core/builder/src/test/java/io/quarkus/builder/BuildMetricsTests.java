@@ -0,0 +1,160 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildMetricsTests {
+
+    public static final class FirstItem extends SimpleBuildItem {
+    }
+
+    public static final class SecondItem extends SimpleBuildItem {
+    }
+
+    public static final class OtherItem extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testCriticalPath() throws Exception {
+        BuildChain chain = createChain();
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
+        assertNotNull(result.consume(SecondItem.class));
+
+        BuildMetrics.CriticalPath criticalPath = result.getMetrics().getCriticalPath();
+        List<String> steps = new ArrayList<>();
+        for (BuildMetrics.BuildStepRecord rec : criticalPath.steps) {
+            steps.add(rec.stepInfo.getBuildStep().getId());
+        }
+        assertEquals(List.of("first", "second"), steps);
+        assertTrue(criticalPath.duration >= 200, "" + criticalPath.duration);
+        // the chain is sequential, the build cannot be shorter
+        assertTrue(criticalPath.buildDuration >= criticalPath.duration - 1,
+                criticalPath.buildDuration + " < " + criticalPath.duration);
+        assertTrue(criticalPath.busyTime >= criticalPath.duration);
+        assertTrue(criticalPath.workers >= 1);
+        assertTrue(criticalPath.idleWorkerTime >= 0);
+        assertTrue(criticalPath.getParallelism() > 0);
+    }
+
+    @Test
+    public void testMostCriticalDependentRunsFirst() throws Exception {
+        BuildChain chain = createForkChain();
+        // without handoff, the most critical of the released dependents runs on the thread of the step releasing them
+        assertRunsAfterRoot(chain, Map.of("root", 10L, "short", 10L, "long", 500L), "long");
+        assertRunsAfterRoot(chain, Map.of("root", 10L, "short", 500L, "long", 10L), "short");
+    }
+
+    private static void assertRunsAfterRoot(BuildChain chain, Map<String, Long> durations, String expected)
+            throws Exception {
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").setStepDurations(durations).execute();
+        Map<String, BuildMetrics.BuildStepRecord> records = new HashMap<>();
+        for (BuildMetrics.BuildStepRecord rec : result.getMetrics().getRecords()) {
+            records.put(rec.stepInfo.getBuildStep().getId(), rec);
+        }
+        BuildMetrics.BuildStepRecord root = records.get("root");
+        BuildMetrics.BuildStepRecord next = records.get(expected);
+        assertEquals(root.thread, next.thread);
+        assertTrue(next.startedNanos >= root.startedNanos + TimeUnit.MILLISECONDS.toNanos(root.duration));
+    }
+
+    @Test
+    public void testStepDurations() throws Exception {
+        BuildChain chain = createChain();
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
+        Path file = Files.createTempFile("build-step-durations", ".properties");
+        try {
+            result.getMetrics().dumpStepDurationsTo(file);
+            Map<String, Long> durations = BuildMetrics.loadStepDurations(file);
+            assertEquals(result.getMetrics().getStepDurations(), durations);
+            assertTrue(durations.get("first") >= 100);
+
+            // the recorded durations only change the order in which the ready steps are started
+            result = chain.createExecutionBuilder("my-app.jar").setStepDurations(durations).execute();
+            assertNotNull(result.consume(SecondItem.class));
+            assertNotNull(result.consume(OtherItem.class));
+        } finally {
+            Files.delete(file);
+        }
+        assertTrue(BuildMetrics.loadStepDurations(file).isEmpty());
+    }
+
+    private static BuildChain createForkChain() throws ChainBuildException {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new TestStep("root", 10, context -> context.produce(new FirstItem())))
+                .produces(FirstItem.class)
+                .build();
+        builder.addBuildStep(new TestStep("short", 10, context -> context.produce(new SecondItem())))
+                .consumes(FirstItem.class)
+                .produces(SecondItem.class)
+                .build();
+        builder.addBuildStep(new TestStep("long", 10, context -> context.produce(new OtherItem())))
+                .consumes(FirstItem.class)
+                .produces(OtherItem.class)
+                .build();
+        builder.addFinal(SecondItem.class);
+        builder.addFinal(OtherItem.class);
+        return builder.build();
+    }
+
+    private static BuildChain createChain() throws ChainBuildException {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new TestStep("first", 100, context -> context.produce(new FirstItem())))
+                .produces(FirstItem.class)
+                .build();
+        builder.addBuildStep(new TestStep("second", 100, context -> {
+            assertNotNull(context.consume(FirstItem.class));
+            context.produce(new SecondItem());
+        }))
+                .consumes(FirstItem.class)
+                .produces(SecondItem.class)
+                .build();
+        builder.addBuildStep(new TestStep("other", 10, context -> context.produce(new OtherItem())))
+                .produces(OtherItem.class)
+                .build();
+        builder.addFinal(SecondItem.class);
+        builder.addFinal(OtherItem.class);
+        return builder.build();
+    }
+
+    static final class TestStep implements BuildStep {
+
+        private final String id;
+        private final long sleep;
+        private final Consumer<BuildContext> action;
+
+        TestStep(String id, long sleep, Consumer<BuildContext> action) {
+            this.id = id;
+            this.sleep = sleep;
+            this.action = action;
+        }
+
+        @Override
+        public void execute(BuildContext context) {
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            action.accept(context);
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkus.deployment;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,6 +22,7 @@
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -42,6 +45,7 @@
 public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
+    private static final String BUILD_STEP_DURATIONS = "build-step-durations.properties";
 
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
@@ -157,12 +161,30 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            boolean dumpBuildMetrics = Boolean.parseBoolean(System.getProperty("quarkus.debug.dump-build-metrics"));
+            Path stepDurations = targetDir == null ? null : targetDir.resolve(BUILD_STEP_DURATIONS);
+            if (stepDurations != null) {
+                execBuilder.setStepDurations(BuildMetrics.loadStepDurations(stepDurations));
+            }
             BuildResult buildResult = execBuilder.execute();
+            if (dumpBuildMetrics && stepDurations != null && Files.isDirectory(targetDir)) {
+                try {
+                    buildResult.getMetrics().dumpStepDurationsTo(stepDurations);
+                } catch (IOException e) {
+                    log.warnf(e, "Unable to write the build step durations to %s", stepDurations);
+                }
+            }
+            if (log.isDebugEnabled()) {
+                BuildMetrics.CriticalPath criticalPath = buildResult.getMetrics().getCriticalPath();
+                log.debugf("Critical path of %d steps took %d ms of %d ms; parallelism %.2f, %d workers idle for %d ms",
+                        criticalPath.steps.size(), criticalPath.duration, criticalPath.buildDuration,
+                        criticalPath.getParallelism(), criticalPath.workers, criticalPath.idleWorkerTime);
+            }
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
-                if (Boolean.parseBoolean(System.getProperty("quarkus.debug.dump-build-metrics"))) {
+                if (dumpBuildMetrics) {
                     buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
                 }
             } else {
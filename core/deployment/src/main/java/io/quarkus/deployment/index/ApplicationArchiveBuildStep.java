@@ -11,7 +11,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
@@ -33,6 +37,7 @@
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
@@ -86,11 +91,14 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            BuildSystemTargetBuildItem buildSystemTarget,
+            ExecutorService buildExecutor) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
-            indexCache = new IndexCache();
+            indexCache = new IndexCache(
+                    new JarIndexCache(buildSystemTarget.getOutputDirectory().resolve(JarIndexCache.DIRECTORY)));
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
@@ -102,9 +110,10 @@ ApplicationArchivesBuildItem build(
         // Add resources removed from the classpath by extensions
         removedResources.putAll(curateOutcomeBuildItem.getApplicationModel().getRemovedResources());
 
-        List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
-                curateOutcomeBuildItem, removedResources);
+        ArchiveTasks archiveTasks = new ArchiveTasks(buildExecutor);
+        scanForOtherIndexes(buildCloseables, appMarkers, root, additionalApplicationArchiveBuildItem,
+                indexDependencyBuildItems, indexCache, curateOutcomeBuildItem, removedResources, archiveTasks);
+        List<ApplicationArchive> applicationArchives = archiveTasks.complete();
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -124,14 +133,13 @@ ApplicationArchivesBuildItem build(
                 applicationArchives);
     }
 
-    private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
+    private void scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
             List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
-            CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
-            throws IOException {
+            CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources,
+            ArchiveTasks appArchives) {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -150,17 +158,15 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
+                    appArchives.add(() -> createApplicationArchive(buildCloseables, indexCache, apPath, null,
                             removedResources));
                 }
             }
         }
-
-        return appArchives;
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
+            Set<Path> indexedDeps, ArchiveTasks appArchives,
             QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
@@ -186,12 +192,8 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
                     if (!root.isExcludedFromIndexing(path)
                             && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
-                        try {
-                            appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, dep,
-                                    removedResources));
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
+                        appArchives.add(() -> createApplicationArchive(buildCloseables, indexCache, path, dep,
+                                removedResources));
                     }
                 }
             }
@@ -217,9 +219,8 @@ private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseable
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
-            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<ApplicationArchive> appArchives,
-            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
-            throws IOException {
+            ArchiveRootBuildItem root, Set<Path> indexedPaths, ArchiveTasks appArchives,
+            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed) {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
         final Set<ArtifactKey> indexedElements = new HashSet<>();
         for (String marker : applicationArchiveMarkers) {
@@ -245,33 +246,37 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
+                        appArchives.add(() -> {
+                            final Set<String> removedResources = removed.get(dependencyKey);
+                            Index index = indexCache.cache.get(rootPath);
+                            if (index == null) {
+                                index = indexCache.jarIndexCache.get(rootPath, removedResources,
+                                        () -> cpe.apply(t -> {
+                                            try {
+                                                return IndexingUtil.indexTree(t, removedResources);
+                                            } catch (IOException ioe) {
+                                                throw new UncheckedIOException(ioe);
+                                            }
+                                        }));
+                                indexCache.cache.put(rootPath, index);
                             }
-                            indexCache.cache.put(rootPath, index);
-                        }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency()));
+                            return new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency());
+                        });
                         return null;
                     }
 
-                    final ApplicationArchive archive = tree.apply(marker, visit -> {
-                        if (visit == null || root.isExcludedFromIndexing(visit.getRoot())) {
-                            return null;
-                        }
-                        final Index index;
-                        try {
-                            index = indexPathTree(tree, removed.get(dependencyKey));
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-                        return new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency());
-                    });
-                    if (archive != null) {
-                        appArchives.add(archive);
+                    final boolean marked = tree.apply(marker,
+                            visit -> visit != null && !root.isExcludedFromIndexing(visit.getRoot()));
+                    if (marked) {
+                        appArchives.add(() -> new ApplicationArchiveImpl(
+                                cpe.apply(t -> {
+                                    try {
+                                        return indexPathTree(t, removed.get(dependencyKey));
+                                    } catch (IOException e) {
+                                        throw new UncheckedIOException(e);
+                                    }
+                                }),
+                                tree, cpe.getResolvedDependency()));
                     }
                     return null;
                 });
@@ -303,23 +308,74 @@ public void visitPath(PathVisit visit) {
     }
 
     private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
+        Index index = indexCache.cache.get(path);
+        if (index == null) {
+            try {
+                index = indexCache.jarIndexCache.get(path, removed, () -> IndexingUtil.indexJar(path, removed));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to process " + path, e);
             }
-        });
+            indexCache.cache.put(path, index);
+        }
+        return index;
     }
 
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * The indexes are also persisted, so that the following builds do not have to index the same jars again.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+        final JarIndexCache jarIndexCache;
+
+        IndexCache(JarIndexCache jarIndexCache) {
+            this.jarIndexCache = jarIndexCache;
+        }
+    }
+
+    /**
+     * The application archives to create, in order. The archives are created on the build executor, as indexing the
+     * archives that do not contain a Jandex index is the most expensive part of this step.
+     */
+    static final class ArchiveTasks {
+        private final ExecutorService executor;
+        private final List<FutureTask<ApplicationArchive>> tasks = new ArrayList<>();
+
+        ArchiveTasks(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        void add(Callable<ApplicationArchive> task) {
+            FutureTask<ApplicationArchive> futureTask = new FutureTask<>(task);
+            tasks.add(futureTask);
+            executor.execute(futureTask);
+        }
+
+        List<ApplicationArchive> complete() throws IOException {
+            List<ApplicationArchive> archives = new ArrayList<>(tasks.size());
+            for (FutureTask<ApplicationArchive> task : tasks) {
+                // a task that was not started yet is run by this thread instead of waiting for a free worker
+                task.run();
+                try {
+                    archives.add(task.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while indexing the application archives", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+            return archives;
+        }
     }
 }
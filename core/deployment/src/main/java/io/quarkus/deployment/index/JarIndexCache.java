@@ -0,0 +1,161 @@
+package io.quarkus.deployment.index;
+
+import static io.quarkus.bootstrap.classloading.JarClassPathElement.JAVA_VERSION;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+/**
+ * A persistent cache of the Jandex indexes of the jars that do not contain a {@code META-INF/jandex.idx}.
+ * <p>
+ * The indexes are stored under a checksum of the jar computed from its central directory, that is from the name, size
+ * and CRC of each entry, so the content of the jar does not have to be read to find out whether it changed.
+ */
+final class JarIndexCache {
+
+    /**
+     * The directory of the cache, relative to the build output directory.
+     */
+    static final String DIRECTORY = "quarkus/jandex-cache";
+
+    private static final Logger log = Logger.getLogger("io.quarkus.deployment.index");
+
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    JarIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the index of the given jar, reading it from the cache if the jar was already indexed.
+     *
+     * @param jar the jar
+     * @param removed the resources removed from the jar, may be {@code null}
+     * @param indexer indexes the jar if it is not cached yet
+     * @return the index
+     */
+    Index get(Path jar, Set<String> removed, Callable<Index> indexer) throws IOException {
+        final String checksum;
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            if (removed == null && jarFile.getEntry(IndexingUtil.JANDEX_INDEX) != null) {
+                // reading the index of the jar is as fast as reading a cached one
+                return call(indexer);
+            }
+            checksum = checksum(jarFile, removed);
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Failed to compute the checksum of %s, it is not cached", jar);
+            return call(indexer);
+        }
+        Path file = directory.resolve(checksum + ".idx");
+        Index index = read(file, jar);
+        if (index != null) {
+            return index;
+        }
+        index = call(indexer);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, checksum, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                new IndexWriter(out).write(index);
+            }
+            // concurrent builds may be reading the file, so it is never written in place
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to write the cached index %s of %s", file, jar);
+        }
+        return index;
+    }
+
+    /**
+     * @return the cached index, or {@code null} if the jar is not indexed yet or if the cached index cannot be read, in
+     *         which case the jar is indexed again
+     */
+    private static Index read(Path file, Path jar) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return new IndexReader(in).read();
+        } catch (NoSuchFileException e) {
+            // not indexed yet
+        } catch (IOException | RuntimeException e) {
+            // truncated, corrupted or written by an unsupported Jandex version
+            log.debugf(e, "Failed to read the cached index %s of %s, the jar is indexed again", file, jar);
+        }
+        return null;
+    }
+
+    private static Index call(Callable<Index> indexer) throws IOException {
+        try {
+            return indexer.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String checksum(JarFile jarFile, Set<String> removed) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2);
+        update(digest, Integer.toString(VERSION));
+        // the classes indexed from a multi release jar depend on the Java version
+        update(digest, Integer.toString(JAVA_VERSION));
+        CodeSource jandex = Indexer.class.getProtectionDomain().getCodeSource();
+        if (jandex != null && jandex.getLocation() != null) {
+            update(digest, jandex.getLocation().toString());
+        }
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            update(digest, entry.getName());
+            buffer.clear();
+            buffer.putLong(entry.getSize()).putLong(entry.getCrc()).flip();
+            digest.update(buffer);
+        }
+        if (removed != null) {
+            update(digest, "removed");
+            for (String resource : new TreeSet<>(removed)) {
+                update(digest, resource);
+            }
+        }
+        StringBuilder checksum = new StringBuilder();
+        for (byte b : digest.digest()) {
+            checksum.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return checksum.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -224,6 +224,31 @@ interface AppcdsConfig {
         @WithDefault("true")
         boolean includeDependencyList();
 
+        /**
+         * If this option is true then the location of every entry of the application jars is recorded during the build,
+         * and the jars are memory mapped when the application starts, so that classes and resources are read straight from
+         * memory instead of going through {@code java.util.zip}.
+         * This mostly helps the startup time of applications with a large number of dependencies, at the cost of a larger
+         * application index.
+         * Multi-release and signed jars are always read as regular jars.
+         * Only supported for the {@linkplain JarType#FAST_JAR fast JAR} and {@linkplain JarType#MUTABLE_JAR mutable JAR}
+         * output types.
+         */
+        @WithDefault("false")
+        boolean memoryMapped();
+
+        /**
+         * The class-loading profile to package with the application.
+         * A profile is recorded by starting the packaged application once with the
+         * {@code quarkus.class-loading-profile.record} system property set to the file that should be written; the file lists
+         * the classes that were loaded before the application finished starting, in loading order.
+         * When a profile is packaged, these classes are loaded by a background thread as soon as the application starts, and
+         * the startup time is logged at the DEBUG level next to the one that was measured when the profile was recorded.
+         * Only supported for the {@linkplain JarType#FAST_JAR fast JAR} and {@linkplain JarType#MUTABLE_JAR mutable JAR}
+         * output types.
+         */
+        Optional<Path> classLoadingProfile();
+
         /**
          * Decompiler configuration
          */
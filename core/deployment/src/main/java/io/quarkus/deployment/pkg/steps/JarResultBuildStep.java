@@ -52,6 +52,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -728,6 +729,11 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             nonExistentResources.add(MP_CONFIG_FILE);
         }
 
+        ClassLoadingProfile classLoadingProfile = null;
+        if (packageConfig.jar().classLoadingProfile().isPresent()) {
+            classLoadingProfile = ClassLoadingProfile.read(packageConfig.jar().classLoadingProfile().get());
+        }
+
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             FastJarJars fastJarJars = fastJarJarsBuilder.build();
@@ -745,7 +751,7 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+                    sortedNonExistentResources, packageConfig.jar().memoryMapped(), classLoadingProfile);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -0,0 +1,95 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.ApplicationArchiveImpl;
+
+public class ArchiveTasksTest {
+
+    @Test
+    public void testArchivesAreCreatedInParallelInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ApplicationArchiveBuildStep.ArchiveTasks tasks = new ApplicationArchiveBuildStep.ArchiveTasks(executor);
+            List<ApplicationArchive> expected = new ArrayList<>();
+            CountDownLatch started = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++) {
+                ApplicationArchive archive = new ApplicationArchiveImpl(Index.of(), null, null);
+                expected.add(archive);
+                tasks.add(() -> {
+                    // every task waits for the others, so they can only complete if they run concurrently
+                    started.countDown();
+                    started.await(10, TimeUnit.SECONDS);
+                    return archive;
+                });
+            }
+            List<ApplicationArchive> archives = tasks.complete();
+            assertEquals(0, started.getCount());
+            assertEquals(expected.size(), archives.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), archives.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTasksRunOnTheCallerWhenTheExecutorIsBusy() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            ApplicationArchiveBuildStep.ArchiveTasks tasks = new ApplicationArchiveBuildStep.ArchiveTasks(executor);
+            Thread caller = Thread.currentThread();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                tasks.add(() -> {
+                    threads.add(Thread.currentThread());
+                    return new ApplicationArchiveImpl(Index.of(), null, null);
+                });
+            }
+            assertEquals(3, tasks.complete().size());
+            assertEquals(List.of(caller, caller, caller), threads);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureIsPropagated() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ApplicationArchiveBuildStep.ArchiveTasks tasks = new ApplicationArchiveBuildStep.ArchiveTasks(executor);
+            tasks.add(() -> new ApplicationArchiveImpl(Index.of(), null, null));
+            tasks.add(() -> {
+                throw new IOException("broken jar");
+            });
+            IOException e = assertThrows(IOException.class, tasks::complete);
+            assertEquals("broken jar", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JarIndexCacheTest {
+
+    private static final DotName FIRST = DotName.createSimple(First.class.getName());
+    private static final DotName SECOND = DotName.createSimple(Second.class.getName());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexIsCachedUnderTheBuildOutputDirectory() throws Exception {
+        Path cacheDir = dir.resolve("target").resolve(JarIndexCache.DIRECTORY);
+        JarIndexCache cache = new JarIndexCache(cacheDir);
+        Path jar = jar("first.jar", First.class);
+        AtomicInteger indexed = new AtomicInteger();
+
+        Index index = cache.get(jar, null, indexer(jar, null, indexed));
+        assertNotNull(index.getClassByName(FIRST));
+        assertEquals(1, indexed.get());
+        assertEquals(dir.resolve("target/quarkus/jandex-cache"), cacheDir);
+        assertEquals(1, cachedIndexes(cacheDir).size());
+
+        // served from the cache, by another build
+        index = new JarIndexCache(cacheDir).get(jar, null, indexer(jar, null, indexed));
+        assertNotNull(index.getClassByName(FIRST));
+        assertEquals(1, indexed.get());
+    }
+
+    @Test
+    public void testChangedJarIsIndexedAgain() throws Exception {
+        JarIndexCache cache = new JarIndexCache(dir.resolve("cache"));
+        Path jar = jar("app.jar", First.class);
+        AtomicInteger indexed = new AtomicInteger();
+        cache.get(jar, null, indexer(jar, null, indexed));
+
+        jar("app.jar", First.class, Second.class);
+        Index index = cache.get(jar, null, indexer(jar, null, indexed));
+        assertNotNull(index.getClassByName(SECOND));
+        assertEquals(2, indexed.get());
+        assertEquals(2, cachedIndexes(dir.resolve("cache")).size());
+    }
+
+    @Test
+    public void testRemovedResourcesAreIndexedSeparately() throws Exception {
+        JarIndexCache cache = new JarIndexCache(dir.resolve("cache"));
+        Path jar = jar("app.jar", First.class, Second.class);
+        Set<String> removed = Set.of(Second.class.getName().replace('.', '/') + ".class");
+        AtomicInteger indexed = new AtomicInteger();
+
+        assertNotNull(cache.get(jar, null, indexer(jar, null, indexed)).getClassByName(SECOND));
+        assertNull(cache.get(jar, removed, indexer(jar, removed, indexed)).getClassByName(SECOND));
+        assertNull(cache.get(jar, removed, indexer(jar, removed, indexed)).getClassByName(SECOND));
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testUnreadableCachedIndexIsReplaced() throws Exception {
+        Path cacheDir = dir.resolve("cache");
+        JarIndexCache cache = new JarIndexCache(cacheDir);
+        Path jar = jar("app.jar", First.class);
+        AtomicInteger indexed = new AtomicInteger();
+        cache.get(jar, null, indexer(jar, null, indexed));
+
+        Path cached = cachedIndexes(cacheDir).get(0);
+        Files.write(cached, "not an index".getBytes(StandardCharsets.UTF_8));
+        assertNotNull(cache.get(jar, null, indexer(jar, null, indexed)).getClassByName(FIRST));
+        assertEquals(2, indexed.get());
+
+        // the broken file was replaced
+        assertNotNull(cache.get(jar, null, indexer(jar, null, indexed)).getClassByName(FIRST));
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testJarWithIndexIsNotCached() throws Exception {
+        Path cacheDir = dir.resolve("cache");
+        JarIndexCache cache = new JarIndexCache(cacheDir);
+        Path jar = dir.resolve("indexed.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(IndexingUtil.JANDEX_INDEX));
+            Indexer indexer = new Indexer();
+            indexer.indexClass(First.class);
+            new IndexWriter(out).write(indexer.complete());
+            out.closeEntry();
+        }
+        AtomicInteger indexed = new AtomicInteger();
+        cache.get(jar, null, indexer(jar, null, indexed));
+        cache.get(jar, null, indexer(jar, null, indexed));
+        assertEquals(2, indexed.get());
+        assertEquals(0, cachedIndexes(cacheDir).size());
+    }
+
+    private Path jar(String name, Class<?>... classes) throws IOException {
+        Path jar = dir.resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> clazz : classes) {
+                String resource = clazz.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new JarEntry(resource));
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static Callable<Index> indexer(Path jar, Set<String> removed, AtomicInteger indexed) {
+        return () -> {
+            indexed.incrementAndGet();
+            return IndexingUtil.indexJar(jar, removed);
+        };
+    }
+
+    private static List<Path> cachedIndexes(Path cacheDir) throws IOException {
+        if (!Files.exists(cacheDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".idx")).collect(Collectors.toList());
+        }
+    }
+
+    static class First {
+    }
+
+    static class Second {
+    }
+}
@@ -5,6 +5,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import io.quarkus.deployment.index.IndexDependencyConfig;
@@ -193,6 +194,18 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "false")
     public boolean strictCompatibility;
 
+    /**
+     * The maximum number of entries in each of the caches the container uses for programmatic lookup, i.e. for the results
+     * of typesafe resolution, such as {@code Instance.select()}, and for lookups by bean identifier and by name.
+     * <p>
+     * By default, these caches are unbounded. This is fine for most applications, but an application that performs
+     * programmatic lookup with a large or unlimited number of distinct qualifier values may want to bound them. If a cache
+     * exceeds the maximum size then entries that were not used recently are evicted, and the hit, miss and eviction counts
+     * are recorded. These counts are exposed as metrics if the Micrometer extension is present.
+     */
+    @ConfigItem
+    public OptionalInt resolutionCacheMaxSize;
+
     /**
      * Dev mode configuration.
      */
@@ -225,8 +238,9 @@ public class ArcConfig {
 
     /**
      * If set to {@code true}, the container should try to optimize the contexts for some of the scopes. If set to {@code auto}
-     * then optimize the contexts if there's less than 1000 beans in the application. If set to {@code false} do not optimize
-     * the contexts.
+     * then optimize the contexts if there's less than 1000 beans in the application; the context for
+     * {@link jakarta.enterprise.context.RequestScoped} is also optimized on its own if there's less than 1000 request scoped
+     * beans. If set to {@code false} do not optimize the contexts.
      * <p>
      * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.ApplicationScoped} could be
      * pregenerated during build.
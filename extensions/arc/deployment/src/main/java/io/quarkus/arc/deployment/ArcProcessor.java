@@ -52,6 +52,8 @@
 import io.quarkus.arc.processor.BeanProcessor;
 import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.BeanResolver;
+import io.quarkus.arc.processor.BeanStream;
+import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.BytecodeTransformer;
 import io.quarkus.arc.processor.ContextConfigurator;
 import io.quarkus.arc.processor.ContextRegistrar;
@@ -413,6 +415,17 @@ public boolean test(BeanDeployment deployment) {
                 }
             }
         });
+        if (arcConfig.optimizeContexts == ArcConfig.OptimizeContexts.AUTO) {
+            builder.setOptimizeRequestContext(new Predicate<BeanDeployment>() {
+                @Override
+                public boolean test(BeanDeployment deployment) {
+                    // The generated request context only holds the request scoped beans, so it can be optimized even if
+                    // the application as a whole is too large
+                    return new BeanStream(deployment.getBeans()).withScope(BuiltinScope.REQUEST.getName()).stream()
+                            .count() < 1000;
+                }
+            });
+        }
 
         BeanProcessor beanProcessor = builder.build();
         ContextRegistrar.RegistrationContext context = beanProcessor.registerCustomContexts();
@@ -614,7 +627,7 @@ public ArcContainerBuildItem initializeContainer(ArcConfig config, ArcRecorder r
             throws Exception {
         ArcContainer container = recorder.initContainer(shutdown,
                 currentContextFactory.isPresent() ? currentContextFactory.get().getFactory() : null,
-                config.strictCompatibility);
+                config.strictCompatibility, config.resolutionCacheMaxSize.orElse(0));
         return new ArcContainerBuildItem(container);
     }
 
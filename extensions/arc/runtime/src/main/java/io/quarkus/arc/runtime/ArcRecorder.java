@@ -42,10 +42,11 @@ public class ArcRecorder {
     public static volatile Map<String, Function<SyntheticCreationalContext<?>, ?>> syntheticBeanProviders;
 
     public ArcContainer initContainer(ShutdownContext shutdown, RuntimeValue<CurrentContextFactory> currentContextFactory,
-            boolean strictCompatibility) throws Exception {
+            boolean strictCompatibility, int resolutionCacheMaxSize) throws Exception {
         ArcInitConfig.Builder builder = ArcInitConfig.builder();
         builder.setCurrentContextFactory(currentContextFactory != null ? currentContextFactory.getValue() : null);
         builder.setStrictCompatibility(strictCompatibility);
+        builder.setResolutionCacheMaxSize(resolutionCacheMaxSize);
         ArcContainer container = Arc.initialize(builder.build());
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -1,5 +1,7 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,11 +10,15 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +54,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -207,6 +214,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue bulk = binding.value(BULK_PARAM);
+                    if (bulk != null && bulk.asBoolean()) {
+                        throwables.addAll(validateBulkCacheResultTarget(binding, methodInfo));
+                    }
                 }
                 break;
             default:
@@ -216,6 +227,37 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBulkCacheResultTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (binding.value("keyGenerator") != null) {
+            throwables.add(new BulkCacheResultTargetException(methodInfo, "a key generator cannot be used"));
+        }
+        List<AnnotationInstance> cacheKeys = methodInfo.annotations(CACHE_KEY);
+        Type keysType = null;
+        if (cacheKeys.size() == 1) {
+            keysType = methodInfo.parameterType(cacheKeys.get(0).target().asMethodParameter().position());
+        } else if (cacheKeys.isEmpty() && methodInfo.parametersCount() == 1) {
+            keysType = methodInfo.parameterType(0);
+        }
+        if (keysType == null) {
+            throwables.add(new BulkCacheResultTargetException(methodInfo,
+                    "the keys must be the only parameter or the only parameter annotated with @CacheKey"));
+        } else if (!BULK_KEYS_TYPES.contains(keysType.name())) {
+            throwables.add(new BulkCacheResultTargetException(methodInfo,
+                    "the keys parameter must be a List, a Set or a Collection"));
+        }
+        Type returnType = methodInfo.returnType();
+        if ((UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!LIST.equals(returnType.name()) && !MAP.equals(returnType.name())) {
+            throwables.add(new BulkCacheResultTargetException(methodInfo,
+                    "the method must return a List or a Map, possibly wrapped into a Uni or a CompletionStage"));
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
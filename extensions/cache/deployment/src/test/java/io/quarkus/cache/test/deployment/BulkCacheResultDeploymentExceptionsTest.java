@@ -0,0 +1,72 @@
+package io.quarkus.cache.test.deployment;
+
+import static java.util.Arrays.stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the validation of the methods annotated with {@link CacheResult @CacheResult(bulk = true)}.
+ */
+public class BulkCacheResultDeploymentExceptionsTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(TestBean.class))
+            .assertException(t -> {
+                assertEquals(DeploymentException.class, t.getClass());
+                assertEquals(3, t.getSuppressed().length);
+                assertBulkCacheResultTargetException(t, "keysAreNotACollection");
+                assertBulkCacheResultTargetException(t, "severalParameters");
+                assertBulkCacheResultTargetException(t, "valuesAreNotAListOrAMap");
+            });
+
+    private static void assertBulkCacheResultTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, stream(t.getSuppressed()).filter(BulkCacheResultTargetException.class::isInstance)
+                .map(BulkCacheResultTargetException.class::cast)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @ApplicationScoped
+    static class TestBean {
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public List<String> keysAreNotACollection(String[] keys) {
+            return null;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public List<String> severalParameters(List<String> keys, String currency) {
+            return null;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public String valuesAreNotAListOrAMap(List<String> keys) {
+            return null;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<String, String> valid(List<String> keys) {
+            return null;
+        }
+    }
+}
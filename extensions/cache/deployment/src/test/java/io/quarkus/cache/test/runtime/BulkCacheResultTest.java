@@ -0,0 +1,111 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheResult @CacheResult(bulk = true)} methods.
+ */
+public class BulkCacheResultTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testList() {
+        // STEP 1
+        // Action: bulk @CacheResult-annotated method call with an empty cache.
+        // Expected effect: method invoked once with all the keys, one result cached per key.
+        // Verified by: STEP 2.
+        assertEquals(List.of("a1", "b1"), cachedService.list(List.of("a1", "b1"), "#"));
+        assertEquals(List.of(List.of("a1", "b1")), cachedService.listInvocations);
+
+        // STEP 2
+        // Action: same call with some additional keys, in a different order and with a duplicate.
+        // Expected effect: method invoked once with the missing keys only, results merged in the order of the keys.
+        // Verified by: invocations list and returned values.
+        assertEquals(List.of("c1", "a1", "d1", "c1", "b1"), cachedService.list(List.of("c1", "a1", "d1", "c1", "b1"), "#"));
+        assertEquals(2, cachedService.listInvocations.size());
+        assertEquals(Set.of("c1", "d1"), Set.copyOf(cachedService.listInvocations.get(1)));
+
+        // STEP 3
+        // Action: same call with cached keys only.
+        // Expected effect: method not invoked.
+        // Verified by: invocations list.
+        assertEquals(List.of("d1", "b1"), cachedService.list(List.of("d1", "b1"), "#"));
+        assertEquals(2, cachedService.listInvocations.size());
+    }
+
+    @Test
+    public void testMap() {
+        assertEquals(Map.of("a2", "A2"), cachedService.map(Set.of("a2", "unknown")));
+        assertEquals(1, cachedService.mapInvocations.size());
+
+        // the keys without value are not cached
+        assertEquals(Map.of("a2", "A2", "b2", "B2"), cachedService.map(Set.of("a2", "b2", "unknown")));
+        assertEquals(2, cachedService.mapInvocations.size());
+        assertEquals(Set.of("b2", "unknown"), Set.copyOf(cachedService.mapInvocations.get(1)));
+    }
+
+    @Test
+    public void testUni() {
+        assertEquals(List.of("a3", "b3"), cachedService.uni(List.of("a3", "b3")).await().indefinitely());
+        assertEquals(List.of("b3", "c3"), cachedService.uni(List.of("b3", "c3")).await().indefinitely());
+        assertEquals(List.of(List.of("a3", "b3"), List.of("c3")), cachedService.uniInvocations);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<List<String>> listInvocations = new ArrayList<>();
+        final List<List<String>> mapInvocations = new ArrayList<>();
+        final List<List<String>> uniInvocations = new ArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public List<String> list(@CacheKey List<String> keys, String ignored) {
+            listInvocations.add(List.copyOf(keys));
+            return List.copyOf(keys);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<String, String> map(Set<String> keys) {
+            mapInvocations.add(new ArrayList<>(keys));
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String key : keys) {
+                if (!key.equals("unknown")) {
+                    result.put(key, key.toUpperCase());
+                }
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Uni<List<String>> uni(List<String> keys) {
+            return Uni.createFrom().item(() -> {
+                uniInvocations.add(List.copyOf(keys));
+                return List.copyOf(keys);
+            });
+        }
+    }
+}
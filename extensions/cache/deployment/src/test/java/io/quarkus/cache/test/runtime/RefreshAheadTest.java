@@ -0,0 +1,192 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the refresh-ahead and stale-while-revalidate configuration of the Caffeine caches.
+ */
+public class RefreshAheadTest {
+
+    private static final String REFRESH_AHEAD_CACHE = "refresh-ahead-cache";
+    private static final String STALE_CACHE = "stale-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, RequestData.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_AHEAD_CACHE + "\".expire-after-write", "2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_AHEAD_CACHE + "\".refresh-ahead-factor", "0.25")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".expire-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate", "1H");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    void testRefreshAhead() throws InterruptedException {
+        assertEquals("sync-1", cachedService.refreshAhead("sync"));
+        assertEquals("sync-1", cachedService.refreshAhead("sync"));
+        assertEquals(1, cachedService.getInvocations("sync"));
+
+        // past 25% of the expire-after-write duration, the current value is returned and the entry is refreshed
+        Thread.sleep(700);
+        assertEquals("sync-1", cachedService.refreshAhead("sync"));
+        assertEventually("sync-2", () -> cachedService.refreshAhead("sync"));
+        assertEquals(2, cachedService.getInvocations("sync"));
+    }
+
+    @Test
+    void testRefreshAheadUni() throws InterruptedException {
+        assertEquals("uni-1", cachedService.refreshAheadUni("uni").await().indefinitely());
+        assertEquals(1, cachedService.getInvocations("uni"));
+
+        Thread.sleep(700);
+        assertEquals("uni-1", cachedService.refreshAheadUni("uni").await().indefinitely());
+        assertEventually("uni-2", () -> cachedService.refreshAheadUni("uni").await().indefinitely());
+        assertEquals(2, cachedService.getInvocations("uni"));
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws InterruptedException {
+        assertEquals("stale-1", cachedService.staleWhileRevalidate("stale"));
+        assertEquals(1, cachedService.getInvocations("stale"));
+
+        // the entry is expired, but it is still returned while it is recomputed
+        Thread.sleep(1200);
+        assertEquals("stale-1", cachedService.staleWhileRevalidate("stale"));
+        assertEventually("stale-2", () -> cachedService.staleWhileRevalidate("stale"));
+        assertEquals(2, cachedService.getInvocations("stale"));
+    }
+
+    @Test
+    void testStaleWhileRevalidateBulk() throws InterruptedException {
+        Set<String> keys = Set.of("bulk-a", "bulk-b");
+        assertEquals(Map.of("bulk-a", "bulk-a-1", "bulk-b", "bulk-b-1"), cachedService.staleWhileRevalidateBulk(keys));
+        assertEquals(1, cachedService.getBulkInvocations());
+
+        // the expired entries returned by a bulk lookup are refreshed with a single invocation of the method
+        Thread.sleep(1200);
+        assertEquals(Map.of("bulk-a", "bulk-a-1", "bulk-b", "bulk-b-1"), cachedService.staleWhileRevalidateBulk(keys));
+        assertEventually("bulk-a-2", () -> cachedService.staleWhileRevalidateBulk(keys).get("bulk-a"));
+        assertEquals("bulk-b-2", cachedService.staleWhileRevalidateBulk(keys).get("bulk-b"));
+        assertEquals(2, cachedService.getBulkInvocations());
+    }
+
+    @Test
+    void testRefreshInNewRequestContext() throws InterruptedException {
+        String value = cachedService.refreshAheadWithRequestData("request");
+        assertTrue(value.startsWith("request-1@"));
+        int destroyed = RequestData.DESTROYED.get();
+
+        // the refresh runs in a new request context, which is terminated once the value is computed
+        Thread.sleep(700);
+        assertEquals(value, cachedService.refreshAheadWithRequestData("request"));
+        String refreshed = value;
+        for (int i = 0; i < 20 && refreshed.equals(value); i++) {
+            Thread.sleep(25);
+            refreshed = cachedService.refreshAheadWithRequestData("request");
+        }
+        assertTrue(refreshed.startsWith("request-2@"));
+        assertNotEquals(value.substring(value.indexOf('@')), refreshed.substring(refreshed.indexOf('@')));
+        assertTrue(RequestData.DESTROYED.get() > destroyed);
+    }
+
+    private static void assertEventually(String expected, Supplier<String> actual) throws InterruptedException {
+        String value = actual.get();
+        for (int i = 0; i < 20 && !expected.equals(value); i++) {
+            Thread.sleep(25);
+            value = actual.get();
+        }
+        assertEquals(expected, value);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+        private final AtomicInteger bulkInvocations = new AtomicInteger();
+
+        @Inject
+        RequestData requestData;
+
+        @CacheResult(cacheName = REFRESH_AHEAD_CACHE)
+        public String refreshAhead(String key) {
+            return compute(key);
+        }
+
+        @CacheResult(cacheName = REFRESH_AHEAD_CACHE)
+        public Uni<String> refreshAheadUni(String key) {
+            return Uni.createFrom().item(() -> compute(key));
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public String staleWhileRevalidate(String key) {
+            return compute(key);
+        }
+
+        @CacheResult(cacheName = STALE_CACHE, bulk = true)
+        public Map<String, String> staleWhileRevalidateBulk(Set<String> keys) {
+            bulkInvocations.incrementAndGet();
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String key : keys) {
+                result.put(key, compute(key));
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = REFRESH_AHEAD_CACHE)
+        public String refreshAheadWithRequestData(String key) {
+            return compute(key) + "@" + requestData.getId();
+        }
+
+        private String compute(String key) {
+            return key + "-" + invocations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        public int getInvocations(String key) {
+            return invocations.get(key).get();
+        }
+
+        public int getBulkInvocations() {
+            return bulkInvocations.get();
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+        private static final AtomicInteger IDS = new AtomicInteger();
+
+        private final int id = IDS.incrementAndGet();
+
+        public int getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+}
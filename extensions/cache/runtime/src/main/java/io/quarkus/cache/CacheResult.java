@@ -68,4 +68,20 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * Whether each element of the cache key is cached separately. In that mode, the method must have exactly one cache key
+     * parameter, which must be a {@link java.util.List}, a {@link java.util.Set} or a {@link java.util.Collection}, and it
+     * must return a {@link java.util.List} holding one value per element of that parameter, in the same order, or a
+     * {@link java.util.Map} holding the values by element. The return type can also be wrapped into a
+     * {@link io.smallrye.mutiny.Uni} or a {@link java.util.concurrent.CompletionStage}.
+     * <p>
+     * When the method is invoked, all the elements are looked up in the cache at once and the method is only invoked for the
+     * missing ones, with a collection containing these elements only. The computed values are cached one by one and merged
+     * with the cached ones into the returned value. The {@code null} values are never cached in that mode.
+     * <p>
+     * This mode cannot be combined with a {@code keyGenerator}, and the {@code lockTimeout} is ignored.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
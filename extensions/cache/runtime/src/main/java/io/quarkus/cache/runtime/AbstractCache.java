@@ -1,7 +1,30 @@
 package io.quarkus.cache.runtime;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 
 public abstract class AbstractCache implements Cache {
 
@@ -17,6 +40,133 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Returns the values associated with the given keys. The values that are not in the cache are computed with a single
+     * invocation of {@code valuesLoader}, which receives the missing keys and returns the computed values by key. The
+     * keys that are missing from the loaded map, or that are associated with {@code null}, are neither cached nor returned.
+     * <p>
+     * This default implementation looks up and computes each key separately, the caches able to look up several keys at
+     * once should override it.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the values of the keys that are not in the cache
+     * @return a lazy asynchronous action that will emit the values by key
+     */
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        List<Uni<V>> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return valuesLoader.apply(Collections.singleton(k)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                Iterator<V> iterator = list.iterator();
+                for (K key : keys) {
+                    V value = iterator.next();
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Prepares the computation of a value refreshed in the background, once the caller that triggered the refresh got the
+     * current value. The computation runs on a new duplicated Vert.x context, and in a new request context terminated
+     * once the value is computed. The request context, the security identity and the Vert.x local data of the caller are
+     * not propagated, as the refreshed value is shared by all the callers.
+     *
+     * @param valueLoader the computation of the new value
+     * @param blocking whether the computation blocks the thread it runs on
+     * @return a lazy asynchronous action that will emit the new value
+     */
+    protected static <V> Uni<V> refreshInNewContext(Supplier<Uni<V>> valueLoader, boolean blocking) {
+        Uni<V> refresh = Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<V> get() {
+                return withNewRequestContext(valueLoader);
+            }
+        });
+        Context context = newDuplicatedContext();
+        if (context == null) {
+            // outside of a Quarkus application
+            return refresh.runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        }
+        return refresh.runSubscriptionOn(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                if (blocking) {
+                    context.executeBlocking(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            command.run();
+                            return null;
+                        }
+                    }, false);
+                } else {
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private static Context newDuplicatedContext() {
+        Context caller = Vertx.currentContext();
+        if (caller != null) {
+            return VertxContext.createNewDuplicatedContext(caller);
+        }
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return null;
+        }
+        InstanceHandle<Vertx> vertx = container.instance(Vertx.class);
+        return vertx.isAvailable() ? VertxContext.createNewDuplicatedContext(vertx.get().getOrCreateContext()) : null;
+    }
+
+    private static <V> Uni<V> withNewRequestContext(Supplier<Uni<V>> valueLoader) {
+        ArcContainer container = Arc.container();
+        if (container == null || container.requestContext().isActive()) {
+            return valueLoader.get();
+        }
+        ManagedContext requestContext = container.requestContext();
+        requestContext.activate();
+        InjectableContext.ContextState state = requestContext.getState();
+        Uni<V> value;
+        try {
+            value = valueLoader.get();
+        } catch (Throwable t) {
+            value = Uni.createFrom().failure(t);
+        }
+        return value.eventually(new Runnable() {
+            @Override
+            public void run() {
+                requestContext.destroy(state);
+                requestContext.deactivate();
+            }
+        });
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
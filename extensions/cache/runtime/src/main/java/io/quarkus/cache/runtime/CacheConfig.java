@@ -5,6 +5,7 @@
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 
@@ -75,6 +76,28 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Fraction of the {@code expire-after-write} duration after which an entry is refreshed ahead of its
+             * expiration, between {@code 0} (exclusive) and {@code 1} (inclusive). When an entry older than that is read
+             * by a {@code @CacheResult} method, the current value is returned and the method is invoked asynchronously
+             * to replace it. For example, with an {@code expire-after-write} of {@code 10M} and a factor of {@code 0.75}, the
+             * entries read after 7.5 minutes are recomputed in the background, and the callers never wait for them as long as
+             * they are read at least once every 2.5 minutes. Only one refresh of a given entry is performed at a time.
+             * <p>
+             * This requires an {@code expire-after-write} value to be configured.
+             */
+            OptionalDouble refreshAheadFactor();
+
+            /**
+             * Duration during which an expired entry is kept and can still be returned to the callers while it is
+             * recomputed asynchronously. An expired entry that is not read during that time is removed. If the
+             * refresh-ahead factor is also set, the entries are refreshed before they expire and the stale entries are only
+             * served if no read happened in the meantime.
+             * <p>
+             * This requires an {@code expire-after-write} value to be configured.
+             */
+            Optional<Duration> staleWhileRevalidate();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
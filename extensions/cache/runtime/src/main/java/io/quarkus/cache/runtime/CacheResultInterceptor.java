@@ -1,6 +1,18 @@
 package io.quarkus.cache.runtime;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -51,6 +63,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.bulk()) {
+            return interceptBulk(invocationContext, interceptionContext, binding, cache);
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -76,49 +91,7 @@ public Uni<Object> apply(Object key) {
                     public Uni<?> apply(Throwable throwable) {
                         return cache.invalidate(key).replaceWith(throwable);
                     }
-                }).emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
-                    @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
-                            }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
-                                    @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
-                                    }
-                                });
-                            }
-                        }
-                    }
-                });
+                }).emitOn(backToContext(context));
 
                 if (binding.lockTimeout() <= 0) {
                     return createAsyncResult(cacheValue, returnType);
@@ -181,4 +154,177 @@ public Object apply(Object k) {
         }
     }
 
+    private Object interceptBulk(InvocationContext invocationContext, CacheInterceptionContext<CacheResult> interceptionContext,
+            CacheResult binding, AbstractCache cache) throws Throwable {
+        Method method = invocationContext.getMethod();
+        Object[] parameters = invocationContext.getParameters();
+        // Validated at build time: the keys are either the only parameter or the only @CacheKey-annotated parameter.
+        int keysPosition = interceptionContext.getCacheKeyParameterPositions().isEmpty() ? 0
+                : interceptionContext.getCacheKeyParameterPositions().get(0);
+        Collection<?> keys = (Collection<?>) parameters[keysPosition];
+        if (keys == null) {
+            return invocationContext.proceed();
+        }
+        Set<Object> uniqueKeys = new LinkedHashSet<>(keys);
+        if (uniqueKeys.contains(null)) {
+            throw new NullPointerException(AbstractCache.NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        LOGGER.debugf("Loading %d entries from cache [%s]", uniqueKeys.size(), binding.cacheName());
+
+        ReturnType returnType = determineReturnType(method.getReturnType());
+        boolean returnsMap = returnsMap(method, returnType);
+        boolean keysInList = method.getParameterTypes()[keysPosition].isAssignableFrom(ArrayList.class);
+        Context context = Vertx.currentContext();
+        Uni<Object> cacheValues = cache.getAll(uniqueKeys, new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+            @Override
+            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                // The method is only invoked for the missing keys.
+                List<Object> missing = new ArrayList<>(missingKeys);
+                Object[] missingParameters = parameters.clone();
+                missingParameters[keysPosition] = keysInList ? missing : new LinkedHashSet<>(missing);
+                LOGGER.debugf("Adding %d entries into cache [%s]", missing.size(), binding.cacheName());
+                try {
+                    invocationContext.setParameters(missingParameters);
+                    Object result = invocationContext.proceed();
+                    if (returnType == ReturnType.NonAsync) {
+                        return Uni.createFrom().item(toValuesByKey(missing, result, returnsMap));
+                    }
+                    return asyncInvocationResultToUni(result, returnType).map(new Function<Object, Map<Object, Object>>() {
+                        @Override
+                        public Map<Object, Object> apply(Object asyncResult) {
+                            return toValuesByKey(missing, asyncResult, returnsMap);
+                        }
+                    });
+                } catch (CacheException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CacheException(e);
+                } finally {
+                    invocationContext.setParameters(parameters);
+                }
+            }
+        }).map(new Function<Map<Object, Object>, Object>() {
+            @Override
+            public Object apply(Map<Object, Object> valuesByKey) {
+                return merge(keys, valuesByKey, returnsMap);
+            }
+        });
+
+        if (returnType != ReturnType.NonAsync) {
+            return createAsyncResult(cacheValues.emitOn(backToContext(context)), returnType);
+        }
+        try {
+            return cacheValues.await().indefinitely();
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the bulk method returns the values by key, {@code false} if it returns a list of values
+     */
+    private static boolean returnsMap(Method method, ReturnType returnType) {
+        if (returnType == ReturnType.NonAsync) {
+            return Map.class.isAssignableFrom(method.getReturnType());
+        }
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type valueType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (valueType instanceof ParameterizedType) {
+                valueType = ((ParameterizedType) valueType).getRawType();
+            }
+            return valueType instanceof Class && Map.class.isAssignableFrom((Class<?>) valueType);
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> toValuesByKey(List<Object> keys, Object result, boolean returnsMap) {
+        if (result == null) {
+            return Collections.emptyMap();
+        }
+        if (returnsMap) {
+            return (Map<Object, Object>) result;
+        }
+        List<?> values = (List<?>) result;
+        if (values.size() != keys.size()) {
+            throw new CacheException(new IllegalStateException("A bulk @CacheResult method must return one value per key: "
+                    + values.size() + " values were returned for " + keys.size() + " keys"));
+        }
+        Map<Object, Object> valuesByKey = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            valuesByKey.put(keys.get(i), values.get(i));
+        }
+        return valuesByKey;
+    }
+
+    private static Object merge(Collection<?> keys, Map<Object, Object> valuesByKey, boolean returnsMap) {
+        if (returnsMap) {
+            Map<Object, Object> result = new LinkedHashMap<>();
+            for (Object key : keys) {
+                Object value = valuesByKey.get(key);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            return result;
+        }
+        List<Object> result = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            result.add(valuesByKey.get(key));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an executor that makes sure we go back to the given context, captured when the method was invoked, once the
+     * cache value is computed. Otherwise, we would always emit on the context having computed the value, which could break
+     * the duplicated context isolation.
+     */
+    private static Executor backToContext(Context context) {
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
+                                    @Override
+                                    public void handle(Void ignored) {
+                                        command.run();
+                                    }
+                                });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
+                            }
+                        });
+                    }
+                }
+            }
+        };
+    }
 }
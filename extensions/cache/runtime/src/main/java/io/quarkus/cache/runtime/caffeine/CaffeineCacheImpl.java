@@ -2,12 +2,21 @@
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -42,8 +51,27 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final StatsCounter statsCounter;
     private final boolean recordStats;
 
+    // the keys whose value is being recomputed in the background, null if the entries are never refreshed
+    private final Set<Object> refreshing;
+    // the age after which an entry is refreshed when it is read, or -1 if the entries are never refreshed
+    private volatile long refreshAfterNanos;
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
+        if (cacheInfo.refreshAheadFactor != null
+                && (cacheInfo.refreshAheadFactor <= 0 || cacheInfo.refreshAheadFactor > 1)) {
+            throw new IllegalArgumentException("The refresh-ahead factor of cache [" + cacheInfo.name
+                    + "] must be greater than 0 and lower than or equal to 1: " + cacheInfo.refreshAheadFactor);
+        }
+        if (cacheInfo.refreshAheadFactor != null || cacheInfo.staleWhileRevalidate != null) {
+            if (cacheInfo.expireAfterWrite == null) {
+                LOGGER.warnf("The refresh-ahead factor and the stale-while-revalidate duration of cache [%s] are ignored "
+                        + "because no expire-after-write duration is configured", cacheInfo.name);
+            }
+            refreshing = ConcurrentHashMap.newKeySet();
+        } else {
+            refreshing = null;
+        }
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
@@ -52,7 +80,7 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
         if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            builder.expireAfterWrite(withStalePeriod(cacheInfo.expireAfterWrite));
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -72,6 +100,29 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        refreshAfterNanos = computeRefreshAfterNanos();
+    }
+
+    /**
+     * @return the duration after which the entries are actually removed, including the period during which they can still
+     *         be returned while they are recomputed
+     */
+    private Duration withStalePeriod(Duration expireAfterWrite) {
+        if (cacheInfo.staleWhileRevalidate != null) {
+            return expireAfterWrite.plus(cacheInfo.staleWhileRevalidate);
+        }
+        return expireAfterWrite;
+    }
+
+    private long computeRefreshAfterNanos() {
+        if (refreshing == null || cacheInfo.expireAfterWrite == null) {
+            return -1;
+        }
+        if (cacheInfo.refreshAheadFactor != null) {
+            return (long) (cacheInfo.expireAfterWrite.toNanos() * cacheInfo.refreshAheadFactor);
+        }
+        // stale-while-revalidate only, the entries are refreshed once expired
+        return cacheInfo.expireAfterWrite.toNanos();
     }
 
     @Override
@@ -105,9 +156,9 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                         StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                        @SuppressWarnings("unchecked")
-                        CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                        CompletableFuture<Object> result = cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
@@ -117,11 +168,69 @@ public CompletableFuture<Object> apply(Object key) {
                                     }
                                 });
                         recorder.doRecord(key);
-                        return result;
+                        if (needsRefresh(key, result)) {
+                            refresh(key, result, refreshInNewContext(new Supplier<Uni<V>>() {
+                                @Override
+                                public Uni<V> get() {
+                                    return valueLoader.apply(key);
+                                }
+                            }, false));
+                        }
+                        return cast(result);
                     }
                 }).map(fromCacheValue());
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
+                    @Override
+                    public CompletionStage<Map<Object, Object>> get() {
+                        refreshAllIfNeeded(keys, valuesLoader);
+                        /*
+                         * The missing keys are associated with pending values until the loader completes, so that the
+                         * concurrent lookups of these keys wait for this computation instead of starting another one. The keys
+                         * that are missing from the loaded map are removed.
+                         */
+                        return cache.getAll(keys,
+                                new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                                    @SuppressWarnings("unchecked")
+                                    @Override
+                                    public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys,
+                                            Executor executor) {
+                                        LOGGER.tracef("Loading %d missing keys in cache [%s]", missingKeys.size(),
+                                                cacheInfo.name);
+                                        return valuesLoader.apply((Set<K>) missingKeys)
+                                                .map(TO_CACHE_VALUES)
+                                                .subscribeAsCompletionStage();
+                                    }
+                                });
+                    }
+                }).map(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> cacheValues) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<Object, Object> entry : cacheValues.entrySet()) {
+                            if (entry.getValue() instanceof CaffeineComputationThrowable) {
+                                // a concurrent computation of that key failed
+                                Throwable cause = ((CaffeineComputationThrowable) entry.getValue()).getCause();
+                                if (cause instanceof RuntimeException) {
+                                    throw (RuntimeException) cause;
+                                } else {
+                                    throw new CacheException(cause);
+                                }
+                            }
+                            result.put(cast(entry.getKey()), cast(NullValueConverter.fromCacheValue(entry.getValue())));
+                        }
+                        return result;
+                    }
+                });
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -178,10 +287,145 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (needsRefresh(key, existingCacheValue)) {
+                // the value loader is blocking, it must not delay the caller nor run on an event loop
+                refresh(key, existingCacheValue, refreshInNewContext(new Supplier<Uni<V>>() {
+                    @Override
+                    public Uni<V> get() {
+                        return Uni.createFrom().item(new Supplier<V>() {
+                            @Override
+                            public V get() {
+                                return valueLoader.apply(key);
+                            }
+                        });
+                    }
+                }, true));
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * @return {@code true} if the given value was computed, is not being refreshed and is old enough to be refreshed,
+     *         either ahead of its expiration or because it is already expired and only kept to be returned while it is
+     *         recomputed
+     */
+    private boolean needsRefresh(Object key, CompletableFuture<Object> cacheValue) {
+        long refreshAfter = refreshAfterNanos;
+        if (refreshAfter < 0 || refreshing.contains(key) || !cacheValue.isDone() || cacheValue.isCompletedExceptionally()
+                || cacheValue.join() instanceof CaffeineComputationThrowable) {
+            return false;
+        }
+        Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
+        if (fixedExpiration.isEmpty()) {
+            return false;
+        }
+        OptionalLong age = fixedExpiration.get().ageOf(key, TimeUnit.NANOSECONDS);
+        return age.isPresent() && age.getAsLong() >= refreshAfter;
+    }
+
+    /**
+     * Recomputes the value of an entry in the background, unless it is already being recomputed. The new value only
+     * replaces the given one if the entry was neither invalidated nor replaced in the meantime. If the computation fails,
+     * an entry that is not expired yet is kept until it expires, and an expired entry is removed so that the next caller
+     * computes the value again and gets the failure.
+     */
+    private void refresh(Object key, CompletableFuture<Object> cacheValue, Uni<?> newValue) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheInfo.name);
+        newValue.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object value) {
+                refreshed(key, cacheValue, NullValueConverter.toCacheValue(value));
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                refreshFailed(key, cacheValue, failure);
+            }
+        });
+    }
+
+    /**
+     * Recomputes in the background, with a single invocation of the loader, the values of the given keys that need to be
+     * refreshed, as {@link #refresh} does for a single key. The entries of the keys missing from the loaded values are
+     * removed, as they would not be cached by a bulk lookup.
+     */
+    private <K, V> void refreshAllIfNeeded(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (refreshAfterNanos < 0) {
+            return;
+        }
+        Map<K, CompletableFuture<Object>> staleValues = new HashMap<>();
+        for (K key : keys) {
+            CompletableFuture<Object> cacheValue = cache.asMap().get(key);
+            if (cacheValue != null && needsRefresh(key, cacheValue) && refreshing.add(key)) {
+                staleValues.put(key, cacheValue);
+            }
+        }
+        if (staleValues.isEmpty()) {
+            return;
+        }
+        LOGGER.tracef("Refreshing %d keys in cache [%s]", staleValues.size(), cacheInfo.name);
+        // the loader of a bulk lookup may block
+        refreshInNewContext(new Supplier<Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> get() {
+                return valuesLoader.apply(staleValues.keySet());
+            }
+        }, true).map(TO_CACHE_VALUES).subscribe().with(new Consumer<Map<Object, Object>>() {
+            @Override
+            public void accept(Map<Object, Object> values) {
+                for (Map.Entry<K, CompletableFuture<Object>> staleValue : staleValues.entrySet()) {
+                    Object value = values.get(staleValue.getKey());
+                    if (value != null) {
+                        refreshed(staleValue.getKey(), staleValue.getValue(), value);
+                    } else {
+                        cache.asMap().remove(staleValue.getKey(), staleValue.getValue());
+                        refreshing.remove(staleValue.getKey());
+                    }
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                for (Map.Entry<K, CompletableFuture<Object>> staleValue : staleValues.entrySet()) {
+                    refreshFailed(staleValue.getKey(), staleValue.getValue(), failure);
+                }
+            }
+        });
+    }
+
+    private void refreshed(Object key, CompletableFuture<Object> cacheValue, Object newCacheValue) {
+        cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(newCacheValue));
+        refreshing.remove(key);
+    }
+
+    private void refreshFailed(Object key, CompletableFuture<Object> cacheValue, Throwable failure) {
+        refreshing.remove(key);
+        if (isExpired(key)) {
+            cache.asMap().remove(key, cacheValue);
+            LOGGER.warnf(failure, "Unable to refresh key [%s] in cache [%s], the expired value is removed", key,
+                    cacheInfo.name);
+        } else {
+            LOGGER.warnf(failure, "Unable to refresh key [%s] in cache [%s], the current value is kept until it "
+                    + "expires", key, cacheInfo.name);
+        }
+    }
+
+    /**
+     * @return {@code true} if the entry is only kept to be returned while it is recomputed
+     */
+    private boolean isExpired(Object key) {
+        Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
+        if (fixedExpiration.isEmpty() || cacheInfo.expireAfterWrite == null) {
+            return false;
+        }
+        OptionalLong age = fixedExpiration.get().ageOf(key, TimeUnit.NANOSECONDS);
+        return age.isPresent() && age.getAsLong() >= cacheInfo.expireAfterWrite.toNanos();
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -250,8 +494,9 @@ public <V> void put(Object key, CompletableFuture<V> valueFuture) {
     public void setExpireAfterWrite(Duration duration) {
         Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
         if (fixedExpiration.isPresent()) {
-            fixedExpiration.get().setExpiresAfter(duration);
+            fixedExpiration.get().setExpiresAfter(withStalePeriod(duration));
             cacheInfo.expireAfterWrite = duration;
+            refreshAfterNanos = computeRefreshAfterNanos();
         } else {
             throw new IllegalStateException("The write-based expiration policy can only be changed if the cache was " +
                     "constructed with an expire-after-write configuration value");
@@ -367,4 +612,21 @@ public Object apply(Object value) {
         }
     };
 
+    private static final Function<Map<?, ?>, Map<Object, Object>> TO_CACHE_VALUES = new Function<>() {
+
+        @Override
+        public Map<Object, Object> apply(Map<?, ?> values) {
+            Map<Object, Object> cacheValues = new HashMap<>();
+            if (values != null) {
+                for (Map.Entry<?, ?> entry : values.entrySet()) {
+                    // the null values are not cached in bulk
+                    if (entry.getValue() != null) {
+                        cacheValues.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            return cacheValues;
+        }
+    };
+
 }
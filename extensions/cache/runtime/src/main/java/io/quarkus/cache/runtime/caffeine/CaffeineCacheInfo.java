@@ -15,6 +15,10 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Double refreshAheadFactor;
+
+    public Duration staleWhileRevalidate;
+
     public boolean metricsEnabled;
 
     @Override
@@ -48,6 +48,18 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAheadFactor().isPresent()) {
+                    cacheInfo.refreshAheadFactor = namedCacheConfig.refreshAheadFactor().getAsDouble();
+                } else if (defaultConfig.refreshAheadFactor().isPresent()) {
+                    cacheInfo.refreshAheadFactor = defaultConfig.refreshAheadFactor().getAsDouble();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = namedCacheConfig.staleWhileRevalidate().get();
+                } else if (defaultConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = defaultConfig.staleWhileRevalidate().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
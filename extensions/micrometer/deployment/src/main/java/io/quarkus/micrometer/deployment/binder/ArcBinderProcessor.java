@@ -0,0 +1,31 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import java.util.function.BooleanSupplier;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.ArcConfig;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.micrometer.runtime.binder.arc.ArcResolutionCacheMetricsProvider;
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+
+/**
+ * Add support for the metrics of the ArC programmatic lookup caches, which are only recorded if the caches are bounded.
+ */
+public class ArcBinderProcessor {
+
+    static class ArcResolutionCacheSupportEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return mConfig.checkBinderEnabledWithDefault(() -> mConfig.binder.arc);
+        }
+    }
+
+    @BuildStep(onlyIf = ArcResolutionCacheSupportEnabled.class)
+    void createArcResolutionCacheMetrics(ArcConfig arcConfig, BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (arcConfig.resolutionCacheMaxSize.isPresent() && arcConfig.resolutionCacheMaxSize.getAsInt() > 0) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(ArcResolutionCacheMetricsProvider.class));
+        }
+    }
+}
@@ -35,6 +35,9 @@ public class HttpBinderProcessor {
     static final String RESTEASY_REACTIVE_CONTAINER_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderRestEasyReactiveContainerFilter";
     static final String UNDERTOW_SERVLET_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderUndertowServletFilter";
 
+    // Access log
+    static final String ACCESS_LOG_METRICS_PROVIDER = "io.quarkus.micrometer.runtime.binder.vertx.AccessLogMetricsProvider";
+
     private static final String REST_CLIENT_REQUEST_FILTER = "jakarta.ws.rs.client.ClientRequestFilter";
     private static final String REST_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.RestClientMetricsFilter";
 
@@ -89,6 +92,9 @@ void enableHttpServerSupport(Capabilities capabilities,
             BuildProducer<io.quarkus.undertow.deployment.FilterBuildItem> servletFilters,
             BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
 
+        // The dropped entries of the access log ring buffers
+        createAdditionalBean(additionalBeans, ACCESS_LOG_METRICS_PROVIDER);
+
         // But this might be present as well (fallback. Rest URI processing preferred)
         if (capabilities.isPresent(Capability.SERVLET)) {
             servletFilters.produce(
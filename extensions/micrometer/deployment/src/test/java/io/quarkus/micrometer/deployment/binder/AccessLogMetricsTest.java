@@ -0,0 +1,93 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.mutiny.ext.web.Router;
+
+public class AccessLogMetricsTest {
+
+    private static final int CONCURRENCY = 16;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.http-server.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.binder.vertx.enabled", "true")
+            .overrideConfigKey("quarkus.http.access-log.enabled", "true")
+            .overrideConfigKey("quarkus.http.access-log.ring-buffer", "true")
+            // a single ring buffer, with room for a single entry
+            .overrideConfigKey("quarkus.http.access-log.ring-buffer-size", "1")
+            .overrideConfigKey("quarkus.http.io-threads", "1")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withApplicationRoot((jar) -> jar.addClasses(App.class));
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void testDroppedEntriesCounter() throws InterruptedException {
+        Assertions.assertEquals(0, registry.get("http.server.access.log.dropped").functionCounter().count());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                executor.submit(() -> {
+                    try {
+                        RestAssured.get("/parked").then().statusCode(200);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+
+        // the requests completed at once overflow the ring buffer before the writer drains it
+        await().untilAsserted(() -> Assertions.assertTrue(
+                registry.get("http.server.access.log.dropped").functionCounter().count() > 0));
+    }
+
+    @ApplicationScoped
+    public static class App {
+
+        // only accessed from the single event loop
+        private final List<RoutingContext> parked = new ArrayList<>();
+
+        public void start(@Observes StartupEvent ev, Router router) {
+            router.get("/parked").handler(rc -> {
+                parked.add(rc.getDelegate());
+                if (parked.size() == CONCURRENCY) {
+                    // the access log entries of all the requests are captured by the same task of the event loop
+                    for (RoutingContext context : parked) {
+                        context.end("ok");
+                    }
+                    parked.clear();
+                }
+            });
+        }
+    }
+}
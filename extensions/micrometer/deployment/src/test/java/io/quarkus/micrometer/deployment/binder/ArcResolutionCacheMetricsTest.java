@@ -0,0 +1,53 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ArcResolutionCacheMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(Service.class))
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.arc", "true")
+            .overrideConfigKey("quarkus.arc.resolution-cache-max-size", "10")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false");
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void testResolutionCacheMetrics() {
+        double misses = registry.get("arc.resolution.cache.gets").tag("cache", "resolved").tag("result", "miss")
+                .functionCounter().count();
+        double hits = registry.get("arc.resolution.cache.gets").tag("cache", "resolved").tag("result", "hit")
+                .functionCounter().count();
+
+        Assertions.assertEquals("ok", Arc.container().instance(Service.class).get().ping());
+        Assertions.assertEquals("ok", Arc.container().instance(Service.class).get().ping());
+
+        Assertions.assertTrue(registry.get("arc.resolution.cache.gets").tag("cache", "resolved").tag("result", "miss")
+                .functionCounter().count() >= misses + 1);
+        Assertions.assertTrue(registry.get("arc.resolution.cache.gets").tag("cache", "resolved").tag("result", "hit")
+                .functionCounter().count() >= hits + 1);
+        Assertions.assertTrue(registry.get("arc.resolution.cache.size").tag("cache", "resolved").gauge().value() <= 10);
+        Assertions.assertNotNull(registry.get("arc.resolution.cache.evictions").tag("cache", "beansById").functionCounter());
+    }
+
+    @ApplicationScoped
+    public static class Service {
+
+        public String ping() {
+            return "ok";
+        }
+    }
+}
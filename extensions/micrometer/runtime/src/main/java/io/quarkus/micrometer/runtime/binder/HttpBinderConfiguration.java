@@ -169,6 +169,10 @@ public String getHttpServerPushName() {
         return "http.server.push";
     }
 
+    public String getHttpServerCompressionName() {
+        return "http.server.compression";
+    }
+
     public String getHttpServerWebSocketConnectionsName() {
         return "http.server.websocket.connections";
     }
@@ -181,6 +185,10 @@ public String getHttpClientRequestsName() {
         return "http.client.requests";
     }
 
+    public String getHttpClientCacheName() {
+        return "http.client.cache";
+    }
+
     public HttpBinderConfiguration unwrap() {
         HttpBinderConfiguration result = new HttpBinderConfiguration();
         // not dev-mode changeable
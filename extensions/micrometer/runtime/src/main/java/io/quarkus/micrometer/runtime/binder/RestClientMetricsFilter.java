@@ -7,6 +7,7 @@
 import jakarta.ws.rs.client.ClientResponseFilter;
 import jakarta.ws.rs.ext.Provider;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
@@ -23,6 +24,8 @@
 public class RestClientMetricsFilter implements ClientRequestFilter, ClientResponseFilter {
 
     private final static String REQUEST_METRIC_PROPERTY = "restClientMetrics";
+    // set by the HTTP cache of the REST Client Reactive
+    private final static String CACHE_OUTCOME_PROPERTY = "org.jboss.resteasy.reactive.client.cache.outcome";
     private final MeterRegistry registry = Metrics.globalRegistry;
 
     private final HttpBinderConfiguration httpMetricsConfig;
@@ -80,6 +83,15 @@ public void filter(final ClientRequestContext requestContext, final ClientRespon
                 sample.stop(builder.register(registry));
             }
         }
+
+        String cacheOutcome = (String) requestContext.getProperty(CACHE_OUTCOME_PROPERTY);
+        if (cacheOutcome != null) {
+            Counter.builder(httpMetricsConfig.getHttpClientCacheName())
+                    .description("Number of requests handled by the HTTP cache of the client")
+                    .tags(Tags.of(clientName(requestContext), Tag.of("result", cacheOutcome)))
+                    .register(registry)
+                    .increment();
+        }
     }
 
     private RequestMetricInfo getRequestMetric(ClientRequestContext requestContext) {
@@ -0,0 +1,62 @@
+package io.quarkus.micrometer.runtime.binder.arc;
+
+import java.util.function.ToDoubleFunction;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ComputingCache;
+
+/**
+ * Metrics of the bounded caches the ArC container uses for programmatic lookup.
+ */
+@Singleton
+public class ArcResolutionCacheMetricsProvider {
+
+    static final String PREFIX = "arc.resolution.cache";
+
+    @Produces
+    @Singleton
+    public MeterBinder arcResolutionCacheMetrics() {
+        return new MeterBinder() {
+            @Override
+            public void bindTo(MeterRegistry registry) {
+                ArcContainerImpl container = ArcContainerImpl.instance();
+                for (String cache : container.getResolutionCacheStats().keySet()) {
+                    FunctionCounter.builder(PREFIX + ".gets", container, stats(cache, ComputingCache.Stats::getHitCount))
+                            .tags("cache", cache, "result", "hit")
+                            .description("The number of lookups that found an existing entry")
+                            .register(registry);
+                    FunctionCounter.builder(PREFIX + ".gets", container, stats(cache, ComputingCache.Stats::getMissCount))
+                            .tags("cache", cache, "result", "miss")
+                            .description("The number of lookups that created a new entry")
+                            .register(registry);
+                    FunctionCounter.builder(PREFIX + ".evictions", container,
+                            stats(cache, ComputingCache.Stats::getEvictionCount))
+                            .tags("cache", cache)
+                            .description("The number of entries evicted")
+                            .register(registry);
+                    Gauge.builder(PREFIX + ".size", container, stats(cache, ComputingCache.Stats::getSize))
+                            .tags("cache", cache)
+                            .description("The number of entries")
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    private static ToDoubleFunction<ArcContainerImpl> stats(String cache, ToDoubleFunction<ComputingCache.Stats> value) {
+        return new ToDoubleFunction<ArcContainerImpl>() {
+            @Override
+            public double applyAsDouble(ArcContainerImpl container) {
+                return value.applyAsDouble(container.getResolutionCacheStats().get(cache));
+            }
+        };
+    }
+
+}
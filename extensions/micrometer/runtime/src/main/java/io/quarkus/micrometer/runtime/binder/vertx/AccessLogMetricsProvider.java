@@ -0,0 +1,47 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.function.ToDoubleFunction;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+
+/**
+ * Metrics of the access log, when its entries are captured in ring buffers.
+ */
+@Singleton
+public class AccessLogMetricsProvider {
+
+    static final String DROPPED_ENTRIES = "http.server.access.log.dropped";
+
+    @Produces
+    @Singleton
+    public MeterBinder accessLogMetrics() {
+        return new MeterBinder() {
+            @Override
+            public void bindTo(MeterRegistry registry) {
+                Config config = ConfigProvider.getConfig();
+                if (!config.getOptionalValue("quarkus.http.access-log.enabled", Boolean.class).orElse(false)
+                        || !config.getOptionalValue("quarkus.http.access-log.ring-buffer", Boolean.class).orElse(false)) {
+                    return;
+                }
+                // the handler is replaced when the router is recreated, so the count is read through the recorder
+                FunctionCounter.builder(DROPPED_ENTRIES, VertxHttpRecorder.class, new ToDoubleFunction<Class<?>>() {
+                    @Override
+                    public double applyAsDouble(Class<?> recorder) {
+                        return VertxHttpRecorder.getDroppedAccessLogEntries();
+                    }
+                })
+                        .description("The number of access log entries dropped because a ring buffer was full")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -7,9 +7,11 @@
 
 import org.jboss.logging.Logger;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.http.Outcome;
@@ -18,6 +20,7 @@
 import io.quarkus.micrometer.runtime.HttpServerMetricsTagsContributor;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.quarkus.vertx.http.runtime.HttpCompressionPolicy;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.ServerWebSocket;
@@ -42,6 +45,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final String nameWebsocketConnections;
     final String nameHttpServerPush;
     final String nameHttpServerRequests;
+    final String nameHttpServerCompression;
     final LongAdder activeRequests;
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
@@ -54,6 +58,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         nameWebsocketConnections = config.getHttpServerWebSocketConnectionsName();
         nameHttpServerPush = config.getHttpServerPushName();
         nameHttpServerRequests = config.getHttpServerRequestsName();
+        nameHttpServerCompression = config.getHttpServerCompressionName();
 
         activeRequests = new LongAdder();
         Gauge.builder(config.getHttpServerActiveRequestsName(), activeRequests, LongAdder::doubleValue)
@@ -197,6 +202,18 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
             Timer.Builder builder = Timer.builder(nameHttpServerRequests).tags(allTags);
 
             sample.stop(builder.register(registry));
+
+            String compression = requestMetric.request().context().getLocal(HttpCompressionPolicy.OUTCOME);
+            if (compression != null) {
+                // the size of the bodies before compression, per outcome of the compression policy
+                DistributionSummary.builder(nameHttpServerCompression)
+                        .baseUnit("bytes")
+                        .tags(Tags.of(
+                                HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode()),
+                                Tag.of("outcome", compression)))
+                        .register(registry)
+                        .record(bytesWritten);
+            }
         }
         requestMetric.requestEnded();
     }
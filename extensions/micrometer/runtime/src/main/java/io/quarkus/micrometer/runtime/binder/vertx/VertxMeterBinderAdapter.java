@@ -35,6 +35,8 @@ public class VertxMeterBinderAdapter extends MetricsOptions
         implements VertxMetricsFactory, VertxMetrics, ExtendedQuarkusVertxHttpMetrics {
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
     public static final String METRIC_NAME_SEPARATOR = "|";
+    // the type of the metrics name of the HTTP clients created by the REST clients
+    static final String REST_CLIENT_METRICS_TYPE = "rest-client" + METRIC_NAME_SEPARATOR;
 
     private HttpBinderConfiguration httpBinderConfiguration;
 
@@ -89,7 +91,11 @@ public MetricsOptions newOptions() {
 
             // If the name is set, check if it follows the type/client-name syntax
             String clientName = extractClientName(options.getMetricsName());
-            if (clientName != null) {
+            if (clientName != null && options.getMetricsName().startsWith(REST_CLIENT_METRICS_TYPE)) {
+                // the requests are already measured by the REST client, only report the connection pools
+                return new VertxRestClientPoolMetrics(Metrics.globalRegistry, "http.client",
+                        Tags.of(Tag.of("clientName", clientName)));
+            } else if (clientName != null) {
                 return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client",
                         Tags.of(Tag.of("clientName", clientName)),
                         httpBinderConfiguration);
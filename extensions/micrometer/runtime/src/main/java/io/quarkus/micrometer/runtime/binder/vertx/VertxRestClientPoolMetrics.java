@@ -0,0 +1,131 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+/**
+ * Metrics of the connection pools of the HTTP clients of the REST clients, per remote address.
+ * <p>
+ * The request metrics are not reported, as they are already reported by the REST client itself.
+ */
+class VertxRestClientPoolMetrics extends VertxTcpClientMetrics
+        implements HttpClientMetrics<VertxRestClientPoolMetrics.ActiveRequest, Void, LongTaskTimer.Sample, EventTiming> {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    VertxRestClientPoolMetrics(MeterRegistry registry, String prefix, Tags tags) {
+        super(registry, prefix, tags);
+    }
+
+    @Override
+    public ClientMetrics<ActiveRequest, EventTiming, HttpRequest, HttpResponse> createEndpointMetrics(
+            SocketAddress remoteAddress, int maxPoolSize) {
+        // the endpoints are recreated by Vert.x when they have been idle, the meters must be reused
+        return endpoints.computeIfAbsent(NetworkMetrics.toString(remoteAddress), new Function<>() {
+            @Override
+            public Endpoint apply(String remote) {
+                return new Endpoint(tags.and(Tag.of("address", remote)));
+            }
+        });
+    }
+
+    class Endpoint implements ClientMetrics<ActiveRequest, EventTiming, HttpRequest, HttpResponse> {
+
+        private final LongAdder queue = new LongAdder();
+        private final LongAdder active = new LongAdder();
+        private final Timer queueDelay;
+
+        Endpoint(Tags endpointTags) {
+            queueDelay = Timer.builder("http.client.pool.queue.delay")
+                    .description("Time spent by the requests waiting for a connection")
+                    .tags(endpointTags)
+                    .register(registry);
+
+            Gauge.builder("http.client.pool.queue.size", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return queue.doubleValue();
+                }
+            })
+                    .description("Number of requests waiting for a connection")
+                    .tags(endpointTags)
+                    .strongReference(true)
+                    .register(registry);
+
+            Gauge.builder("http.client.pool.active", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return active.doubleValue();
+                }
+            })
+                    .description("Number of requests in progress, which are the active streams for HTTP/2 connections")
+                    .tags(endpointTags)
+                    .strongReference(true)
+                    .register(registry);
+        }
+
+        @Override
+        public EventTiming enqueueRequest() {
+            queue.increment();
+            return new EventTiming(queueDelay);
+        }
+
+        @Override
+        public void dequeueRequest(EventTiming event) {
+            queue.decrement();
+            event.end();
+        }
+
+        @Override
+        public ActiveRequest requestBegin(String uri, HttpRequest request) {
+            active.increment();
+            return new ActiveRequest(active);
+        }
+
+        @Override
+        public void requestReset(ActiveRequest request) {
+            if (request != null) {
+                request.end();
+            }
+        }
+
+        @Override
+        public void responseEnd(ActiveRequest request, long bytesRead) {
+            if (request != null) {
+                request.end();
+            }
+        }
+    }
+
+    static class ActiveRequest {
+        private final LongAdder active;
+        private boolean ended;
+
+        ActiveRequest(LongAdder active) {
+            this.active = active;
+        }
+
+        void end() {
+            // a request may be reset after its response has ended
+            if (!ended) {
+                ended = true;
+                active.decrement();
+            }
+        }
+    }
+}
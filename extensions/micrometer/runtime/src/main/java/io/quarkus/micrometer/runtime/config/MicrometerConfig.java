@@ -83,6 +83,17 @@ public String toString() {
     /** Build / static runtime config for binders */
     @ConfigGroup
     public static class BinderConfig {
+        /**
+         * ArC programmatic lookup cache metrics support.
+         * <p>
+         * Support for the metrics of the caches used for programmatic lookup will be enabled if Micrometer
+         * support is enabled, the caches are bounded with {@code quarkus.arc.resolution-cache-max-size},
+         * and either this value is true, or this value is unset and
+         * {@code quarkus.micrometer.binder-enabled-default} is true.
+         */
+        @ConfigItem
+        public Optional<Boolean> arc;
+
         public HttpClientConfigGroup httpClient;
         public HttpServerConfigGroup httpServer;
 
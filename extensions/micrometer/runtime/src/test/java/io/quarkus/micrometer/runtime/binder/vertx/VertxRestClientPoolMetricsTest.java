@@ -0,0 +1,63 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+public class VertxRestClientPoolMetricsTest {
+
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    final VertxRestClientPoolMetrics metrics = new VertxRestClientPoolMetrics(registry, "http.client",
+            Tags.of("clientName", "test"));
+
+    @Test
+    public void testQueue() {
+        ClientMetrics<VertxRestClientPoolMetrics.ActiveRequest, EventTiming, HttpRequest, HttpResponse> endpoint = metrics
+                .createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "localhost"), 1);
+
+        EventTiming timing = endpoint.enqueueRequest();
+        Assertions.assertEquals(1, gauge("http.client.pool.queue.size"));
+        endpoint.dequeueRequest(timing);
+        Assertions.assertEquals(0, gauge("http.client.pool.queue.size"));
+        Assertions.assertEquals(1, registry.get("http.client.pool.queue.delay")
+                .tags("clientName", "test", "address", "localhost:8080").timer().count());
+    }
+
+    @Test
+    public void testActiveRequests() {
+        ClientMetrics<VertxRestClientPoolMetrics.ActiveRequest, EventTiming, HttpRequest, HttpResponse> endpoint = metrics
+                .createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "localhost"), 1);
+
+        VertxRestClientPoolMetrics.ActiveRequest first = endpoint.requestBegin("/", null);
+        VertxRestClientPoolMetrics.ActiveRequest second = endpoint.requestBegin("/", null);
+        Assertions.assertEquals(2, gauge("http.client.pool.active"));
+
+        endpoint.responseEnd(first, 0);
+        // a reset after the end of the response must not be counted twice
+        endpoint.requestReset(first);
+        Assertions.assertEquals(1, gauge("http.client.pool.active"));
+
+        endpoint.requestReset(second);
+        Assertions.assertEquals(0, gauge("http.client.pool.active"));
+    }
+
+    @Test
+    public void testEndpointsAreReused() {
+        Assertions.assertSame(
+                metrics.createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "localhost"), 1),
+                metrics.createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "localhost"), 1));
+        Assertions.assertNotSame(
+                metrics.createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "localhost"), 1),
+                metrics.createEndpointMetrics(SocketAddress.inetSocketAddress(8081, "localhost"), 1));
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tags("clientName", "test", "address", "localhost:8080").gauge().value();
+    }
+}
@@ -33,6 +33,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
@@ -46,8 +47,8 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdown) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdown));
     }
 
     @BuildStep
@@ -114,6 +115,14 @@ private static Map<String, String> valueTypesFromCacheResultAnnotation(CombinedI
             if (methodReturnType.kind() == Type.Kind.VOID) {
                 continue;
             }
+            AnnotationValue bulkValue = instance.value(CacheDeploymentConstants.BULK_PARAM);
+            if (bulkValue != null && bulkValue.asBoolean()) {
+                // each element of the returned List or Map is cached separately
+                methodReturnType = bulkValueType(methodReturnType);
+                if (methodReturnType == null) {
+                    continue;
+                }
+            }
             AnnotationValue cacheNameValue = instance.value("cacheName");
             if (cacheNameValue == null) {
                 continue;
@@ -168,4 +177,24 @@ private static Map<String, String> valueTypesFromCacheResultAnnotation(CombinedI
 
         return result;
     }
+
+    /**
+     * @return the type of the values returned by a bulk {@code @CacheResult} method, or {@code null} if it is unknown
+     */
+    private static Type bulkValueType(Type returnType) {
+        if ((UNI.equals(returnType.name()) || CacheDeploymentConstants.COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (returnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        List<Type> arguments = returnType.asParameterizedType().arguments();
+        if (CacheDeploymentConstants.LIST.equals(returnType.name()) && arguments.size() == 1) {
+            return arguments.get(0);
+        } else if (CacheDeploymentConstants.MAP.equals(returnType.name()) && arguments.size() == 2) {
+            return arguments.get(1);
+        }
+        return null;
+    }
 }
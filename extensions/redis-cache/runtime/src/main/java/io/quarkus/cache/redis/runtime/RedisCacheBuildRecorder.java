@@ -1,16 +1,26 @@
 package io.quarkus.cache.redis.runtime;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.redis.runtime.client.VertxRedisClientFactory;
+import io.quarkus.redis.runtime.client.config.RedisClientConfig;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.RedisClientType;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -19,15 +29,28 @@ public class RedisCacheBuildRecorder {
 
     private final RedisCachesBuildTimeConfig buildConfig;
     private final RuntimeValue<RedisCachesConfig> redisCacheConfigRV;
+    private final RuntimeValue<RedisConfig> redisConfigRV;
 
     private static Map<String, String> valueTypes;
 
-    public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeValue<RedisCachesConfig> redisCacheConfigRV) {
+    public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeValue<RedisCachesConfig> redisCacheConfigRV,
+            RuntimeValue<RedisConfig> redisConfigRV) {
         this.buildConfig = buildConfig;
         this.redisCacheConfigRV = redisCacheConfigRV;
+        this.redisConfigRV = redisConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
+        // the caches are created lazily, the task is registered upfront as the shutdown context is not thread-safe
+        List<RedisCacheImpl> createdCaches = new CopyOnWriteArrayList<>();
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                for (RedisCacheImpl cache : createdCaches) {
+                    cache.close();
+                }
+            }
+        });
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -55,7 +78,9 @@ public CacheManager get() {
                                             cacheInfo.valueType);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName);
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName,
+                                        cacheInfo.nearCacheMaximumSize.isPresent() ? createNearCacheClient(cacheInfo) : null);
+                                createdCaches.add(cache);
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
@@ -66,6 +91,35 @@ public CacheManager get() {
         };
     }
 
+    /**
+     * Creates a client with the configuration of the Redis client used by the caches, so that the connections tracking
+     * the keys of the near cache are not taken from the pool of that client.
+     */
+    private Redis createNearCacheClient(RedisCacheInfo cacheInfo) {
+        String clientName = buildConfig.clientName.orElse(RedisConfig.DEFAULT_CLIENT_NAME);
+        RedisClientConfig clientConfig = getClientConfig(redisConfigRV.getValue(), clientName);
+        RedisClientType clientType = clientConfig.clientType();
+        if (clientType != RedisClientType.STANDALONE && clientType != RedisClientType.SENTINEL) {
+            // the keys are tracked by a single connection, which only sees the keys of one node
+            throw new ConfigurationException("The near cache of the Redis cache " + cacheInfo.name
+                    + " is not supported with the " + clientType + " Redis client type");
+        }
+        Vertx vertx = Arc.container().select(Vertx.class).get();
+        return Redis.newInstance(VertxRedisClientFactory.create(clientName, vertx.getDelegate(), clientConfig));
+    }
+
+    private static RedisClientConfig getClientConfig(RedisConfig config, String clientName) {
+        if (RedisConfig.isDefaultClient(clientName)) {
+            return config.defaultRedisClient();
+        }
+        for (Map.Entry<String, RedisClientConfig> entry : config.namedRedisClients().entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(clientName)) {
+                return entry.getValue();
+            }
+        }
+        throw new ConfigurationException("The Redis client " + clientName + " used by the caches is not configured");
+    }
+
     public void setCacheValueTypes(Map<String, String> valueTypes) {
         RedisCacheBuildRecorder.valueTypes = valueTypes;
     }
@@ -3,10 +3,16 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -51,6 +57,13 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
             "double", Double.class,
             "boolean", Boolean.class);
 
+    // KEYS[1] = key, ARGV[1] = expected value, ARGV[2] = new value, ARGV[3] = time to live in seconds
+    private static final String REPLACE_IF_EQUAL_SCRIPT = "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) else return nil end";
+    // KEYS[1] = key, ARGV[1] = expected value
+    private static final String DELETE_IF_EQUAL_SCRIPT = "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('DEL', KEYS[1]) else return 0 end";
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -62,9 +75,25 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisNearCache nearCache;
+
+    // the age after which an entry is refreshed when it is read, or -1 if the entries are never refreshed
+    private final long refreshAfterMillis;
+    // the keys whose value is being recomputed in the background, null if the entries are never refreshed
+    private final Set<String> refreshing;
+    // the expire-after-write duration, extended by the period during which the stale entries can still be returned
+    private final Optional<Duration> entryTimeToLive;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
+        this(cacheInfo, redisClientName, null);
+    }
 
-        this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
+    /**
+     * @param nearCacheClient the client dedicated to the near cache, which is closed with the cache, or {@code null} if
+     *        the near cache is not enabled
+     */
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, Redis nearCacheClient) {
+        this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName), nearCacheClient,
                 BlockingOperationControl::isBlockingAllowed);
     }
 
@@ -78,6 +107,11 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, null, blockingAllowedSupplier);
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Redis nearCacheClient,
+            Supplier<Boolean> blockingAllowedSupplier) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
@@ -101,6 +135,47 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        if (cacheInfo.nearCacheMaximumSize.isPresent()) {
+            if (nearCacheClient == null) {
+                throw new IllegalArgumentException("The near cache of the cache " + cacheInfo.name
+                        + " requires a dedicated Redis client");
+            }
+            this.nearCache = new RedisNearCache(nearCacheClient, getKeyPrefix(), cacheInfo.nearCacheMaximumSize.get(),
+                    cacheInfo.nearCacheExpireAfterWrite.or(() -> cacheInfo.expireAfterWrite));
+        } else {
+            this.nearCache = null;
+        }
+        this.refreshAfterMillis = computeRefreshAfterMillis(cacheInfo);
+        if (refreshAfterMillis >= 0) {
+            this.refreshing = ConcurrentHashMap.newKeySet();
+            this.entryTimeToLive = cacheInfo.staleWhileRevalidate.isPresent()
+                    ? Optional.of(cacheInfo.expireAfterWrite.get().plus(cacheInfo.staleWhileRevalidate.get()))
+                    : cacheInfo.expireAfterWrite;
+        } else {
+            this.refreshing = null;
+            this.entryTimeToLive = cacheInfo.expireAfterWrite;
+        }
+    }
+
+    private static long computeRefreshAfterMillis(RedisCacheInfo cacheInfo) {
+        if (cacheInfo.refreshAheadFactor.isEmpty() && cacheInfo.staleWhileRevalidate.isEmpty()) {
+            return -1;
+        }
+        if (cacheInfo.refreshAheadFactor.isPresent()
+                && (cacheInfo.refreshAheadFactor.get() <= 0 || cacheInfo.refreshAheadFactor.get() > 1)) {
+            throw new IllegalArgumentException("The refresh-ahead factor of cache " + cacheInfo.name
+                    + " must be greater than 0 and lower than or equal to 1: " + cacheInfo.refreshAheadFactor.get());
+        }
+        if (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent()) {
+            log.warnf("The refresh-ahead factor and the stale-while-revalidate duration of cache %s are ignored, they "
+                    + "require an expire-after-write duration and no expire-after-access duration", cacheInfo.name);
+            return -1;
+        }
+        if (cacheInfo.refreshAheadFactor.isPresent()) {
+            return (long) (cacheInfo.expireAfterWrite.get().toMillis() * cacheInfo.refreshAheadFactor.get());
+        }
+        // stale-while-revalidate only, the entries are refreshed once expired
+        return cacheInfo.expireAfterWrite.get().toMillis();
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -163,17 +238,25 @@ public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocally(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long nearCacheToken = nearCache == null ? 0 : nearCache.beforeRead();
+        StoreLocally<V> storeLocally = new StoreLocally<>(actualKey, nearCacheToken);
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
+                GetFromConnectionSupplier<V> getter = new GetFromConnectionSupplier<>(connection, clazz, encodedKey,
+                        marshaller);
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
-                    startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller));
+                    startingPoint = watch(connection, encodedKey).chain(getter);
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller).get();
+                    startingPoint = getter.get();
                 }
 
                 return startingPoint
@@ -181,6 +264,18 @@ public Uni<V> apply(RedisConnection connection) {
                             @Override
                             public Uni<V> apply(V cached) throws Exception {
                                 if (cached != null) {
+                                    storeLocally.read(getter.remainingTimeToLive);
+                                    refreshIfNeeded(actualKey, getter, new Supplier<Uni<V>>() {
+                                        @Override
+                                        public Uni<V> get() {
+                                            return Uni.createFrom().item(new Supplier<V>() {
+                                                @Override
+                                                public V get() {
+                                                    return valueLoader.apply(key);
+                                                }
+                                            });
+                                        }
+                                    }, true);
                                     // Unwatch if optimistic locking
                                     if (cacheInfo.useOptimisticLocking) {
                                         return connection.send(Request.cmd(Command.UNWATCH))
@@ -197,6 +292,7 @@ public Uni<?> apply(V value) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
                                             byte[] encodedValue = marshaller.encode(value);
+                                            storeLocally.written();
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
                                                 result = multi(connection, set(connection, encodedKey, encodedValue))
@@ -216,7 +312,7 @@ public Uni<?> apply(V value) {
                         }));
             }
         })
-
+                .invoke(storeLocally)
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -228,21 +324,36 @@ public Uni<? extends V> apply(Throwable e) {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocally(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long nearCacheToken = nearCache == null ? 0 : nearCache.beforeRead();
+        StoreLocally<V> storeLocally = new StoreLocally<>(actualKey, nearCacheToken);
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
+                GetFromConnectionSupplier<V> getter = new GetFromConnectionSupplier<>(connection, clazz, encodedKey,
+                        marshaller);
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
-                    startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller));
+                    startingPoint = watch(connection, encodedKey).chain(getter);
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller).get();
+                    startingPoint = getter.get();
                 }
 
                 return startingPoint
                         .chain(cached -> {
                             if (cached != null) {
+                                storeLocally.read(getter.remainingTimeToLive);
+                                refreshIfNeeded(actualKey, getter, new Supplier<Uni<V>>() {
+                                    @Override
+                                    public Uni<V> get() {
+                                        return valueLoader.apply(key);
+                                    }
+                                }, false);
                                 // Unwatch if optimistic locking
                                 if (cacheInfo.useOptimisticLocking) {
                                     return connection.send(Request.cmd(Command.UNWATCH))
@@ -250,10 +361,10 @@ public Uni<V> apply(RedisConnection connection) {
                                 }
                                 return Uni.createFrom().item(new StaticSupplier<>(cached));
                             } else {
-                                Uni<V> getter = valueLoader.apply(key);
-                                return getter
+                                return valueLoader.apply(key)
                                         .chain(value -> {
                                             byte[] encodedValue = marshaller.encode(value);
+                                            storeLocally.written();
                                             if (cacheInfo.useOptimisticLocking) {
                                                 return multi(connection, set(connection, encodedKey, encodedValue))
                                                         .replaceWith(value);
@@ -266,12 +377,185 @@ public Uni<V> apply(RedisConnection connection) {
                         });
             }
         })
+                .invoke(storeLocally)
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        // MGET K1 K2 ... (or a pipeline of GETEX with expire-after-access)
+        // missing = the keys without value
+        // SET K computation.apply(missing)[K] for each missing key, in a pipeline
+        enforceDefaultType();
+        Map<K, V> localValues = new LinkedHashMap<>();
+        List<K> remoteKeys = new ArrayList<>(keys.size());
+        List<String> actualKeys = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            String actualKey = computeActualKey(encodeKey(key));
+            V local = getLocally(actualKey);
+            if (local != null) {
+                localValues.put(key, local);
+            } else {
+                remoteKeys.add(key);
+                actualKeys.add(actualKey);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return Uni.createFrom().item(localValues);
+        }
+        long nearCacheToken = nearCache == null ? 0 : nearCache.beforeRead();
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        // the values read and their remaining time to live in milliseconds, only set if the entries may be refreshed
+        byte[][] encodedValues = new byte[actualKeys.size()][];
+        long[] remainingTimesToLive = new long[actualKeys.size()];
+        return getRemoteValues(actualKeys, encodedValues, remainingTimesToLive)
+                .chain(new Function<List<V>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(List<V> values) {
+                        Map<K, V> result = new LinkedHashMap<>(localValues);
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        for (int i = 0; i < remoteKeys.size(); i++) {
+                            V value = values.get(i);
+                            if (value != null) {
+                                result.put(remoteKeys.get(i), value);
+                                StoreLocally<V> storeLocally = new StoreLocally<>(actualKeys.get(i), nearCacheToken);
+                                storeLocally.read(remainingTimesToLive[i]);
+                                storeLocally.accept(value);
+                            } else {
+                                missingKeys.add(remoteKeys.get(i));
+                            }
+                        }
+                        refreshAllIfNeeded(remoteKeys, actualKeys, encodedValues, remainingTimesToLive, valuesLoader);
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(result);
+                        }
+                        Uni<Map<K, V>> loaded;
+                        if (isWorkerThread) {
+                            // the loader may block, it must not be invoked on the event loop the values were read on
+                            loaded = Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+                                @Override
+                                public Uni<? extends Map<K, V>> get() {
+                                    return valuesLoader.apply(missingKeys);
+                                }
+                            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate()));
+                        } else {
+                            loaded = valuesLoader.apply(missingKeys);
+                        }
+                        return loaded
+                                .call(new Function<Map<K, V>, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Map<K, V> loaded) {
+                                        return setAll(missingKeys, loaded);
+                                    }
+                                })
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        for (K key : missingKeys) {
+                                            V value = loaded == null ? null : loaded.get(key);
+                                            if (value != null) {
+                                                result.put(key, value);
+                                            }
+                                        }
+                                        return result;
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return valuesLoader.apply(keys);
+                    }
+                });
+    }
+
+    private <V> Uni<List<V>> getRemoteValues(List<String> actualKeys, byte[][] encodedValues,
+            long[] remainingTimesToLive) {
+        if (refreshing != null) {
+            // the age of the entries is read in the same round trip as their values
+            List<Request> requests = new ArrayList<>(actualKeys.size() * 2);
+            for (String actualKey : actualKeys) {
+                byte[] encodedKey = marshaller.encode(actualKey);
+                requests.add(Request.cmd(Command.GET).arg(encodedKey));
+                requests.add(Request.cmd(Command.PTTL).arg(encodedKey));
+            }
+            return redis.batch(requests)
+                    .map(new Function<List<Response>, List<V>>() {
+                        @Override
+                        public List<V> apply(List<Response> responses) {
+                            List<V> values = new ArrayList<>(actualKeys.size());
+                            for (int i = 0; i < actualKeys.size(); i++) {
+                                Response value = responses.get(2 * i);
+                                Response timeToLive = responses.get(2 * i + 1);
+                                encodedValues[i] = value == null ? null : value.toBytes();
+                                remainingTimesToLive[i] = timeToLive == null ? -1 : timeToLive.toLong();
+                                values.add(marshaller.decode(classOfValue, value));
+                            }
+                            return values;
+                        }
+                    });
+        }
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // MGET cannot extend the time to live of the keys
+            List<Request> requests = new ArrayList<>(actualKeys.size());
+            for (String actualKey : actualKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(marshaller.encode(actualKey))
+                        .arg("EX").arg(cacheInfo.expireAfterAccess.get().toSeconds()));
+            }
+            return redis.batch(requests)
+                    .map(new Function<List<Response>, List<V>>() {
+                        @Override
+                        public List<V> apply(List<Response> responses) {
+                            List<V> values = new ArrayList<>(responses.size());
+                            for (Response response : responses) {
+                                values.add(marshaller.decode(classOfValue, response));
+                            }
+                            return values;
+                        }
+                    });
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (String actualKey : actualKeys) {
+            request.arg(marshaller.encode(actualKey));
+        }
+        return redis.send(request)
+                .map(new Function<Response, List<V>>() {
+                    @Override
+                    public List<V> apply(Response response) {
+                        return marshaller.decodeAsList(response, classOfValue);
+                    }
+                });
+    }
+
+    private <K, V> Uni<Void> setAll(Set<K> keys, Map<K, V> values) {
+        if (values == null) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            V value = values.get(key);
+            // null values are not cached
+            if (value != null) {
+                Request request = Request.cmd(Command.SET).arg(marshaller.encode(computeActualKey(encodeKey(key))))
+                        .arg(marshaller.encode(value));
+                if (entryTimeToLive.isPresent()) {
+                    request.arg("EX").arg(entryTimeToLive.get().toSeconds());
+                }
+                requests.add(request);
+            }
+        }
+        if (requests.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return redis.batch(requests).replaceWithVoid();
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -279,8 +563,12 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
+        if (nearCache != null) {
+            nearCache.invalidate(actualKey);
+        }
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
@@ -300,31 +588,48 @@ private void enforceDefaultType() {
     @Override
     public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
         enforceDefaultType();
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocally(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long nearCacheToken = nearCache == null ? 0 : nearCache.beforeRead();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        }).invoke(new StoreLocally<>(actualKey, nearCacheToken))
+                .onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
         enforceDefaultType();
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocally(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long nearCacheToken = nearCache == null ? 0 : nearCache.beforeRead();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
             }
-        });
+        }).invoke(new StoreLocally<>(actualKey, nearCacheToken));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        if (nearCache != null) {
+            nearCache.invalidate(actualKey);
+        }
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
                 .replaceWithVoid();
     }
@@ -336,6 +641,14 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        if (nearCache != null) {
+            nearCache.invalidateIf(new Predicate<String>() {
+                @Override
+                public boolean test(String key) {
+                    return predicate.test(computeUserKey(key));
+                }
+            });
+        }
         return redis.send(Request.cmd(Command.KEYS).arg(getKeyPattern()))
                 .<List<String>> map(response -> marshaller.decodeAsList(response, String.class))
                 .chain(new Function<List<String>, Uni<?>>() {
@@ -379,10 +692,32 @@ Object computeUserKey(String key) {
     }
 
     private String getKeyPattern() {
+        return getKeyPrefix() + "*";
+    }
+
+    private String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
-            return cacheInfo.prefix + ":" + "*";
+            return cacheInfo.prefix + ":";
         } else {
-            return "cache:" + getName() + ":" + "*";
+            return "cache:" + getName() + ":";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getLocally(String actualKey) {
+        return nearCache == null ? null : (V) nearCache.get(actualKey);
+    }
+
+    RedisNearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Releases the connections of the near cache, if any.
+     */
+    void close() {
+        if (nearCache != null) {
+            nearCache.close();
         }
     }
 
@@ -432,12 +767,124 @@ public X apply(Response r) {
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
-        if (cacheInfo.expireAfterWrite.isPresent()) {
-            request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+        if (entryTimeToLive.isPresent()) {
+            request = request.arg("EX").arg(entryTimeToLive.get().toSeconds());
         }
         return connection.send(request).replaceWithVoid();
     }
 
+    /**
+     * Recomputes the value of an entry that was just read in the background if it is old enough, unless it is already
+     * being recomputed. The caller does not wait for the computation.
+     */
+    private <V> void refreshIfNeeded(String actualKey, GetFromConnectionSupplier<V> getter, Supplier<Uni<V>> newValue,
+            boolean blocking) {
+        // -2 if the key does not exist anymore, -1 if it has no expiration
+        long remaining = getter.remainingTimeToLive;
+        if (refreshing == null || remaining < 0 || getter.encodedValue == null) {
+            return;
+        }
+        long age = entryTimeToLive.get().toMillis() - remaining;
+        if (age >= refreshAfterMillis && refreshing.add(actualKey)) {
+            boolean expired = age >= cacheInfo.expireAfterWrite.get().toMillis();
+            refresh(actualKey, getter.encodedKey, getter.encodedValue, expired,
+                    refreshInNewContext(newValue, blocking));
+        }
+    }
+
+    /**
+     * Recomputes in the background, with a single invocation of the loader, the values just read by a bulk lookup that
+     * are old enough, as {@link #refreshIfNeeded} does for a single key.
+     */
+    private <K, V> void refreshAllIfNeeded(List<K> keys, List<String> actualKeys, byte[][] encodedValues,
+            long[] remainingTimesToLive, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (refreshing == null) {
+            return;
+        }
+        Map<K, Integer> staleKeys = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            // -2 if the key does not exist anymore, -1 if it has no expiration
+            if (remainingTimesToLive[i] < 0 || encodedValues[i] == null) {
+                continue;
+            }
+            long age = entryTimeToLive.get().toMillis() - remainingTimesToLive[i];
+            if (age >= refreshAfterMillis && refreshing.add(actualKeys.get(i))) {
+                staleKeys.put(keys.get(i), i);
+            }
+        }
+        if (staleKeys.isEmpty()) {
+            return;
+        }
+        // the loader of a bulk lookup may block, it is only invoked once for all the stale keys
+        Uni<Map<K, V>> newValues = refreshInNewContext(new Supplier<Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> get() {
+                return valuesLoader.apply(staleKeys.keySet());
+            }
+        }, true).memoize().indefinitely();
+        for (Map.Entry<K, Integer> staleKey : staleKeys.entrySet()) {
+            int i = staleKey.getValue();
+            long age = entryTimeToLive.get().toMillis() - remainingTimesToLive[i];
+            boolean expired = age >= cacheInfo.expireAfterWrite.get().toMillis();
+            // a key missing from the loaded values fails its refresh, as it would not be cached by a bulk lookup
+            refresh(actualKeys.get(i), marshaller.encode(actualKeys.get(i)), encodedValues[i], expired,
+                    newValues.map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> values) {
+                            return values == null ? null : values.get(staleKey.getKey());
+                        }
+                    }));
+        }
+    }
+
+    /**
+     * The new value only replaces the given one if the entry was neither invalidated nor replaced in the meantime, by
+     * this instance or another one. If the computation fails, an entry that is not expired yet is kept until it expires,
+     * and an expired entry is removed so that the next caller computes the value again and gets the failure.
+     */
+    private <V> void refresh(String actualKey, byte[] encodedKey, byte[] previousValue, boolean expired,
+            Uni<V> newValue) {
+        log.tracef("Refreshing key %s", actualKey);
+        newValue.chain(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                if (value == null) {
+                    throw new IllegalArgumentException("Cannot cache `null` value");
+                }
+                return redis.send(Request.cmd(Command.EVAL).arg(REPLACE_IF_EQUAL_SCRIPT).arg(1).arg(encodedKey)
+                        .arg(previousValue).arg(marshaller.encode(value)).arg(entryTimeToLive.get().toSeconds()));
+            }
+        }).subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object ignored) {
+                refreshing.remove(actualKey);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                refreshing.remove(actualKey);
+                if (expired) {
+                    log.warnf(failure, "Unable to refresh key %s, the expired value is removed", actualKey);
+                    redis.send(Request.cmd(Command.EVAL).arg(DELETE_IF_EQUAL_SCRIPT).arg(1).arg(encodedKey)
+                            .arg(previousValue))
+                            .subscribe().with(new Consumer<Response>() {
+                                @Override
+                                public void accept(Response ignored) {
+                                }
+                            }, new Consumer<Throwable>() {
+                                @Override
+                                public void accept(Throwable e) {
+                                    log.debugf(e, "Unable to remove the expired key %s", actualKey);
+                                }
+                            });
+                } else {
+                    log.warnf(failure, "Unable to refresh key %s, the current value is kept until it expires",
+                            actualKey);
+                }
+            }
+        });
+    }
+
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
         return connection.send(Request.cmd(Command.MULTI))
                 .chain(() -> operation)
@@ -473,6 +920,9 @@ public V get() {
         private final Class<V> clazz;
         private final byte[] encodedKey;
         private final Marshaller marshaller;
+        // the value read and its remaining time to live in milliseconds, only set if the entries may be refreshed
+        private byte[] encodedValue;
+        private long remainingTimeToLive = -1;
 
         public GetFromConnectionSupplier(RedisConnection connection, Class<V> clazz, byte[] encodedKey, Marshaller marshaller) {
             this.connection = connection;
@@ -483,7 +933,60 @@ public GetFromConnectionSupplier(RedisConnection connection, Class<V> clazz, byt
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            if (refreshing == null) {
+                return doGet(connection, encodedKey, clazz, marshaller);
+            }
+            // the age of the entry is read in the same round trip as its value
+            return connection.batch(List.of(Request.cmd(Command.GET).arg(encodedKey),
+                    Request.cmd(Command.PTTL).arg(encodedKey)))
+                    .map(new Function<List<Response>, V>() {
+                        @Override
+                        public V apply(List<Response> responses) {
+                            Response value = responses.get(0);
+                            Response timeToLive = responses.get(1);
+                            encodedValue = value == null ? null : value.toBytes();
+                            remainingTimeToLive = timeToLive == null ? -1 : timeToLive.toLong();
+                            return marshaller.decode(clazz, value);
+                        }
+                    });
+        }
+    }
+
+    private class StoreLocally<V> implements Consumer<V> {
+        private final String actualKey;
+        private final long nearCacheToken;
+        // the remaining time to live in milliseconds of the Redis entry, -1 if it is unknown, only used if the entries
+        // may be refreshed
+        private long remainingTimeToLive = -1;
+
+        public StoreLocally(String actualKey, long nearCacheToken) {
+            this.actualKey = actualKey;
+            this.nearCacheToken = nearCacheToken;
+        }
+
+        void read(long remainingTimeToLive) {
+            this.remainingTimeToLive = remainingTimeToLive;
+        }
+
+        void written() {
+            if (refreshing != null) {
+                this.remainingTimeToLive = entryTimeToLive.get().toMillis();
+            }
+        }
+
+        @Override
+        public void accept(V value) {
+            if (nearCache == null) {
+                return;
+            }
+            if (refreshing == null) {
+                nearCache.put(actualKey, value, nearCacheToken);
+            } else if (remainingTimeToLive >= 0) {
+                // the local value is only returned until its Redis entry is old enough to be refreshed, an entry whose
+                // age is unknown is not stored
+                long age = entryTimeToLive.get().toMillis() - remainingTimeToLive;
+                nearCache.put(actualKey, value, Duration.ofMillis(Math.max(0, refreshAfterMillis - age)), nearCacheToken);
+            }
         }
     }
 
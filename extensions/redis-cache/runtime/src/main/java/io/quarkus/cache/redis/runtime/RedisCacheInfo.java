@@ -42,4 +42,24 @@ public class RedisCacheInfo {
      * Locking</a> for details.
      */
     public boolean useOptimisticLocking = false;
+
+    /**
+     * The fraction of the {@code expireAfterWrite} duration after which the entries are refreshed when they are read
+     */
+    public Optional<Double> refreshAheadFactor = Optional.empty();
+
+    /**
+     * The duration during which the expired entries can still be returned while they are recomputed
+     */
+    public Optional<Duration> staleWhileRevalidate = Optional.empty();
+
+    /**
+     * The maximum number of entries of the local near cache, disabled if not set
+     */
+    public Optional<Long> nearCacheMaximumSize = Optional.empty();
+
+    /**
+     * The duration after which the entries of the local near cache are evicted
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -66,6 +66,30 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesBuild
                     cacheInfo.useOptimisticLocking = defaultRuntimeConfig.useOptimisticLocking.get();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAheadFactor.isPresent()) {
+                    cacheInfo.refreshAheadFactor = namedRuntimeConfig.refreshAheadFactor;
+                } else if (defaultRuntimeConfig.refreshAheadFactor.isPresent()) {
+                    cacheInfo.refreshAheadFactor = defaultRuntimeConfig.refreshAheadFactor;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.staleWhileRevalidate.isPresent()) {
+                    cacheInfo.staleWhileRevalidate = namedRuntimeConfig.staleWhileRevalidate;
+                } else if (defaultRuntimeConfig.staleWhileRevalidate.isPresent()) {
+                    cacheInfo.staleWhileRevalidate = defaultRuntimeConfig.staleWhileRevalidate;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize;
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite;
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite;
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -47,4 +47,39 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> useOptimisticLocking;
 
+    /**
+     * Fraction of the {@code expire-after-write} duration after which an entry is refreshed ahead of its expiration,
+     * between {@code 0} (exclusive) and {@code 1} (inclusive). When an entry older than that is read by a
+     * {@code @CacheResult} method, the current value is returned and the method is invoked asynchronously to replace it.
+     * Only one refresh of a given entry is performed at a time by each application instance.
+     * This requires an {@code expire-after-write} value, and is not supported with {@code expire-after-access}.
+     */
+    @ConfigItem
+    public Optional<Double> refreshAheadFactor;
+
+    /**
+     * Duration during which an expired entry is kept in Redis and can still be returned to the callers while it is
+     * recomputed asynchronously.
+     * This requires an {@code expire-after-write} value, and is not supported with {@code expire-after-access}.
+     */
+    @ConfigItem
+    public Optional<Duration> staleWhileRevalidate;
+
+    /**
+     * The maximum number of entries kept in memory by each application instance, in front of Redis.
+     * If set, the values read from Redis are also stored in a local near cache, so that the next reads do not need
+     * a network round trip. The local entries are invalidated using the Redis server-assisted client side caching,
+     * which requires Redis 6 or later.
+     * If not set, the near cache is disabled.
+     */
+    @ConfigItem
+    public Optional<Long> nearCacheMaximumSize;
+
+    /**
+     * The duration after which the entries of the near cache are evicted, even if they were not invalidated.
+     * If not set, the {@code expire-after-write} duration of the cache is used.
+     */
+    @ConfigItem
+    public Optional<Duration> nearCacheExpireAfterWrite;
+
 }
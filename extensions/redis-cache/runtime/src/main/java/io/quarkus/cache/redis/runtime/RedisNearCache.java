@@ -0,0 +1,343 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A bounded, in-memory cache kept in front of Redis so that hot entries are read without a network round trip
+ * and without decoding them again.
+ * <p>
+ * Coherence with the other instances is ensured by the Redis server-assisted client side caching in broadcasting mode
+ * (see <a href="https://redis.io/docs/manual/client-side-caching/">Redis client-side caching</a>): a connection
+ * subscribes to the {@code __redis__:invalidate} channel, and another one enables the tracking of the keys starting
+ * with the cache prefix, redirecting the invalidation messages to the first one. Every time such a key is modified,
+ * deleted or expires, Redis publishes its name and the local entry is dropped. Both connections are opened by a Redis
+ * client dedicated to the near cache, so they are not taken from the pool of the client used by the cache, and they
+ * leave the subscription and the tracking modes before being released.
+ * <p>
+ * The local entries are only used while both connections are up. If one of them fails, the local entries are cleared
+ * and the tracking is re-established on a later access, after a delay growing with the consecutive failures. This
+ * requires Redis 6 or later, and a user allowed to run {@code CLIENT ID}, {@code CLIENT TRACKING} and to subscribe to
+ * the {@code __redis__:invalidate} channel.
+ * <p>
+ * When the entries of the cache are refreshed ahead of their expiration, a local value is stored with the time at which
+ * its Redis entry becomes old enough to be refreshed. Past that time, the value is read from Redis again, which
+ * triggers the refresh, and the local entry is dropped once Redis publishes the modification of the refreshed key.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+    private static final long INITIAL_RETRY_DELAY = Duration.ofSeconds(1).toNanos();
+    private static final long MAX_RETRY_DELAY = Duration.ofMinutes(1).toNanos();
+    private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Redis redis;
+    private final String prefix;
+    private final Cache<String, Object> entries;
+
+    // incremented for every invalidation, so that a value read from Redis is only stored locally if no invalidation
+    // message was received in the meantime
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicBoolean starting = new AtomicBoolean();
+    private volatile boolean tracking;
+    private volatile RedisConnection subscriber;
+    private volatile RedisConnection tracker;
+    // the tracking is not started again before this System.nanoTime() value
+    private volatile long nextAttempt;
+    private volatile long retryDelay = INITIAL_RETRY_DELAY;
+    private volatile boolean closed;
+
+    /**
+     * @param redis the client dedicated to the connections of the near cache, which is closed by {@link #close()}
+     */
+    RedisNearCache(Redis redis, String prefix, long maximumSize, Optional<Duration> expireAfterWrite) {
+        this.redis = redis;
+        this.nextAttempt = System.nanoTime();
+        this.prefix = prefix;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize);
+        if (expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(expireAfterWrite.get());
+        }
+        this.entries = builder.build();
+    }
+
+    /**
+     * @return the local value of the given Redis key, or {@code null} if there is none or the tracking is not active
+     */
+    Object get(String key) {
+        if (!tracking) {
+            if (System.nanoTime() - nextAttempt >= 0) {
+                startTracking();
+            }
+            return null;
+        }
+        Object value = entries.getIfPresent(key);
+        if (value instanceof RefreshableValue) {
+            RefreshableValue refreshable = (RefreshableValue) value;
+            // past its refresh time, the entry is read from Redis so that it is refreshed
+            return System.nanoTime() - refreshable.refreshAt >= 0 ? null : refreshable.value;
+        }
+        return value;
+    }
+
+    /**
+     * @return a token to pass to {@link #put(String, Object, long)} once the value has been read from Redis
+     */
+    long beforeRead() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores a value read from (or written to) Redis, unless it may have been invalidated since {@link #beforeRead()}.
+     */
+    void put(String key, Object value, long token) {
+        store(key, value, token);
+    }
+
+    /**
+     * Stores a value read from (or written to) Redis, as {@link #put(String, Object, long)} does, which is only returned
+     * by {@link #get(String)} for the given duration, after which its Redis entry must be refreshed.
+     */
+    void put(String key, Object value, Duration refreshAfter, long token) {
+        if (value != null) {
+            store(key, new RefreshableValue(value, System.nanoTime() + refreshAfter.toNanos()), token);
+        }
+    }
+
+    private void store(String key, Object value, long token) {
+        if (tracking && value != null) {
+            entries.put(key, value);
+            if (invalidations.get() != token) {
+                // an invalidation was received while the value was read, it may be stale
+                entries.invalidate(key);
+            }
+        }
+    }
+
+    void invalidate(String key) {
+        invalidations.incrementAndGet();
+        entries.invalidate(key);
+    }
+
+    void invalidateIf(Predicate<String> predicate) {
+        invalidations.incrementAndGet();
+        entries.asMap().keySet().removeIf(predicate);
+    }
+
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * Connects the subscriber and the tracking connections, if it is not already in progress.
+     */
+    void startTracking() {
+        if (tracking || closed || !starting.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<? extends Long>>() {
+                    @Override
+                    public Uni<Long> apply(RedisConnection connection) {
+                        subscriber = connection;
+                        connection.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response message) {
+                                onMessage(message);
+                            }
+                        });
+                        stopTrackingOnFailure(connection);
+                        return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                                .call(() -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL)))
+                                .map(Response::toLong);
+                    }
+                })
+                .chain(new Function<Long, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(Long subscriberId) {
+                        return redis.connect()
+                                .chain(new Function<RedisConnection, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(RedisConnection connection) {
+                                        tracker = connection;
+                                        stopTrackingOnFailure(connection);
+                                        return connection.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                                .arg("REDIRECT").arg(subscriberId)
+                                                .arg("BCAST").arg("PREFIX").arg(prefix));
+                                    }
+                                });
+                    }
+                })
+                .subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object ignored) {
+                        if (closed) {
+                            stopTracking(null);
+                            return;
+                        }
+                        // the values read before the tracking was enabled cannot be stored
+                        invalidateAll();
+                        retryDelay = INITIAL_RETRY_DELAY;
+                        tracking = true;
+                        starting.set(false);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        stopTracking(failure);
+                    }
+                });
+    }
+
+    private void stopTrackingOnFailure(RedisConnection connection) {
+        connection.exceptionHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                if (connection == subscriber || connection == tracker) {
+                    stopTracking(failure);
+                }
+            }
+        });
+        connection.endHandler(new Runnable() {
+            @Override
+            public void run() {
+                // the connections closed when the tracking was stopped are ignored
+                if (connection == subscriber || connection == tracker) {
+                    stopTracking(null);
+                }
+            }
+        });
+    }
+
+    private void stopTracking(Throwable failure) {
+        if (failure != null) {
+            if (retryDelay == INITIAL_RETRY_DELAY) {
+                log.warnf(failure, "Unable to track the keys with prefix %s, the near cache is disabled until the tracking"
+                        + " is re-established", prefix);
+            } else {
+                log.debugf(failure, "Unable to track the keys with prefix %s", prefix);
+            }
+        }
+        tracking = false;
+        invalidateAll();
+        long delay = retryDelay;
+        nextAttempt = System.nanoTime() + delay;
+        retryDelay = Math.min(delay * 2, MAX_RETRY_DELAY);
+        release().subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+                starting.set(false);
+            }
+        });
+    }
+
+    /**
+     * Stops the tracking and closes the dedicated Redis client, waiting for the connections to be released.
+     */
+    void close() {
+        closed = true;
+        tracking = false;
+        invalidateAll();
+        try {
+            release().await().atMost(RELEASE_TIMEOUT.multipliedBy(2));
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to release the tracking connections of the keys with prefix %s", prefix);
+        } finally {
+            redis.close();
+        }
+    }
+
+    /**
+     * Takes the connections out of the subscription and tracking modes, and closes them.
+     */
+    private Uni<Void> release() {
+        RedisConnection subscriber = this.subscriber;
+        RedisConnection tracker = this.tracker;
+        this.subscriber = null;
+        this.tracker = null;
+        return Uni.combine().all()
+                .unis(release(tracker, Request.cmd(Command.CLIENT).arg("TRACKING").arg("OFF")),
+                        release(subscriber, Request.cmd(Command.UNSUBSCRIBE).arg(INVALIDATION_CHANNEL)))
+                .discardItems();
+    }
+
+    private static Uni<Void> release(RedisConnection connection, Request reset) {
+        if (connection == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return connection.send(reset)
+                .ifNoItem().after(RELEASE_TIMEOUT).fail()
+                .onFailure().recoverWithNull()
+                .chain(new Function<Response, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<Void> apply(Response ignored) {
+                        return connection.close();
+                    }
+                })
+                .onFailure().recoverWithNull();
+    }
+
+    void onMessage(Response message) {
+        // [message, __redis__:invalidate, [key1, key2, ...] or null if the whole database was flushed]
+        if (message == null || message.size() < 3 || !"message".equals(message.get(0).toString())
+                || !INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        Response keys = message.get(2);
+        if (keys == null) {
+            invalidateAll();
+            return;
+        }
+        invalidations.incrementAndGet();
+        try {
+            for (Response key : keys) {
+                entries.invalidate(key.toString(StandardCharsets.UTF_8));
+            }
+        } catch (RuntimeException e) {
+            // not an array of keys
+            entries.invalidateAll();
+        }
+    }
+
+    private static final class RefreshableValue {
+        private final Object value;
+        // the System.nanoTime() value after which the Redis entry must be refreshed
+        private final long refreshAt;
+
+        private RefreshableValue(Object value, long refreshAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
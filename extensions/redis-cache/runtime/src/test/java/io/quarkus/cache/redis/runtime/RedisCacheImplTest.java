@@ -7,12 +7,18 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterEach;
@@ -564,6 +570,229 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testNearCache() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class.getName();
+        info.nearCacheMaximumSize = Optional.of(100L);
+        // two instances of the application, each one with a client dedicated to its near cache
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, createNearCacheClient(), BLOCKING_ALLOWED);
+        RedisCacheImpl other = new RedisCacheImpl(info, vertx, redis, createNearCacheClient(), BLOCKING_ALLOWED);
+        cache.getNearCache().startTracking();
+        other.getNearCache().startTracking();
+        await().until(() -> cache.getNearCache().isTracking() && other.getNearCache().isTracking());
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        await().untilAsserted(() -> {
+            assertThat(cache.get(k, s -> "computed").await().indefinitely()).isEqualTo("hello");
+            assertThat(cache.getNearCache().size()).isEqualTo(1);
+        });
+
+        // modified by the other instance
+        other.put(k, "bonjour").await().indefinitely();
+        await().untilAsserted(() -> {
+            assertThat(cache.get(k, s -> "computed").await().indefinitely()).isEqualTo("bonjour");
+            assertThat(cache.getNearCache().size()).isEqualTo(1);
+        });
+
+        // deleted directly in Redis
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        await().until(() -> cache.getNearCache().size() == 0);
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+
+        // the subscriptions are released on shutdown
+        cache.close();
+        other.close();
+        assertThat(cache.getNearCache().isTracking()).isFalse();
+        assertThat(redis.send(Request.cmd(Command.PUBSUB).arg("NUMSUB").arg(RedisNearCache.INVALIDATION_CHANNEL))
+                .await().indefinitely().get(1).toLong()).isZero();
+    }
+
+    @Test
+    void testNearCacheRequiresDedicatedClient() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class.getName();
+        info.nearCacheMaximumSize = Optional.of(100L);
+        assertThatThrownBy(() -> new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Redis createNearCacheClient() {
+        return Redis.createClient(vertx, "redis://" + server.getHost() + ":" + server.getFirstMappedPort());
+    }
+
+    @Test
+    void testRefreshAhead() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "refresh";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(4));
+        info.refreshAheadFactor = Optional.of(0.25);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.get(k, s -> "v1").await().indefinitely()).isEqualTo("v1");
+        assertThat(cache.get(k, s -> "v2").await().indefinitely()).isEqualTo("v1");
+
+        // past 25% of the expire-after-write duration, the current value is returned and the entry is refreshed
+        Thread.sleep(1500);
+        assertThat(cache.get(k, s -> "v2").await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(
+                () -> assertThat(cache.get(k, s -> "v3").await().indefinitely()).isEqualTo("v2"));
+        assertThat(redis.send(Request.cmd(Command.TTL).arg("cache:refresh:" + k)).await().indefinitely().toLong())
+                .isGreaterThan(2);
+
+        // same with an asynchronous value loader
+        Thread.sleep(1500);
+        assertThat(cache.getAsync(k, s -> Uni.createFrom().item("v4")).await().indefinitely()).isEqualTo("v2");
+        await().untilAsserted(() -> assertThat(cache.getAsync(k, s -> Uni.createFrom().item("v5"))
+                .await().indefinitely()).isEqualTo("v4"));
+    }
+
+    @Test
+    void testRefreshAheadWithNearCache() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "refresh-near";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(4));
+        info.refreshAheadFactor = Optional.of(0.25);
+        info.nearCacheMaximumSize = Optional.of(100L);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, createNearCacheClient(), BLOCKING_ALLOWED);
+        cache.getNearCache().startTracking();
+        await().until(() -> cache.getNearCache().isTracking());
+
+        assertThat(cache.get(k, s -> "v1").await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(() -> {
+            assertThat(cache.get(k, s -> "computed").await().indefinitely()).isEqualTo("v1");
+            assertThat(cache.getNearCache().size()).isEqualTo(1);
+        });
+
+        // the local value is not returned anymore once the entry is old enough, so that the entry is refreshed
+        Thread.sleep(1500);
+        assertThat(cache.get(k, s -> "v2").await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(
+                () -> assertThat(cache.get(k, s -> "v3").await().indefinitely()).isEqualTo("v2"));
+        cache.close();
+    }
+
+    @Test
+    void testRefreshDoesNotOverwriteConcurrentWrite() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "refresh";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(4));
+        info.refreshAheadFactor = Optional.of(0.25);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl other = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get(k, s -> "v1").await().indefinitely()).isEqualTo("v1");
+
+        // the value is replaced by another instance while it is refreshed
+        Thread.sleep(1500);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch replaced = new CountDownLatch(1);
+        assertThat(cache.get(k, s -> {
+            refreshing.countDown();
+            try {
+                replaced.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "refreshed";
+        }).await().indefinitely()).isEqualTo("v1");
+        assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+        other.put(k, "other").await().indefinitely();
+        replaced.countDown();
+
+        Thread.sleep(500);
+        assertThat(cache.get(k, s -> "computed").await().indefinitely()).isEqualTo("other");
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "stale";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.staleWhileRevalidate = Optional.of(Duration.ofHours(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.get(k, s -> "v1").await().indefinitely()).isEqualTo("v1");
+
+        // the entry is expired, but it is still returned while it is recomputed
+        Thread.sleep(1500);
+        assertThat(cache.get(k, s -> "v2").await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(
+                () -> assertThat(cache.get(k, s -> "v3").await().indefinitely()).isEqualTo("v2"));
+
+        // an invalidated entry is not restored by a refresh
+        cache.invalidate(k).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    void testGetAll() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        String k3 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k1, "v1").await().indefinitely();
+
+        List<Set<String>> loaded = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(new LinkedHashSet<>(List.of(k1, k2, k3)), missing -> {
+            loaded.add(Set.copyOf(missing));
+            Map<String, String> computed = new HashMap<>();
+            computed.put(k2, "v2");
+            return Uni.createFrom().item(computed);
+        }).await().indefinitely();
+
+        // only the missing keys are computed, and the keys without value are not cached
+        assertThat(values).isEqualTo(Map.of(k1, "v1", k2, "v2"));
+        assertThat(loaded).containsExactly(Set.of(k2, k3));
+        assertThatTheKeyDoesExist("cache:bulk:" + k2);
+        assertThatTheKeyDoesNotExist("cache:bulk:" + k3);
+        assertThat(cache.getOrNull(k2, String.class).await().indefinitely()).isEqualTo("v2");
+    }
+
+    @Test
+    void testGetAllWithStaleWhileRevalidate() throws InterruptedException {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "stale";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.staleWhileRevalidate = Optional.of(Duration.ofHours(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k1, "v1").await().indefinitely();
+        cache.put(k2, "v1").await().indefinitely();
+
+        // the expired entries are still returned, and they are recomputed with a single invocation of the loader
+        Thread.sleep(1500);
+        List<Set<String>> loaded = new CopyOnWriteArrayList<>();
+        Set<String> keys = new LinkedHashSet<>(List.of(k1, k2));
+        assertThat(cache.<String, String> getAll(keys, missing -> {
+            loaded.add(Set.copyOf(missing));
+            Map<String, String> computed = new HashMap<>();
+            for (String key : missing) {
+                computed.put(key, "v2");
+            }
+            return Uni.createFrom().item(computed);
+        }).await().indefinitely()).isEqualTo(Map.of(k1, "v1", k2, "v1"));
+        await().untilAsserted(() -> assertThat(cache.getOrNull(k1, String.class).await().indefinitely()).isEqualTo("v2"));
+        await().untilAsserted(() -> assertThat(cache.getOrNull(k2, String.class).await().indefinitely()).isEqualTo("v2"));
+        assertThat(loaded).containsExactly(Set.of(k1, k2));
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
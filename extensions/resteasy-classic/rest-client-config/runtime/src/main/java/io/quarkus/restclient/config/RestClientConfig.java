@@ -52,9 +52,13 @@ public class RestClientConfig {
         EMPTY.name = Optional.empty();
         EMPTY.userAgent = Optional.empty();
         EMPTY.http2 = Optional.empty();
+        EMPTY.http2ConnectionPoolSize = Optional.empty();
+        EMPTY.http2MultiplexingLimit = Optional.empty();
         EMPTY.maxChunkSize = Optional.empty();
         EMPTY.alpn = Optional.empty();
         EMPTY.captureStacktrace = Optional.empty();
+        EMPTY.coalesceRequests = Optional.empty();
+        EMPTY.httpCacheSize = Optional.empty();
     }
 
     public RestClientMultipartConfig multipart;
@@ -238,7 +242,9 @@ public class RestClientConfig {
     /**
      * Set to true to share the HTTP client between REST clients.
      * There can be multiple shared clients distinguished by <em>name</em>, when no specific name is set,
-     * the name <code>__vertx.DEFAULT</code> is used.
+     * the name <code>__vertx.DEFAULT</code> is used. The clients with the same specific name share their HTTP client,
+     * which is configured by the first of them, and a warning is logged if their HTTP options differ. Without a specific
+     * name, only the clients with the same HTTP options share their HTTP client.
      * <p>
      * This property is not applicable to the RESTEasy Client.
      */
@@ -267,6 +273,24 @@ public class RestClientConfig {
     @ConfigItem
     public Optional<Boolean> http2;
 
+    /**
+     * The maximum number of HTTP/2 connections per host, each of them multiplexing concurrent requests.
+     * Defaults to the size of the connection pool.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigItem
+    public Optional<Integer> http2ConnectionPoolSize;
+
+    /**
+     * The maximum number of concurrent requests (streams) per HTTP/2 connection. By default, the limit advertised by
+     * the server is used.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigItem
+    public Optional<Integer> http2MultiplexingLimit;
+
     /**
      * The max HTTP chunk size (8096 bytes by default).
      * <p>
@@ -292,6 +316,26 @@ public class RestClientConfig {
     @ConfigItem
     public Optional<Boolean> captureStacktrace;
 
+    /**
+     * If {@code true}, the identical invocations of the GET, HEAD and OPTIONS methods without body that are in flight at
+     * the same time share the result of a single HTTP request. The invocations are identical when they target the same
+     * URI with the same return type and the same headers, once the request filters and the headers factory have been
+     * applied. The returned object is shared by the coalesced invocations, so it must not be modified.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigItem
+    public Optional<Boolean> coalesceRequests;
+
+    /**
+     * The maximum size of the responses cached in memory by the client. If set, the responses to the GET requests are
+     * cached according to their `Cache-Control`, `Expires`, `ETag` and `Last-Modified` headers.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigItem
+    public Optional<MemorySize> httpCacheSize;
+
     public static RestClientConfig load(String configKey) {
         final RestClientConfig instance = new RestClientConfig();
 
@@ -324,9 +368,13 @@ public static RestClientConfig load(String configKey) {
         instance.name = getConfigValue(configKey, "name", String.class);
         instance.userAgent = getConfigValue(configKey, "user-agent", String.class);
         instance.http2 = getConfigValue(configKey, "http2", Boolean.class);
+        instance.http2ConnectionPoolSize = getConfigValue(configKey, "http2-connection-pool-size", Integer.class);
+        instance.http2MultiplexingLimit = getConfigValue(configKey, "http2-multiplexing-limit", Integer.class);
         instance.maxChunkSize = getConfigValue(configKey, "max-chunk-size", MemorySize.class);
         instance.alpn = getConfigValue(configKey, "alpn", Boolean.class);
         instance.captureStacktrace = getConfigValue(configKey, "capture-stacktrace", Boolean.class);
+        instance.coalesceRequests = getConfigValue(configKey, "coalesce-requests", Boolean.class);
+        instance.httpCacheSize = getConfigValue(configKey, "http-cache-size", MemorySize.class);
 
         instance.multipart = new RestClientMultipartConfig();
         instance.multipart.maxChunkSize = getConfigValue(configKey, "multipart.max-chunk-size", Integer.class);
@@ -365,9 +413,13 @@ public static RestClientConfig load(Class<?> interfaceClass) {
         instance.name = getConfigValue(interfaceClass, "name", String.class);
         instance.userAgent = getConfigValue(interfaceClass, "user-agent", String.class);
         instance.http2 = getConfigValue(interfaceClass, "http2", Boolean.class);
+        instance.http2ConnectionPoolSize = getConfigValue(interfaceClass, "http2-connection-pool-size", Integer.class);
+        instance.http2MultiplexingLimit = getConfigValue(interfaceClass, "http2-multiplexing-limit", Integer.class);
         instance.maxChunkSize = getConfigValue(interfaceClass, "max-chunk-size", MemorySize.class);
         instance.alpn = getConfigValue(interfaceClass, "alpn", Boolean.class);
         instance.captureStacktrace = getConfigValue(interfaceClass, "capture-stacktrace", Boolean.class);
+        instance.coalesceRequests = getConfigValue(interfaceClass, "coalesce-requests", Boolean.class);
+        instance.httpCacheSize = getConfigValue(interfaceClass, "http-cache-size", MemorySize.class);
 
         instance.multipart = new RestClientMultipartConfig();
         instance.multipart.maxChunkSize = getConfigValue(interfaceClass, "multipart.max-chunk-size", Integer.class);
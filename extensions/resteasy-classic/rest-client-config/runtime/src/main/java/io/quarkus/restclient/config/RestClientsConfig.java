@@ -282,6 +282,43 @@ public class RestClientsConfig {
     @ConfigItem(defaultValue = "false")
     public boolean http2;
 
+    /**
+     * The maximum number of HTTP/2 connections per host, each of them multiplexing concurrent requests.
+     * Defaults to the size of the connection pool.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Integer> http2ConnectionPoolSize;
+
+    /**
+     * The maximum number of concurrent requests (streams) per HTTP/2 connection. By default, the limit advertised by
+     * the server is used.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Integer> http2MultiplexingLimit;
+
+    /**
+     * Set to true to share the HTTP clients between all the REST clients. The connections of the shared clients are
+     * pooled per host, so that the REST clients targeting the same host reuse the same connections. Unless they are given the
+     * same shared client name, only the REST clients with the same HTTP options, such as the TLS, proxy, timeout, pool
+     * size and HTTP/2 settings, share the same HTTP client.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Boolean> shared;
+
+    /**
+     * If {@code true}, the metrics of the connection pools of the REST clients are reported when the Micrometer extension
+     * is present: the time spent by the requests waiting for a connection, the number of waiting requests and the number
+     * of active requests per host.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean poolMetricsEnabled;
+
     /**
      * The max HTTP chunk size (8096 bytes by default).
      * <p>
@@ -307,6 +344,26 @@ public class RestClientsConfig {
     @ConfigItem(defaultValue = "true")
     public boolean captureStacktrace;
 
+    /**
+     * If {@code true}, the identical invocations of the GET, HEAD and OPTIONS methods without body that are in flight at
+     * the same time share the result of a single HTTP request. The invocations are identical when they target the same
+     * URI with the same return type and the same headers, once the request filters and the headers factory have been
+     * applied. The returned object is shared by the coalesced invocations, so it must not be modified.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean coalesceRequests;
+
+    /**
+     * The maximum size of the responses cached in memory by each client. If set, the responses to the GET requests are
+     * cached according to their `Cache-Control`, `Expires`, `ETag` and `Last-Modified` headers.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<MemorySize> httpCacheSize;
+
     public RestClientConfig getClientConfig(String configKey) {
         if (configKey == null) {
             return RestClientConfig.EMPTY;
@@ -0,0 +1,111 @@
+package io.quarkus.rest.client.reactive.jackson.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Tests that the elements of a JSON array are emitted one by one when the return type is a {@link Multi}
+ */
+public class MultiJsonArrayTest {
+
+    private static final int COUNT = 10_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Item.class, ItemClient.class, ItemResource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    void shouldReadAllElements() {
+        List<Item> items = createClient().get()
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(items).hasSize(COUNT);
+        assertThat(items.get(0).id).isEqualTo(0);
+        assertThat(items.get(0).name).isEqualTo("item, \"0\"");
+        assertThat(items.get(COUNT - 1).id).isEqualTo(COUNT - 1);
+    }
+
+    @Test
+    void shouldReadElementsOnDemand() {
+        List<Item> items = createClient().get()
+                .select().first(3)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(items).extracting(item -> item.id).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void shouldReadEmptyArray() {
+        List<Item> items = createClient().empty()
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(items).isEmpty();
+    }
+
+    private ItemClient createClient() {
+        return QuarkusRestClientBuilder.newBuilder()
+                .baseUri(uri)
+                .build(ItemClient.class);
+    }
+
+    @Path("/items")
+    public interface ItemClient {
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        Multi<Item> get();
+
+        @GET
+        @Path("/empty")
+        @Produces(MediaType.APPLICATION_JSON)
+        Multi<Item> empty();
+    }
+
+    @Path("/items")
+    public static class ItemResource {
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Item> get() {
+            return Multi.createFrom().range(0, COUNT).map(i -> new Item(i, "item, \"" + i + "\""));
+        }
+
+        @GET
+        @Path("/empty")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Item> empty() {
+            return Multi.createFrom().empty();
+        }
+    }
+
+    public static class Item {
+        public int id;
+        public String name;
+
+        public Item() {
+        }
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
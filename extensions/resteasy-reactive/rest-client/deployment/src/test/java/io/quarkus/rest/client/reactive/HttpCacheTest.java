@@ -0,0 +1,178 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class HttpCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, Resource.class, TenantFilter.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    Client client;
+
+    @BeforeEach
+    void setUp() {
+        Resource.REQUESTS.clear();
+        Resource.NOT_MODIFIED.set(0);
+        TenantFilter.TENANT.set("acme");
+        client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.HTTP_CACHE_SIZE, 1024 * 1024L)
+                .register(new TenantFilter())
+                .build(Client.class);
+    }
+
+    @Test
+    void freshResponseIsServedFromTheCache() {
+        assertThat(client.get("public, max-age=60", null)).isEqualTo("1");
+        assertThat(client.get("public, max-age=60", null)).isEqualTo("1");
+        assertThat(Resource.requests("public, max-age=60")).isEqualTo(1);
+    }
+
+    @Test
+    void staleResponseIsRevalidated() {
+        assertThat(client.getWithEtag()).isEqualTo("1");
+        assertThat(client.getWithEtag()).isEqualTo("1");
+        assertThat(Resource.requests("etag")).isEqualTo(2);
+        assertThat(Resource.NOT_MODIFIED.get()).isEqualTo(1);
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() {
+        assertThat(client.get("no-store, max-age=60", null)).isEqualTo("1");
+        assertThat(client.get("no-store, max-age=60", null)).isEqualTo("2");
+    }
+
+    @Test
+    void privateResponseIsNotCached() {
+        assertThat(client.get("private, max-age=60", null)).isEqualTo("1");
+        assertThat(client.get("private, max-age=60", null)).isEqualTo("2");
+    }
+
+    @Test
+    void unsafeRequestInvalidatesTheCachedResponse() {
+        assertThat(client.get("max-age=60", null)).isEqualTo("1");
+        client.put("max-age=60");
+        assertThat(client.get("max-age=60", null)).isEqualTo("2");
+        assertThat(client.get("max-age=60", null)).isEqualTo("2");
+    }
+
+    @Test
+    void authorizedResponseIsNotReusedForAnotherAuthorization() {
+        assertThat(client.get("max-age=60", "Bearer alice")).isEqualTo("1");
+        assertThat(client.get("max-age=60", "Bearer bob")).isEqualTo("2");
+        assertThat(client.get("max-age=60", "Bearer alice")).isEqualTo("3");
+    }
+
+    @Test
+    void publicAuthorizedResponseIsCached() {
+        assertThat(client.get("public, max-age=60", "Bearer alice")).isEqualTo("1");
+        assertThat(client.get("public, max-age=60", "Bearer alice")).isEqualTo("1");
+    }
+
+    @Test
+    void varyingHeadersSetByFiltersAreCompared() {
+        assertThat(client.getVaryingOnTenant()).isEqualTo("acme-1");
+        assertThat(client.getVaryingOnTenant()).isEqualTo("acme-1");
+        TenantFilter.TENANT.set("globex");
+        assertThat(client.getVaryingOnTenant()).isEqualTo("globex-2");
+    }
+
+    @Path("/http-cache")
+    public interface Client {
+        @GET
+        @Path("/{cacheControl}")
+        String get(@PathParam("cacheControl") String cacheControl, @HeaderParam(HttpHeaders.AUTHORIZATION) String auth);
+
+        @PUT
+        @Path("/{cacheControl}")
+        void put(@PathParam("cacheControl") String cacheControl);
+
+        @GET
+        @Path("/etag")
+        String getWithEtag();
+
+        @GET
+        @Path("/tenant")
+        String getVaryingOnTenant();
+    }
+
+    public static class TenantFilter implements ClientRequestFilter {
+
+        static final AtomicReference<String> TENANT = new AtomicReference<>();
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            requestContext.getHeaders().putSingle("X-Tenant", TENANT.get());
+        }
+    }
+
+    @Path("/http-cache")
+    public static class Resource {
+
+        static final Map<String, AtomicInteger> REQUESTS = new ConcurrentHashMap<>();
+        static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+
+        static int requests(String path) {
+            return REQUESTS.computeIfAbsent(path, k -> new AtomicInteger()).get();
+        }
+
+        @GET
+        @Path("/{cacheControl}")
+        public Response get(@PathParam("cacheControl") String cacheControl) {
+            int count = REQUESTS.computeIfAbsent(cacheControl, k -> new AtomicInteger()).incrementAndGet();
+            return Response.ok(String.valueOf(count)).header(HttpHeaders.CACHE_CONTROL, cacheControl).build();
+        }
+
+        @PUT
+        @Path("/{cacheControl}")
+        public void put(@PathParam("cacheControl") String cacheControl) {
+        }
+
+        @GET
+        @Path("/etag")
+        public Response getWithEtag(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+            REQUESTS.computeIfAbsent("etag", k -> new AtomicInteger()).incrementAndGet();
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                NOT_MODIFIED.incrementAndGet();
+                return Response.notModified().header(HttpHeaders.ETAG, "\"v1\"").build();
+            }
+            return Response.ok("1").header(HttpHeaders.CACHE_CONTROL, "no-cache").header(HttpHeaders.ETAG, "\"v1\"")
+                    .build();
+        }
+
+        @GET
+        @Path("/tenant")
+        public Response getVaryingOnTenant(@HeaderParam("X-Tenant") String tenant) {
+            int count = REQUESTS.computeIfAbsent("tenant", k -> new AtomicInteger()).incrementAndGet();
+            return Response.ok(tenant + "-" + count).header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                    .header(HttpHeaders.VARY, "X-Tenant").build();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class RequestCoalescingTest {
+
+    private static final int CALLERS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, Resource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void identicalRequestsAreCoalescedAndCompletedOnTheContextOfTheirCaller() throws Exception {
+        Client client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.COALESCE_REQUESTS, true)
+                .build(Client.class);
+
+        List<Context> callerContexts = new ArrayList<>();
+        List<CompletableFuture<Context>> completionContexts = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            Context callerContext = vertx.getOrCreateContext();
+            CompletableFuture<Context> completionContext = new CompletableFuture<>();
+            CompletableFuture<String> result = new CompletableFuture<>();
+            callerContext.runOnContext(v -> client.get().whenComplete((value, throwable) -> {
+                completionContext.complete(Vertx.currentContext());
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            }));
+            callerContexts.add(callerContext);
+            completionContexts.add(completionContext);
+            results.add(result);
+        }
+
+        for (int i = 0; i < CALLERS; i++) {
+            assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("hello");
+            // the coalesced invocations do not complete on the context of the invocation performing the request
+            assertThat(completionContexts.get(i).get(10, TimeUnit.SECONDS)).isSameAs(callerContexts.get(i));
+        }
+        assertThat(Resource.HITS.get()).isEqualTo(1);
+    }
+
+    @Path("/coalesced")
+    public interface Client {
+        @GET
+        CompletionStage<String> get();
+    }
+
+    @Path("/coalesced")
+    public static class Resource {
+
+        static final AtomicInteger HITS = new AtomicInteger();
+
+        @GET
+        public String get() throws InterruptedException {
+            HITS.incrementAndGet();
+            // keeps the request in flight until all the callers have sent theirs
+            Thread.sleep(1000);
+            return "hello";
+        }
+    }
+}
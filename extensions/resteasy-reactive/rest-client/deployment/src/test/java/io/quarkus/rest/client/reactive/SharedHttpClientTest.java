@@ -0,0 +1,70 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class SharedHttpClientTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, Resource.class))
+            .overrideConfigKey("quarkus.rest-client.shared", "true");
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    void sharedClientsKeepTheirOwnOptions() {
+        Client defaultHeaderSize = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .build(Client.class);
+        Client smallHeaderSize = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.MAX_HEADER_SIZE, 1024)
+                .build(Client.class);
+
+        assertThat(defaultHeaderSize.get()).isEqualTo("hello");
+        // the programmatic clients are shared too, but only with the clients having the same options
+        assertThatThrownBy(smallHeaderSize::get).isNotNull();
+    }
+
+    @Test
+    void clientsWithTheSameNameShareTheirHttpClient() {
+        Client defaultHeaderSize = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.NAME, "named")
+                .build(Client.class);
+        Client smallHeaderSize = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.NAME, "named")
+                .property(QuarkusRestClientProperties.MAX_HEADER_SIZE, 1024)
+                .build(Client.class);
+
+        // the HTTP client is configured by the first client with that name
+        assertThat(defaultHeaderSize.get()).isEqualTo("hello");
+        assertThat(smallHeaderSize.get()).isEqualTo("hello");
+    }
+
+    @Path("/shared")
+    public interface Client {
+        @GET
+        String get();
+    }
+
+    @Path("/shared")
+    public static class Resource {
+        @GET
+        public Response get() {
+            return Response.ok("hello").header("X-Large", "x".repeat(2048)).build();
+        }
+    }
+}
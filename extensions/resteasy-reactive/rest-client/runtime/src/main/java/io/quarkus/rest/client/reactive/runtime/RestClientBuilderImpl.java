@@ -430,6 +430,35 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             clientBuilder.alpn(restClientsConfig.alpn.get());
         }
 
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE)
+                && restClientsConfig.http2ConnectionPoolSize.isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE,
+                    restClientsConfig.http2ConnectionPoolSize.get());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT)
+                && restClientsConfig.http2MultiplexingLimit.isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT,
+                    restClientsConfig.http2MultiplexingLimit.get());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.SHARED)
+                && restClientsConfig.shared.isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.SHARED, restClientsConfig.shared.get());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.COALESCE_REQUESTS)
+                && restClientsConfig.coalesceRequests) {
+            clientBuilder.property(QuarkusRestClientProperties.COALESCE_REQUESTS, true);
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP_CACHE_SIZE)
+                && !getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP_CACHE)
+                && restClientsConfig.httpCacheSize.isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP_CACHE_SIZE,
+                    restClientsConfig.httpCacheSize.get().asLongValue());
+        }
+
         Boolean enableCompression = ConfigProvider.getConfig()
                 .getOptionalValue(ENABLE_COMPRESSION, Boolean.class).orElse(false);
         if (enableCompression) {
@@ -36,6 +36,9 @@
     private static final String REST_URL_FORMAT = "quarkus.rest-client.%s.url";
     private static final String REST_URI_FORMAT = "quarkus.rest-client.%s.uri";
     private static final String NONE = "none";
+    // the type of the metrics name of the HTTP clients, see io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderAdapter
+    private static final String POOL_METRICS_PREFIX = "rest-client";
+    private static final String SHARED_CLIENT_DEFAULT_NAME = "shared";
 
     private final Class<T> jaxrsInterface;
     private final String baseUriFromAnnotation;
@@ -74,6 +77,7 @@ void configureBuilder(QuarkusRestClientBuilder builder) {
         configureProxy(builder);
         configureShared(builder);
         configureCustomProperties(builder);
+        configurePoolMetrics(builder);
     }
 
     private void configureCustomProperties(QuarkusRestClientBuilder builder) {
@@ -138,6 +142,18 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
                 clientConfigByConfigKey().http2).orElse(configRoot.http2);
         builder.property(QuarkusRestClientProperties.HTTP2, http2);
 
+        Optional<Integer> http2PoolSize = oneOf(clientConfigByClassName().http2ConnectionPoolSize,
+                clientConfigByConfigKey().http2ConnectionPoolSize, configRoot.http2ConnectionPoolSize);
+        if (http2PoolSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, http2PoolSize.get());
+        }
+
+        Optional<Integer> http2MultiplexingLimit = oneOf(clientConfigByClassName().http2MultiplexingLimit,
+                clientConfigByConfigKey().http2MultiplexingLimit, configRoot.http2MultiplexingLimit);
+        if (http2MultiplexingLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, http2MultiplexingLimit.get());
+        }
+
         Optional<Boolean> alpn = oneOf(clientConfigByClassName().alpn,
                 clientConfigByConfigKey().alpn, configRoot.alpn);
         if (alpn.isPresent()) {
@@ -147,6 +163,16 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Boolean captureStacktrace = oneOf(clientConfigByClassName().captureStacktrace,
                 clientConfigByConfigKey().captureStacktrace).orElse(configRoot.captureStacktrace);
         builder.property(QuarkusRestClientProperties.CAPTURE_STACKTRACE, captureStacktrace);
+
+        Boolean coalesceRequests = oneOf(clientConfigByClassName().coalesceRequests,
+                clientConfigByConfigKey().coalesceRequests).orElse(configRoot.coalesceRequests);
+        builder.property(QuarkusRestClientProperties.COALESCE_REQUESTS, coalesceRequests);
+
+        Optional<MemorySize> httpCacheSize = oneOf(clientConfigByClassName().httpCacheSize,
+                clientConfigByConfigKey().httpCacheSize, configRoot.httpCacheSize);
+        if (httpCacheSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP_CACHE_SIZE, httpCacheSize.get().asLongValue());
+        }
     }
 
     private static Function<MemorySize, Integer> intChunkSize() {
@@ -201,14 +227,13 @@ private void configureRedirects(QuarkusRestClientBuilder builder) {
 
     private void configureShared(QuarkusRestClientBuilder builder) {
         Optional<Boolean> shared = oneOf(clientConfigByClassName().shared,
-                clientConfigByConfigKey().shared);
+                clientConfigByConfigKey().shared, configRoot.shared);
         if (shared.isPresent()) {
             builder.property(QuarkusRestClientProperties.SHARED, shared.get());
 
             if (shared.get()) {
                 // Name is only used if shared = true
-                Optional<String> name = oneOf(clientConfigByClassName().name,
-                        clientConfigByConfigKey().name);
+                Optional<String> name = sharedName();
                 if (name.isPresent()) {
                     builder.property(QuarkusRestClientProperties.NAME, name.get());
                 }
@@ -216,6 +241,24 @@ private void configureShared(QuarkusRestClientBuilder builder) {
         }
     }
 
+    private void configurePoolMetrics(QuarkusRestClientBuilder builder) {
+        if (!configRoot.poolMetricsEnabled) {
+            return;
+        }
+        String clientName;
+        if (oneOf(clientConfigByClassName().shared, clientConfigByConfigKey().shared, configRoot.shared).orElse(false)) {
+            // the connection pool is created once for all the clients sharing it
+            clientName = sharedName().orElse(SHARED_CLIENT_DEFAULT_NAME);
+        } else {
+            clientName = configKey != null ? configKey : jaxrsInterface.getName();
+        }
+        builder.property(QuarkusRestClientProperties.METRICS_NAME, POOL_METRICS_PREFIX + "|" + clientName);
+    }
+
+    private Optional<String> sharedName() {
+        return oneOf(clientConfigByClassName().name, clientConfigByConfigKey().name);
+    }
+
     private void configureSsl(QuarkusRestClientBuilder builder) {
 
         Optional<String> maybeTrustStore = oneOf(clientConfigByClassName().trustStore, clientConfigByConfigKey().trustStore,
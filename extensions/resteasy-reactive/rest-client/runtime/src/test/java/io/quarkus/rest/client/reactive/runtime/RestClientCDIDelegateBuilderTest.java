@@ -114,6 +114,12 @@ public void testClientSpecificConfigs() {
                 Collections.singletonMap("header1", "value"));
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_TTL, 10); // value converted to seconds
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 103);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, 105);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, 106);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_REQUESTS, false);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP_CACHE_SIZE, 2048L);
+        // the connection pool is shared
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.METRICS_NAME, "rest-client|my-client");
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, false);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_REDIRECTS, 104);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_CHUNK_SIZE, 1024);
@@ -157,6 +163,11 @@ public void testGlobalConfigs() {
                 Collections.singletonMap("header2", "value"));
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_TTL, 20);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 203);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, 205);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, 206);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_REQUESTS, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP_CACHE_SIZE, 4096L);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.METRICS_NAME, "rest-client|test-client");
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, true);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_REDIRECTS, 204);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_CHUNK_SIZE, 1024);
@@ -186,6 +197,11 @@ private static RestClientsConfig createSampleConfigRoot() {
         configRoot.headers = Collections.singletonMap("header2", "value");
         configRoot.connectionTTL = Optional.of(20000); // value in ms, will be converted to seconds
         configRoot.connectionPoolSize = Optional.of(203);
+        configRoot.http2ConnectionPoolSize = Optional.of(205);
+        configRoot.http2MultiplexingLimit = Optional.of(206);
+        configRoot.poolMetricsEnabled = true;
+        configRoot.coalesceRequests = true;
+        configRoot.httpCacheSize = Optional.of(new MemorySize(BigInteger.valueOf(4096)));
         configRoot.keepAliveEnabled = Optional.of(true);
         configRoot.maxRedirects = Optional.of(204);
         configRoot.multipart = new RestClientMultipartConfig();
@@ -226,6 +242,10 @@ private static RestClientConfig createSampleClientConfig() {
         clientConfig.headers = Collections.singletonMap("header1", "value");
         clientConfig.connectionTTL = Optional.of(10000); // value in milliseconds, will be converted to seconds
         clientConfig.connectionPoolSize = Optional.of(103);
+        clientConfig.http2ConnectionPoolSize = Optional.of(105);
+        clientConfig.http2MultiplexingLimit = Optional.of(106);
+        clientConfig.coalesceRequests = Optional.of(false);
+        clientConfig.httpCacheSize = Optional.of(new MemorySize(BigInteger.valueOf(2048)));
         clientConfig.keepAliveEnabled = Optional.of(false);
         clientConfig.maxRedirects = Optional.of(104);
         clientConfig.followRedirects = Optional.of(true);
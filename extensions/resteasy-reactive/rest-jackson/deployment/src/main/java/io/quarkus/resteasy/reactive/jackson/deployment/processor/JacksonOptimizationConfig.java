@@ -0,0 +1,25 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "quarkus.rest.jackson.optimization")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface JacksonOptimizationConfig {
+
+    /**
+     * If enabled, Quarkus generates at build time a Jackson serializer for each type returned by a REST endpoint, and for
+     * the types of their properties, that writes the JSON properties without using reflection.
+     * <p>
+     * Types using Jackson annotations, {@code @SecureField} or a {@code @JacksonMixin}, generic types and types with a
+     * super class or subclasses keep being serialized by the default Jackson serializers. The generated serializers do
+     * not take into account the serialization features and property inclusion configured programmatically on the
+     * {@code ObjectMapper}, so they are not generated when {@code quarkus.jackson.serialization-inclusion} or
+     * {@code quarkus.jackson.property-naming-strategy} is set, or when the application declares an
+     * {@code ObjectMapperCustomizer}.
+     */
+    @WithDefault("false")
+    boolean enableReflectionFreeSerializers();
+}
@@ -0,0 +1,397 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates Jackson serializers that write the properties of a type with direct field reads and getter calls
+ * instead of going through the reflection based {@code BeanSerializer}.
+ * <p>
+ * Only types for which the generated serializer produces the same JSON as the default Jackson serializer, including
+ * the order of the properties, are supported: public, non-generic classes and records that only extend {@link Object}
+ * or {@link Record}, have no known subclass, do not inherit default getters, have at most one getter without a field
+ * and do not use any Jackson annotation. For every other type, Jackson keeps using its own serializers.
+ * <p>
+ * The generated serializers do not apply the mixins, nor the changes an {@code ObjectMapperCustomizer} makes to the
+ * serialization of the beans, so the callers must exclude the types that are affected by them.
+ */
+class JacksonSerializerFactory {
+
+    private static final String SERIALIZER_SUFFIX = "$quarkusjacksonserializer";
+    private static final String SERIALIZE_PROPERTIES = "serializeProperties";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName RECORD = DotName.createSimple("java.lang.Record");
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final DotName KOTLIN_METADATA = DotName.createSimple("kotlin.Metadata");
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Predicate<ClassInfo> excluded;
+    private final Map<DotName, String> serializers = new LinkedHashMap<>();
+
+    JacksonSerializerFactory(IndexView index, ClassOutput classOutput, Predicate<ClassInfo> excluded) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.excluded = excluded;
+    }
+
+    /**
+     * Generates a serializer for the given type, and for the types of its properties, when they are supported.
+     */
+    void generate(DotName typeName) {
+        Set<DotName> visited = new HashSet<>();
+        Deque<DotName> toVisit = new ArrayDeque<>();
+        toVisit.add(typeName);
+        while (!toVisit.isEmpty()) {
+            DotName current = toVisit.poll();
+            if (serializers.containsKey(current) || !visited.add(current)) {
+                continue;
+            }
+            ClassInfo classInfo = index.getClassByName(current);
+            if (classInfo == null || !isSupported(classInfo)) {
+                continue;
+            }
+            Map<String, Property> properties = collectProperties(classInfo);
+            if (properties == null || properties.isEmpty()) {
+                continue;
+            }
+            serializers.put(current, generateSerializer(classInfo, properties));
+            for (Property property : properties.values()) {
+                if (property.type.kind() == Type.Kind.CLASS) {
+                    toVisit.add(property.type.name());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the generated serializer class names, by the name of the class they serialize
+     */
+    Map<DotName, String> getSerializers() {
+        return serializers;
+    }
+
+    private boolean isSupported(ClassInfo classInfo) {
+        if (classInfo.name().toString().startsWith("java.")
+                || !Modifier.isPublic(classInfo.flags())
+                || Modifier.isAbstract(classInfo.flags())
+                || classInfo.isInterface() || classInfo.isEnum() || classInfo.isAnnotation()
+                || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        if (classInfo.nestingType() == ClassInfo.NestingType.LOCAL
+                || classInfo.nestingType() == ClassInfo.NestingType.ANONYMOUS) {
+            return false;
+        }
+        if (!classInfo.superName().equals(OBJECT) && !classInfo.superName().equals(RECORD)) {
+            // inherited properties would need to be collected from classes that may not be indexed
+            return false;
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (mayDeclareDefaultGetters(interfaceName)) {
+                // Jackson also serializes the default getters of the interfaces
+                return false;
+            }
+        }
+        if (!index.getAllKnownSubclasses(classInfo.name()).isEmpty()) {
+            // the serializer registered for a class is also used for its subclasses
+            return false;
+        }
+        if (classInfo.hasDeclaredAnnotation(KOTLIN_METADATA)) {
+            // the Kotlin module changes how the properties are detected
+            return false;
+        }
+        for (AnnotationInstance annotation : classInfo.annotations()) {
+            if (annotation.name().toString().startsWith(JACKSON_PACKAGE)) {
+                return false;
+            }
+        }
+        return !excluded.test(classInfo);
+    }
+
+    private boolean mayDeclareDefaultGetters(DotName interfaceName) {
+        if (interfaceName.toString().startsWith("java.")) {
+            return false;
+        }
+        ClassInfo interfaceInfo = index.getClassByName(interfaceName);
+        if (interfaceInfo == null) {
+            return true;
+        }
+        for (MethodInfo method : interfaceInfo.methods()) {
+            if (!Modifier.isAbstract(method.flags()) && getterPropertyName(method) != null) {
+                return true;
+            }
+        }
+        for (DotName superInterfaceName : interfaceInfo.interfaceNames()) {
+            if (mayDeclareDefaultGetters(superInterfaceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the properties Jackson would serialize with its default visibility rules: the public getters and the
+     * public fields for which there is no getter, or the components of a record.
+     *
+     * @return {@code null} if one of the properties cannot be serialized by the generated serializer
+     */
+    private static Map<String, Property> collectProperties(ClassInfo classInfo) {
+        Map<String, MethodInfo> getters = new LinkedHashMap<>();
+        for (MethodInfo method : classInfo.unsortedMethods()) {
+            String propertyName = getterPropertyName(method);
+            if (propertyName != null) {
+                getters.put(propertyName, method);
+            }
+        }
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+        if (classInfo.isRecord()) {
+            for (RecordComponentInfo component : classInfo.unsortedRecordComponents()) {
+                MethodInfo accessor = component.accessor();
+                if (accessor == null) {
+                    return null;
+                }
+                getters.remove(component.name());
+                properties.put(component.name(), new Property(component.name(), accessor.returnType(), null, accessor));
+            }
+        } else {
+            // the properties are ordered as the fields are declared, Jackson ignores the transient ones
+            for (FieldInfo field : classInfo.unsortedFields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())) {
+                    continue;
+                }
+                MethodInfo getter = getters.remove(field.name());
+                if (getter != null) {
+                    properties.put(field.name(), new Property(field.name(), getter.returnType(), null, getter));
+                } else if (Modifier.isPublic(field.flags())) {
+                    properties.put(field.name(), new Property(field.name(), field.type(), field, null));
+                }
+            }
+        }
+        if (getters.size() > 1) {
+            // the getters without field come last, in the order returned by Class.getDeclaredMethods(), which is not
+            // known at build time
+            return null;
+        }
+        for (Map.Entry<String, MethodInfo> getter : getters.entrySet()) {
+            properties.putIfAbsent(getter.getKey(),
+                    new Property(getter.getKey(), getter.getValue().returnType(), null, getter.getValue()));
+        }
+
+        for (Property property : properties.values()) {
+            if (property.type.kind() == Type.Kind.PRIMITIVE
+                    && property.type.asPrimitiveType().primitive() == PrimitiveType.Primitive.CHAR) {
+                // Jackson writes chars as strings
+                return null;
+            }
+        }
+        return properties;
+    }
+
+    private static String getterPropertyName(MethodInfo method) {
+        if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()
+                || method.parametersCount() != 0 || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (name.startsWith("get") && name.length() > 3) {
+            return manglePropertyName(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            return manglePropertyName(name.substring(2));
+        }
+        return null;
+    }
+
+    /**
+     * Lower cases the leading upper case characters of the property name, as Jackson does by default.
+     */
+    private static String manglePropertyName(String baseName) {
+        StringBuilder result = null;
+        for (int i = 0; i < baseName.length(); i++) {
+            char upper = baseName.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (result == null) {
+                result = new StringBuilder(baseName);
+            }
+            result.setCharAt(i, lower);
+        }
+        return result == null ? baseName : result.toString();
+    }
+
+    private String generateSerializer(ClassInfo classInfo, Map<String, Property> properties) {
+        String targetName = classInfo.name().toString();
+        String serializerName = targetName + SERIALIZER_SUFFIX;
+
+        try (ClassCreator classCreator = ClassCreator.builder()
+                .classOutput(classOutput).className(serializerName)
+                .superClass(StdSerializer.class)
+                .build()) {
+
+            try (MethodCreator constructor = classCreator.getMethodCreator("<init>", void.class)) {
+                constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(StdSerializer.class, Class.class),
+                        constructor.getThis(), constructor.loadClass(targetName));
+                constructor.returnValue(null);
+            }
+
+            MethodDescriptor serializeProperties = MethodDescriptor.ofMethod(serializerName, SERIALIZE_PROPERTIES,
+                    void.class, Object.class, JsonGenerator.class, SerializerProvider.class);
+            try (MethodCreator method = classCreator.getMethodCreator(serializeProperties)) {
+                method.setModifiers(Modifier.PRIVATE);
+                method.addException(IOException.class);
+                ResultHandle value = method.checkCast(method.getMethodParam(0), targetName);
+                ResultHandle generator = method.getMethodParam(1);
+                ResultHandle provider = method.getMethodParam(2);
+                for (Property property : properties.values()) {
+                    writeProperty(method, property, value, generator, provider);
+                }
+                method.returnValue(null);
+            }
+
+            // generator.writeStartObject(value); serializeProperties(...); generator.writeEndObject();
+            try (MethodCreator method = classCreator.getMethodCreator("serialize", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class)) {
+                method.addException(IOException.class);
+                ResultHandle value = method.getMethodParam(0);
+                ResultHandle generator = method.getMethodParam(1);
+                method.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(JsonGenerator.class, "writeStartObject", void.class, Object.class),
+                        generator, value);
+                method.invokeSpecialMethod(serializeProperties, method.getThis(), value, generator,
+                        method.getMethodParam(2));
+                method.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonGenerator.class, "writeEndObject", void.class),
+                        generator);
+                method.returnValue(null);
+            }
+
+            // used when the declared type of the value is annotated with @JsonTypeInfo
+            try (MethodCreator method = classCreator.getMethodCreator("serializeWithType", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class, TypeSerializer.class)) {
+                method.addException(IOException.class);
+                ResultHandle value = method.getMethodParam(0);
+                ResultHandle generator = method.getMethodParam(1);
+                ResultHandle typeSerializer = method.getMethodParam(3);
+                ResultHandle typeId = method.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(TypeSerializer.class, "typeId", WritableTypeId.class, Object.class,
+                                JsonToken.class),
+                        typeSerializer, value,
+                        method.readStaticField(FieldDescriptor.of(JsonToken.class, "START_OBJECT", JsonToken.class)));
+                typeId = method.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(TypeSerializer.class, "writeTypePrefix", WritableTypeId.class,
+                                JsonGenerator.class, WritableTypeId.class),
+                        typeSerializer, generator, typeId);
+                method.invokeSpecialMethod(serializeProperties, method.getThis(), value, generator,
+                        method.getMethodParam(2));
+                method.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(TypeSerializer.class, "writeTypeSuffix", WritableTypeId.class,
+                                JsonGenerator.class, WritableTypeId.class),
+                        typeSerializer, generator, typeId);
+                method.returnValue(null);
+            }
+        }
+        return serializerName;
+    }
+
+    private static void writeProperty(MethodCreator method, Property property, ResultHandle value,
+            ResultHandle generator, ResultHandle provider) {
+        ResultHandle propertyValue;
+        if (property.getter != null) {
+            propertyValue = method.invokeVirtualMethod(MethodDescriptor.of(property.getter), value);
+        } else {
+            propertyValue = method.readInstanceField(FieldDescriptor.of(property.field), value);
+        }
+        ResultHandle name = method.load(property.name);
+
+        Type type = property.type;
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    writeField(method, "writeBooleanField", boolean.class, generator, name, propertyValue);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    writeField(method, "writeNumberField", int.class, generator, name, propertyValue);
+                    return;
+                case LONG:
+                    writeField(method, "writeNumberField", long.class, generator, name, propertyValue);
+                    return;
+                case FLOAT:
+                    writeField(method, "writeNumberField", float.class, generator, name, propertyValue);
+                    return;
+                case DOUBLE:
+                    writeField(method, "writeNumberField", double.class, generator, name, propertyValue);
+                    return;
+                default:
+                    throw new IllegalStateException("Unsupported property type " + type);
+            }
+        }
+        if (type.kind() == Type.Kind.CLASS && type.name().equals(STRING)) {
+            writeField(method, "writeStringField", String.class, generator, name, propertyValue);
+            return;
+        }
+        // any other value is serialized by the serializer Jackson finds for its runtime type
+        method.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(SerializerProvider.class, "defaultSerializeField", void.class, String.class,
+                        Object.class, JsonGenerator.class),
+                provider, name, propertyValue, generator);
+    }
+
+    private static void writeField(MethodCreator method, String writeMethod, Class<?> valueType, ResultHandle generator,
+            ResultHandle name, ResultHandle value) {
+        method.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonGenerator.class, writeMethod, void.class, String.class,
+                valueType), generator, name, value);
+    }
+
+    private static final class Property {
+        private final String name;
+        private final Type type;
+        private final FieldInfo field;
+        private final MethodInfo getter;
+
+        private Property(String name, Type type, FieldInfo field, MethodInfo getter) {
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.getter = getter;
+        }
+    }
+}
@@ -48,16 +48,23 @@
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.JacksonMixin;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
+import io.quarkus.jackson.spi.JacksonModuleBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
@@ -102,6 +109,8 @@ public class ResteasyReactiveJacksonProcessor {
             .createSimple(DisableSecureSerialization.class.getName());
     private static final DotName ENABLE_SECURE_SERIALIZATION = DotName
             .createSimple(EnableSecureSerialization.class.getName());
+    private static final DotName JACKSON_MIXIN = DotName.createSimple(JacksonMixin.class.getName());
+    private static final DotName OBJECT_MAPPER_CUSTOMIZER = DotName.createSimple(ObjectMapperCustomizer.class.getName());
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
     private static final List<String> HANDLED_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, APPLICATION_NDJSON,
@@ -403,25 +412,9 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
             if (returnType.kind() == Type.Kind.VOID) {
                 continue;
             }
-            Type effectiveReturnType = returnType;
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_MULTI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
-                if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
-                    continue;
-                }
-
-                effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
-            }
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
-            } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
+            Type effectiveReturnType = getEffectiveReturnType(returnType);
+            if (effectiveReturnType == null) {
+                continue;
             }
 
             ClassInfo effectiveReturnClassInfo = indexView.getClassByName(effectiveReturnType.name());
@@ -452,6 +445,95 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
         }
     }
 
+    @BuildStep
+    public void generateReflectionFreeSerializers(JacksonOptimizationConfig optimizationConfig,
+            JacksonBuildTimeConfig jacksonConfig,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem index,
+            ApplicationIndexBuildItem applicationIndex,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<JacksonModuleBuildItem> jacksonModules) {
+        if (!optimizationConfig.enableReflectionFreeSerializers()) {
+            return;
+        }
+        if (jacksonConfig.serializationInclusion.isPresent() || jacksonConfig.propertyNamingStrategy.isPresent()) {
+            log.warn("Reflection-free Jackson serializers are not generated because 'quarkus.jackson.serialization-inclusion'"
+                    + " or 'quarkus.jackson.property-naming-strategy' is configured");
+            return;
+        }
+        // a customizer can change how any type is serialized, e.g. with a naming strategy, a mixin or a feature
+        Collection<ClassInfo> customizers = applicationIndex.getIndex().getAllKnownImplementors(OBJECT_MAPPER_CUSTOMIZER);
+        if (!customizers.isEmpty()) {
+            log.warnf("Reflection-free Jackson serializers are not generated because the application declares the"
+                    + " ObjectMapperCustomizer %s", customizers.iterator().next().name());
+            return;
+        }
+
+        IndexView indexView = index.getIndexView();
+        Set<DotName> mixinTargets = new HashSet<>();
+        for (AnnotationInstance mixin : indexView.getAnnotations(JACKSON_MIXIN)) {
+            if (mixin.target().kind() == AnnotationTarget.Kind.CLASS) {
+                for (Type target : mixin.value().asClassArray()) {
+                    mixinTargets.add(target.name());
+                }
+            }
+        }
+        JacksonSerializerFactory factory = new JacksonSerializerFactory(indexView,
+                new GeneratedClassGizmoAdaptor(generatedClasses, true),
+                // the mixins and the serialization of secured fields rely on the Jackson bean serializers
+                classInfo -> mixinTargets.contains(classInfo.name())
+                        || hasSecureFields(indexView, classInfo, new HashMap<>(), new AtomicBoolean(false)));
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            Type returnType = entry.getMethodInfo().returnType();
+            if (returnType.kind() == Type.Kind.VOID) {
+                continue;
+            }
+            Type effectiveReturnType = getEffectiveReturnType(returnType);
+            if (effectiveReturnType != null && effectiveReturnType.kind() == Type.Kind.CLASS) {
+                factory.generate(effectiveReturnType.name());
+            }
+        }
+        if (factory.getSerializers().isEmpty()) {
+            return;
+        }
+
+        JacksonModuleBuildItem.Builder module = new JacksonModuleBuildItem.Builder("rest-generated-serializers");
+        for (Map.Entry<DotName, String> serializer : factory.getSerializers().entrySet()) {
+            module.addSerializer(serializer.getValue(), serializer.getKey().toString());
+        }
+        jacksonModules.produce(module.build());
+    }
+
+    /**
+     * @return the type of the objects serialized for the given return type, or {@code null} if it cannot be determined
+     */
+    private static Type getEffectiveReturnType(Type returnType) {
+        Type effectiveReturnType = returnType;
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_MULTI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+
+            effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return effectiveReturnType;
+        }
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
+        } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
+        }
+        return effectiveReturnType;
+    }
+
     private static boolean hasSecureFields(IndexView indexView, ClassInfo currentClassInfo,
             Map<String, Boolean> typeToHasSecureField, AtomicBoolean needToDeleteCache) {
         // use cached result if there is any
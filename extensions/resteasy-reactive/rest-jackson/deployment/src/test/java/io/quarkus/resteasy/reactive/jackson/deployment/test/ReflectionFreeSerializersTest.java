@@ -0,0 +1,218 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.quarkus.jackson.JacksonMixin;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Book.class, Author.class, Review.class, Annotated.class, Mixed.class, MixedMixin.class,
+                            Computed.class, BookResource.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    // the JSON produced by the generated serializers must be the same as the one of the reflection based serializers
+    private static final ObjectMapper REFLECTIVE_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    void serializersAreGenerated() throws JsonMappingException {
+        assertTrue(isGenerated(Book.class));
+        assertTrue(isGenerated(Review.class));
+        // only used as the type of a property
+        assertTrue(isGenerated(Author.class));
+        // uses Jackson annotations
+        assertFalse(isGenerated(Annotated.class));
+        // the target of a mixin
+        assertFalse(isGenerated(Mixed.class));
+        // the order of its getters without field is only known at runtime
+        assertFalse(isGenerated(Computed.class));
+    }
+
+    @Test
+    void classIsSerialized() throws JsonProcessingException {
+        assertSerializedAsJackson("/books/book", BookResource.book());
+    }
+
+    @Test
+    void recordsAreSerialized() throws JsonProcessingException {
+        assertSerializedAsJackson("/books/reviews", BookResource.reviewList());
+    }
+
+    @Test
+    void annotatedClassIsSerializedByJackson() {
+        when().get("/books/annotated")
+                .then()
+                .statusCode(200)
+                .body(is("{\"renamed\":\"value\"}"));
+    }
+
+    @Test
+    void mixinIsApplied() {
+        when().get("/books/mixed")
+                .then()
+                .statusCode(200)
+                .body(is("{\"renamed\":\"value\"}"));
+    }
+
+    @Test
+    void computedPropertiesAreSerialized() throws JsonProcessingException {
+        assertSerializedAsJackson("/books/computed", new Computed());
+    }
+
+    private static void assertSerializedAsJackson(String path, Object expected) throws JsonProcessingException {
+        byte[] body = when().get(path)
+                .then()
+                .statusCode(200)
+                .extract().asByteArray();
+        // compares the bytes so that the order of the properties is checked as well
+        assertArrayEquals(REFLECTIVE_MAPPER.writeValueAsBytes(expected), body);
+    }
+
+    private boolean isGenerated(Class<?> type) throws JsonMappingException {
+        return objectMapper.getSerializerProviderInstance().findValueSerializer(type).getClass().getName()
+                .endsWith("$quarkusjacksonserializer");
+    }
+
+    @Path("/books")
+    public static class BookResource {
+
+        static Book book() {
+            Book book = new Book();
+            book.title = "Hyperion";
+            book.pages = 482;
+            book.price = 9.99f;
+            book.weight = 0.45;
+            book.author = new Author("Dan Simmons");
+            book.setAvailable(true);
+            book.tags = List.of("sf", "classic");
+            book.cached = "cached";
+            return book;
+        }
+
+        static List<Review> reviewList() {
+            return List.of(new Review("alice", 5, "great"), new Review("bob", 3, null));
+        }
+
+        @GET
+        @Path("/book")
+        public Book getBook() {
+            return book();
+        }
+
+        @GET
+        @Path("/reviews")
+        public Uni<List<Review>> reviews() {
+            return Uni.createFrom().item(reviewList());
+        }
+
+        @GET
+        @Path("/annotated")
+        public Annotated annotated() {
+            return new Annotated();
+        }
+
+        @GET
+        @Path("/mixed")
+        public Mixed mixed() {
+            return new Mixed();
+        }
+
+        @GET
+        @Path("/computed")
+        public Computed computed() {
+            return new Computed();
+        }
+    }
+
+    public static class Book {
+        private boolean available;
+        public String title;
+        public int pages;
+        public float price;
+        public double weight;
+        public String isbn;
+        public Author author;
+        public List<String> tags;
+        public transient String cached;
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public void setAvailable(boolean available) {
+            this.available = available;
+        }
+
+        public String getSummary() {
+            return title + " by " + author.getName();
+        }
+    }
+
+    public static class Author {
+        private final String name;
+
+        public Author(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public record Review(String reviewer, int rating, String comment) {
+    }
+
+    public static class Annotated {
+        @JsonProperty("renamed")
+        public String value = "value";
+    }
+
+    public static class Mixed {
+        public String value = "value";
+    }
+
+    @JacksonMixin(Mixed.class)
+    public abstract static class MixedMixin {
+        @JsonProperty("renamed")
+        public String value;
+    }
+
+    public static class Computed {
+        public String id = "computed";
+
+        public String getLower() {
+            return id.toLowerCase();
+        }
+
+        public String getUpper() {
+            return id.toUpperCase();
+        }
+    }
+}
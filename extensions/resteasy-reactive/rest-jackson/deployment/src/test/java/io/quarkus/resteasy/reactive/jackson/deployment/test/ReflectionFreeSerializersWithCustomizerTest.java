@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReflectionFreeSerializersWithCustomizerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Pojo.class, SnakeCaseCustomizer.class, PojoResource.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    void serializersAreNotGenerated() throws JsonMappingException {
+        assertFalse(objectMapper.getSerializerProviderInstance().findValueSerializer(Pojo.class).getClass().getName()
+                .endsWith("$quarkusjacksonserializer"));
+    }
+
+    @Test
+    void customizerIsApplied() {
+        when().get("/pojo")
+                .then()
+                .statusCode(200)
+                .body(is("{\"first_name\":\"Jane\"}"));
+    }
+
+    @Path("/pojo")
+    public static class PojoResource {
+
+        @GET
+        public Pojo get() {
+            Pojo pojo = new Pojo();
+            pojo.firstName = "Jane";
+            return pojo;
+        }
+    }
+
+    public static class Pojo {
+        public String firstName;
+    }
+
+    @Singleton
+    public static class SnakeCaseCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        }
+    }
+}
@@ -125,6 +125,13 @@ public Multi<Message> multiJsonMultiDocs() {
                 .header("foo", "bar").encodeAsJsonArray(false).build();
     }
 
+    @Path("json/multi-large")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Message> multiJsonLarge() {
+        return Multi.createFrom().range(0, 50_000).map(i -> new Message("message " + i));
+    }
+
     @Path("json/multi-docs-huge-demand")
     @GET
     @Produces(MediaType.APPLICATION_JSON)
@@ -132,6 +132,16 @@ public void testJsonMultiMultiDoc() {
                 .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_JSON));
     }
 
+    @Test
+    public void testJsonMultiLargeArray() {
+        when().get(uri.toString() + "streams/json/multi-large")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body("size()", is(50_000))
+                .body("[0].name", is("message 0"))
+                .body("[49999].name", is("message 49999"))
+                .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_JSON));
+    }
+
     @Test
     public void testJsonMultiMultiDocHigherDemand() {
         when().get(uri.toString() + "streams/json/multi-docs-huge-demand")
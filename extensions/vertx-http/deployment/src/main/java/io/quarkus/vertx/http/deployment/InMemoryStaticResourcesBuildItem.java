@@ -0,0 +1,22 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.InMemoryStaticResource;
+
+/**
+ * The static resources prepared at build time, to be served from memory.
+ */
+public final class InMemoryStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final List<InMemoryStaticResource> resources;
+
+    public InMemoryStaticResourcesBuildItem(List<InMemoryStaticResource> resources) {
+        this.resources = resources;
+    }
+
+    public List<InMemoryStaticResource> getResources() {
+        return resources;
+    }
+}
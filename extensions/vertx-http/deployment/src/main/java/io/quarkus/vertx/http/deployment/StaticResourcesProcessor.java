@@ -2,35 +2,47 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.InMemoryStaticResource;
+import io.quarkus.vertx.http.runtime.StaticResourcesBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
@@ -54,13 +66,67 @@ void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildI
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void prepareInMemoryStaticResources(HttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<InMemoryStaticResourcesBuildItem> inMemoryStaticResources) throws Exception {
+        StaticResourcesBuildTimeConfig config = httpBuildTimeConfig.staticResources;
+        if (!config.inMemory || staticResources.isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = httpBuildTimeConfig.enableCompression
+                && httpBuildTimeConfig.compressMediaTypes.isPresent()
+                        ? Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get())
+                        : Set.of();
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<InMemoryStaticResource> resources = new ArrayList<>();
+        for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+            if (entry.isDirectory()) {
+                continue;
+            }
+            byte[] content;
+            try (InputStream in = cl.getResourceAsStream(StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath())) {
+                if (in == null) {
+                    // e.g. a resource generated at build time, it is served from the class path
+                    continue;
+                }
+                content = in.readAllBytes();
+            }
+            if (content.length > config.inMemoryMaxFileSize.asLongValue()) {
+                continue;
+            }
+            String mediaType = MimeMapping.getMimeTypeForFilename(entry.getPath());
+            // same as the StaticHandler
+            String contentType = mediaType != null && mediaType.startsWith("text") ? mediaType + ";charset=UTF-8"
+                    : mediaType;
+            boolean gzipped = false;
+            if (mediaType != null && compressMediaTypes.contains(mediaType)) {
+                byte[] compressed = gzip(content);
+                if (compressed.length < content.length) {
+                    String name = InMemoryStaticResource.GZIPPED_RESOURCES + entry.getPath();
+                    generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                    nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+                    gzipped = true;
+                }
+            }
+            resources.add(new InMemoryStaticResource(entry.getPath(), contentType, etag(content), gzipped));
+        }
+        if (!resources.isEmpty()) {
+            inMemoryStaticResources.produce(new InMemoryStaticResourcesBuildItem(resources));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<InMemoryStaticResourcesBuildItem> inMemoryStaticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    inMemoryStaticResources.map(InMemoryStaticResourcesBuildItem::getResources).orElse(List.of()))));
         }
     }
 
@@ -106,6 +172,24 @@ public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOExce
         }
     }
 
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+        // compressing once at build time, so the best compression is affordable
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+        return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
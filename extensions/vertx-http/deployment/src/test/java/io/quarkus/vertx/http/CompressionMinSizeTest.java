@@ -0,0 +1,78 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+public class CompressionMinSizeTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression-min-size=1K\n";
+
+    static String longString = "Hello World;".repeat(1000);
+    static String shortString = "Hello World;";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoutes.class));
+
+    @Test
+    public void testLargeBodyIsCompressed() {
+        RestAssured.given().get("/long").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+    }
+
+    @Test
+    public void testSmallBodyIsNotCompressed() {
+        RestAssured.given().get("/short").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Matchers.equalTo(Integer.toString(shortString.length())))
+                .body(Matchers.equalTo(shortString));
+    }
+
+    @Test
+    public void testChunkedBodyIsCompressed() {
+        RestAssured.given().get("/chunked").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(shortString));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        public void register(@Observes Router router) {
+            router.route("/long").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(longString);
+            });
+            router.route("/short").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(shortString);
+            });
+            router.route("/chunked").handler(rc -> {
+                // the size of the body is unknown when the headers are sent
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().setChunked(true);
+                rc.response().write(shortString);
+                rc.response().end();
+            });
+        }
+
+    }
+
+}
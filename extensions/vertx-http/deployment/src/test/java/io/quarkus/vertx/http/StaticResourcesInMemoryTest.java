@@ -0,0 +1,91 @@
+package io.quarkus.vertx.http;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesInMemoryTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.in-memory=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldServePrecompressedHtmlPage() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .header("Vary", "accept-encoding")
+                .header("ETag", Matchers.endsWith("-gzip\""))
+                .body(Matchers.containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldServeIdentityIfGzipIsNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .when().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("gzip"))
+                .header("ETag", Matchers.not(Matchers.endsWith("-gzip\"")))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeIdentityIfGzipIsExplicitlyRefused() {
+        RestAssured.given().header("Accept-Encoding", "*, gzip;q=0")
+                .when().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("gzip"))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotEncodeSVG() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("ETag", Matchers.notNullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldReturnContentLengthForHead() {
+        RestAssured.when().head("/")
+                .then()
+                .statusCode(200)
+                .header("Accept-Ranges", "bytes")
+                .header("Content-Length", Integer::parseInt, Matchers.greaterThan(0));
+    }
+
+    @Test
+    public void shouldDelegateRangeRequests() {
+        RestAssured.given().header("Range", "bytes=0-3")
+                .when().get("/image.svg")
+                .then()
+                .statusCode(206)
+                .header("Content-Length", "4");
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.vertx.http.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests writing the access log as JSON from the ring buffers
+ */
+public class AccessLogRingBufferTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    try {
+                        Path logDirectory = Files.createTempDirectory("quarkus-tests");
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.ring-buffer", "true");
+                        p.setProperty("quarkus.http.access-log.format", "json");
+                        p.setProperty("quarkus.http.access-log.exclude-pattern", "/health");
+                        p.setProperty("quarkus.http.record-request-start-time", "true");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()), "application.properties");
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testJsonLogMessageToFile() {
+        RestAssured.get("/health"); //should be ignored
+        RestAssured.given().header("User-Agent", "ring-buffer-test").get("/does-not-exist?foo=bar");
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Path path = logDirectory.resolve("server.log");
+                    Assertions.assertTrue(Files.exists(path));
+                    String data = Files.readString(path, StandardCharsets.UTF_8);
+                    Assertions.assertFalse(data.contains("/health"));
+                    Assertions.assertTrue(data.startsWith("{\"timestamp\":\""), data);
+                    Assertions.assertTrue(data.contains("\"method\":\"GET\",\"uri\":\"/does-not-exist?foo=bar\""), data);
+                    Assertions.assertTrue(data.contains("\"status\":404"), data);
+                    Assertions.assertTrue(data.contains("\"responseTime\":"), data);
+                    Assertions.assertTrue(data.contains("\"userAgent\":\"ring-buffer-test\"}\n"), data);
+                });
+    }
+
+}
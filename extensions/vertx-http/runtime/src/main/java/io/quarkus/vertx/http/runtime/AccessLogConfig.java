@@ -83,4 +83,46 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "false")
     public boolean consolidateReroutedRequests;
 
+    /**
+     * If the access log entries should be captured in preallocated ring buffers, one per event loop, and formatted and
+     * written in batches by a background writer.
+     *
+     * In this mode the request thread only copies the fields of the request into the ring buffer. The entries that do not
+     * fit into a full ring buffer are dropped and counted instead of being queued. With the Micrometer extension, the
+     * number of dropped entries is exposed as the `http.server.access.log.dropped` counter. The plain format only supports
+     * the `common` and `combined` patterns.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean ringBuffer;
+
+    /**
+     * The number of entries of each ring buffer, rounded up to a power of two.
+     */
+    @ConfigItem(defaultValue = "4096")
+    public int ringBufferSize;
+
+    /**
+     * The format of the entries written from the ring buffers.
+     *
+     * The `json` format writes one JSON object per line. The response time is only included if
+     * `quarkus.http.record-request-start-time` is enabled.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "plain")
+    public Format format;
+
+    public enum Format {
+        /**
+         * The format defined by the pattern.
+         */
+        PLAIN,
+        /**
+         * One JSON object per entry.
+         */
+        JSON
+    }
+
 }
@@ -9,6 +9,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -102,4 +103,41 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * The minimum size of a response body to be compressed. The responses that would be compressed but have a smaller
+     * {@code Content-Length} are sent uncompressed. The responses of unknown size, such as chunked responses, are always
+     * compressed.
+     */
+    @ConfigItem
+    public Optional<MemorySize> compressionMinSize;
+
+    /**
+     * The system load per processor above which only the response bodies of at least
+     * {@link #compressionMinSizeUnderLoad} are compressed, in order to save CPU time when the server is busy.
+     * <p>
+     * The load is the system load average divided by the number of available processors, for example {@code 0.8}.
+     */
+    @ConfigItem
+    public Optional<Double> compressionMaxLoad;
+
+    /**
+     * The minimum size of a response body to be compressed while the system load is above {@link #compressionMaxLoad}.
+     */
+    @ConfigItem(defaultValue = "64K")
+    public MemorySize compressionMinSizeUnderLoad;
+
+    /**
+     * List of compression algorithms offered in addition to {@code gzip} and {@code deflate}.
+     * <p>
+     * The supported values are {@code br} and {@code zstd}. An algorithm is only offered if its native library is
+     * available at runtime.
+     */
+    @ConfigItem
+    public Optional<List<String>> compressors;
+
+    /**
+     * The Static Resources config
+     */
+    public StaticResourcesBuildTimeConfig staticResources;
 }
@@ -0,0 +1,117 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.impl.HttpServerRequestInternal;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Decides, once the headers of a response are complete, whether a response that was selected for compression is worth
+ * compressing.
+ * <p>
+ * The compression is skipped for the responses whose {@code Content-Length} is below
+ * {@link HttpBuildTimeConfig#compressionMinSize}, or below {@link HttpBuildTimeConfig#compressionMinSizeUnderLoad}
+ * while the system load is above {@link HttpBuildTimeConfig#compressionMaxLoad}. The responses of unknown size are
+ * always compressed.
+ * <p>
+ * The outcome of the decision is stored in the {@link #OUTCOME request context local}, so that it can be reported by
+ * the HTTP server metrics.
+ */
+public final class HttpCompressionPolicy {
+
+    /**
+     * The key of the request context local that holds the outcome, one of {@link #COMPRESSED}, {@link #SKIPPED_SIZE} and
+     * {@link #SKIPPED_LOAD}.
+     */
+    public static final String OUTCOME = "io.quarkus.vertx.http.compression";
+
+    public static final String COMPRESSED = "compressed";
+    public static final String SKIPPED_SIZE = "skipped-size";
+    public static final String SKIPPED_LOAD = "skipped-load";
+
+    private static final long LOAD_SAMPLE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final long minSize;
+    private final long minSizeUnderLoad;
+    private final double maxLoad;
+    private final OperatingSystemMXBean os;
+    private final int processors;
+
+    private volatile long nextLoadSample;
+    private volatile boolean overloaded;
+
+    /**
+     * @param minSize the minimum size of a compressed response
+     * @param minSizeUnderLoad the minimum size of a compressed response under load
+     * @param maxLoad the system load per processor above which {@code minSizeUnderLoad} applies, or a negative value
+     */
+    public HttpCompressionPolicy(long minSize, long minSizeUnderLoad, double maxLoad) {
+        this.minSize = minSize;
+        this.minSizeUnderLoad = Math.max(minSize, minSizeUnderLoad);
+        this.maxLoad = maxLoad;
+        this.os = maxLoad >= 0 ? ManagementFactory.getOperatingSystemMXBean() : null;
+        this.processors = Runtime.getRuntime().availableProcessors();
+        this.nextLoadSample = System.nanoTime();
+    }
+
+    static HttpCompressionPolicy of(HttpBuildTimeConfig config) {
+        if (config.compressionMinSize.isEmpty() && config.compressionMaxLoad.isEmpty()) {
+            return null;
+        }
+        long minSize = config.compressionMinSize.isPresent() ? config.compressionMinSize.get().asLongValue() : 0;
+        return new HttpCompressionPolicy(minSize, config.compressionMinSizeUnderLoad.asLongValue(),
+                config.compressionMaxLoad.orElse(-1.0));
+    }
+
+    /**
+     * Restores the {@code Content-Encoding: identity} header of the response if it should not be compressed.
+     * <p>
+     * Must be called from a headers end handler registered before the handlers of the routes, as headers end handlers
+     * are invoked in the reverse order of their registration.
+     */
+    public void apply(RoutingContext context) {
+        MultiMap headers = context.response().headers();
+        if (headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+            // either the compression is disabled for this response or the body is already encoded
+            return;
+        }
+        String outcome = COMPRESSED;
+        String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                length = -1;
+            }
+            if (length >= 0 && length < minSize) {
+                outcome = SKIPPED_SIZE;
+            } else if (length >= 0 && length < minSizeUnderLoad && isOverloaded()) {
+                outcome = SKIPPED_LOAD;
+            }
+        }
+        if (outcome != COMPRESSED) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+        }
+        ((HttpServerRequestInternal) context.request()).context().putLocal(OUTCOME, outcome);
+    }
+
+    boolean isOverloaded() {
+        if (os == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - nextLoadSample >= 0) {
+            // sampling the load is a system call, it does not need to be precise
+            nextLoadSample = now + LOAD_SAMPLE_INTERVAL;
+            double load = os.getSystemLoadAverage();
+            // a negative value means that the load average is not available
+            overloaded = load >= 0 && load / processors > maxLoad;
+        }
+        return overloaded;
+    }
+}
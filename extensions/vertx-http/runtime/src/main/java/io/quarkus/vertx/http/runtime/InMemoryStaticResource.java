@@ -0,0 +1,73 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * A static resource prepared at build time, to be served from memory.
+ *
+ * @see StaticResourcesBuildTimeConfig#inMemory
+ */
+public class InMemoryStaticResource {
+
+    /**
+     * The directory of the gzip encoded static resources generated at build time.
+     */
+    public static final String GZIPPED_RESOURCES = "META-INF/quarkus-gzipped-resources";
+
+    private String path;
+    private String contentType;
+    private String etag;
+    private boolean gzipped;
+
+    public InMemoryStaticResource() {
+    }
+
+    public InMemoryStaticResource(String path, String contentType, String etag, boolean gzipped) {
+        this.path = path;
+        this.contentType = contentType;
+        this.etag = etag;
+        this.gzipped = gzipped;
+    }
+
+    /**
+     * @return the path of the resource, relative to {@code META-INF/resources} and starting with a slash
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the value of the {@code Content-Type} header, or {@code null} if unknown
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the strong {@code ETag} of the resource, including the quotes
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    /**
+     * @return whether a gzip encoded variant of the resource was generated in {@link #GZIPPED_RESOURCES}
+     */
+    public boolean isGzipped() {
+        return gzipped;
+    }
+
+    public void setGzipped(boolean gzipped) {
+        this.gzipped = gzipped;
+    }
+}
@@ -0,0 +1,212 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The static resources prepared at build time, served from direct memory.
+ * <p>
+ * The content of the resources is loaded once when the application starts, and the same read-only buffers are then
+ * written to every response. Range requests are left to the {@link io.vertx.ext.web.handler.StaticHandler}.
+ *
+ * @see StaticResourcesBuildTimeConfig#inMemory
+ */
+class InMemoryStaticResources {
+
+    private static final Logger LOG = Logger.getLogger(InMemoryStaticResources.class);
+
+    private static final String GZIP = "gzip";
+
+    private final Map<String, Entry> resources = new HashMap<>();
+    private final String indexPage;
+    private final String cacheControl;
+    private final boolean rangeSupport;
+
+    InMemoryStaticResources(List<InMemoryStaticResource> resources, ClassLoader classLoader, StaticResourcesConfig config,
+            String indexPage) {
+        long size = 0;
+        for (InMemoryStaticResource resource : resources) {
+            if (!config.includeHidden && resource.getPath().contains("/.")) {
+                // hidden files are not served at all
+                continue;
+            }
+            byte[] content = read(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + resource.getPath());
+            if (content == null) {
+                continue;
+            }
+            byte[] gzipped = resource.isGzipped()
+                    ? read(classLoader, InMemoryStaticResource.GZIPPED_RESOURCES + resource.getPath())
+                    : null;
+            Entry entry = new Entry(resource.getContentType(), resource.getEtag(), toBuffer(content),
+                    gzipped != null ? toBuffer(gzipped) : null);
+            this.resources.put(resource.getPath(), entry);
+            size += content.length + (gzipped != null ? gzipped.length : 0);
+        }
+        LOG.debugf("Loaded %d static resources in memory, using %d bytes", this.resources.size(), size);
+        this.indexPage = indexPage;
+        this.cacheControl = config.cachingEnabled ? "public, immutable, max-age=" + config.maxAge.toSeconds() : null;
+        this.rangeSupport = config.enableRangeSupport;
+    }
+
+    /**
+     * Ends the response with the resource at the given path, if it is served from memory.
+     *
+     * @param ctx the routing context
+     * @param path the path of the resource, relative to the mount point of the route
+     * @return {@code true} if the response was ended, {@code false} if the request must be handled by the next handler
+     */
+    boolean serve(RoutingContext ctx, String path) {
+        Entry entry = resources.get(path.endsWith("/") ? path.concat(indexPage) : path);
+        if (entry == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD
+                || rangeSupport && request.headers().contains(HttpHeaders.RANGE)) {
+            return false;
+        }
+        boolean gzip = entry.gzipped != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? entry.gzippedEtag : entry.etag;
+
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (rangeSupport) {
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        if (entry.gzipped != null) {
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(304).end();
+            return true;
+        }
+        if (entry.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType);
+        }
+        Buffer body;
+        if (gzip) {
+            // replaces the "Content-Encoding: identity" header added when compression is enabled
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = entry.gzipped;
+        } else {
+            body = entry.content;
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length()));
+        if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(body);
+        }
+        return true;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        // an explicit gzip coding takes precedence over "*", whatever their order (RFC 9110, section 12.5.3)
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            int paramIndex = coding.indexOf(';');
+            String name = (paramIndex == -1 ? coding : coding.substring(0, paramIndex)).trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                return paramIndex == -1 || !isZeroQuality(coding, paramIndex + 1);
+            }
+            if (wildcard == null && name.equals("*")) {
+                wildcard = paramIndex == -1 || !isZeroQuality(coding, paramIndex + 1);
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    /**
+     * @return whether the parameters of a coding, starting at the given index, have a zero quality, such as "q=0" or
+     *         "q=0.000", which means that the coding is not acceptable
+     */
+    private static boolean isZeroQuality(String coding, int start) {
+        int end = coding.length();
+        while (start < end && Character.isWhitespace(coding.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(coding.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start < 3 || Character.toLowerCase(coding.charAt(start)) != 'q' || coding.charAt(start + 1) != '='
+                || coding.charAt(start + 2) != '0') {
+            return false;
+        }
+        int i = start + 3;
+        if (i < end && coding.charAt(i) == '.') {
+            i++;
+            while (i < end && coding.charAt(i) == '0') {
+                i++;
+            }
+        }
+        return i == end;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            // If-None-Match uses the weak comparison
+            if (tag.equals("*") || tag.equals(etag) || tag.startsWith("W/") && tag.substring(2).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] read(ClassLoader classLoader, String name) {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the static resource " + name, e);
+        }
+    }
+
+    private static Buffer toBuffer(byte[] data) {
+        // the buffer is shared by all the responses, so it must not be released once written
+        return Buffer.buffer(Unpooled.unreleasableBuffer(
+                Unpooled.directBuffer(data.length, data.length).writeBytes(data).asReadOnly()));
+    }
+
+    private static final class Entry {
+        final String contentType;
+        final String etag;
+        final String gzippedEtag;
+        final Buffer content;
+        final Buffer gzipped;
+
+        Entry(String contentType, String etag, Buffer content, Buffer gzipped) {
+            this.contentType = contentType;
+            this.etag = etag;
+            // the encoded representation needs a different strong ETag
+            this.gzippedEtag = etag.substring(0, etag.length() - 1) + "-" + GZIP + "\"";
+            this.content = content;
+            this.gzipped = gzipped;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class StaticResourcesBuildTimeConfig {
+
+    /**
+     * If enabled, the static resources of the application are prepared at build time and served from memory.
+     * <p>
+     * Their content type and a strong {@code ETag} are computed during the build, and the resources of a compressed media
+     * type are also compressed with gzip if compression is enabled. The resources are then loaded in direct memory when the
+     * application starts, so that serving them does not involve any file system access, or compression.
+     * <p>
+     * This has no effect in dev mode, where the static resources can change.
+     */
+    @ConfigItem
+    public boolean inMemory;
+
+    /**
+     * The maximum size of a static resource served from memory. Larger resources are served from the class path.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize inMemoryMaxFileSize;
+}
@@ -38,7 +38,7 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, List<InMemoryStaticResource> inMemoryResources) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -85,6 +85,8 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage.charAt(0) == '/')
                     ? config.indexPage.substring(1)
                     : config.indexPage;
+            final InMemoryStaticResources inMemoryStaticResources = inMemoryResources.isEmpty() ? null
+                    : new InMemoryStaticResources(inMemoryResources, currentCl, config, indexPage);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -94,6 +96,9 @@ public void handle(RoutingContext ctx) {
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (inMemoryStaticResources != null && inMemoryStaticResources.serve(ctx, rel)) {
+                            return;
+                        }
                         compressIfNeeded(ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
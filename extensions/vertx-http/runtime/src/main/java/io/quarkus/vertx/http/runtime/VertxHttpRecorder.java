@@ -74,6 +74,7 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogHandler;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceConfiguration;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -134,6 +135,8 @@ public class VertxHttpRecorder {
 
     private static volatile Handler<RoutingContext> nonApplicationRedirectHandler;
 
+    private static volatile RingBufferAccessLogHandler ringBufferAccessLogHandler;
+
     private static volatile int actualHttpPort = -1;
     private static volatile int actualHttpsPort = -1;
 
@@ -403,7 +406,7 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
             defaultRouteHandler.accept(httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_DEFAULT));
         }
 
-        applyCompression(httpBuildTimeConfig.enableCompression, httpRouteRouter);
+        applyCompression(httpBuildTimeConfig.enableCompression, HttpCompressionPolicy.of(httpBuildTimeConfig), httpRouteRouter);
         httpRouteRouter.route().last().failureHandler(
                 new QuarkusErrorHandler(launchMode.isDevOrTest(), httpConfiguration.unhandledErrorContentTypeDefault));
 
@@ -474,18 +477,30 @@ public void handle(RoutingContext event) {
         }
 
         AccessLogConfig accessLog = httpConfiguration.accessLog;
+        ringBufferAccessLogHandler = null;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
+                // the batches drained from the ring buffers are written by the thread that drains them,
+                // so that a slow disk fills the ring buffers instead of the queue of the receiver
+                Executor writeExecutor = accessLog.ringBuffer ? Runnable::run : executor;
+                receiver = new DefaultAccessLogReceiver(writeExecutor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
                         accessLog.rotate);
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
-            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern, accessLog.consolidateReroutedRequests,
-                    getClass().getClassLoader(),
-                    accessLog.excludePattern);
+            Handler<RoutingContext> handler;
+            if (accessLog.ringBuffer) {
+                ringBufferAccessLogHandler = new RingBufferAccessLogHandler(receiver, executor, accessLog.pattern,
+                        accessLog.format == AccessLogConfig.Format.JSON, accessLog.ringBufferSize,
+                        accessLog.consolidateReroutedRequests, accessLog.excludePattern);
+                handler = ringBufferAccessLogHandler;
+            } else {
+                handler = new AccessLogHandler(receiver, accessLog.pattern, accessLog.consolidateReroutedRequests,
+                        getClass().getClassLoader(),
+                        accessLog.excludePattern);
+            }
             if (rootPath.equals("/") || nonRootPath.equals("/")) {
                 mainRouterRuntimeValue.orElse(httpRouterRuntimeValue).getValue().route()
                         .order(RouteConstants.ROUTE_ORDER_ACCESS_LOG_HANDLER)
@@ -554,7 +569,7 @@ public void handle(RoutingContext event) {
             }
 
             HttpServerCommonHandlers.applyHeaders(managementConfiguration.getValue().header, mr);
-            applyCompression(managementBuildTimeConfig.enableCompression, mr);
+            applyCompression(managementBuildTimeConfig.enableCompression, null, mr);
 
             Handler<HttpServerRequest> handler = HttpServerCommonHandlers.enforceDuplicatedContext(mr);
             handler = HttpServerCommonHandlers.applyProxy(managementConfiguration.getValue().proxy, handler, vertx);
@@ -565,7 +580,8 @@ public void handle(RoutingContext event) {
         }
     }
 
-    private void applyCompression(boolean enableCompression, Router httpRouteRouter) {
+    private void applyCompression(boolean enableCompression, HttpCompressionPolicy compressionPolicy,
+            Router httpRouteRouter) {
         if (enableCompression) {
             httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_COMPRESSION).handler(new Handler<RoutingContext>() {
                 @Override
@@ -573,6 +589,15 @@ public void handle(RoutingContext ctx) {
                     // Add "Content-Encoding: identity" header that disables the compression
                     // This header can be removed to enable the compression
                     ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                    if (compressionPolicy != null) {
+                        // registered first, so invoked once the route handlers decided to compress the response
+                        ctx.addHeadersEndHandler(new Handler<Void>() {
+                            @Override
+                            public void handle(Void event) {
+                                compressionPolicy.apply(ctx);
+                            }
+                        });
+                    }
                     ctx.next();
                 }
             });
@@ -1403,6 +1428,15 @@ public static Handler<HttpServerRequest> getRootHandler() {
         return ACTUAL_ROOT;
     }
 
+    /**
+     * @return the number of access log entries dropped because a ring buffer was full, {@code 0} if the access log does
+     *         not use ring buffers
+     */
+    public static long getDroppedAccessLogEntries() {
+        RingBufferAccessLogHandler handler = ringBufferAccessLogHandler;
+        return handler != null ? handler.getDroppedEntries() : 0;
+    }
+
     /**
      * used in the live reload handler to make sure the application has not been changed by another source (e.g. reactive
      * messaging)
@@ -0,0 +1,256 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.http.HttpVersion;
+
+/**
+ * Drains the {@link AccessLogRingBuffer}s, formats their entries and passes them in batches to an
+ * {@link AccessLogReceiver}.
+ * <p>
+ * The writer is scheduled on the executor when entries are published while it is not running, and runs until all the
+ * ring buffers are empty, so that at most one thread formats and writes entries at any given time.
+ */
+final class AccessLogBatchWriter implements Runnable {
+
+    private static final Logger log = Logger.getLogger(AccessLogBatchWriter.class);
+
+    private static final DateTimeFormatter COMMON_LOG_FORMAT = DateTimeFormatter
+            .ofPattern("'['dd/MMM/yyyy:HH:mm:ss Z']'", Locale.US);
+
+    private static final long DROPPED_REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    private final AccessLogReceiver receiver;
+    private final Executor executor;
+    private final boolean combined;
+    private final boolean json;
+    private final List<AccessLogRingBuffer> ringBuffers = new CopyOnWriteArrayList<>();
+
+    private final StringBuilder sb = new StringBuilder(256);
+    private final List<String> messages = new ArrayList<>();
+    private final Consumer<AccessLogEntry> formatter = new Consumer<>() {
+        @Override
+        public void accept(AccessLogEntry entry) {
+            sb.setLength(0);
+            if (json) {
+                formatJson(entry, sb);
+            } else {
+                formatPlain(entry, sb);
+            }
+            messages.add(sb.toString());
+        }
+    };
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private long currentSecond = Long.MIN_VALUE;
+    private String currentDate;
+    private long reportedDropped;
+    private long lastDroppedReport;
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<AccessLogBatchWriter> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(AccessLogBatchWriter.class, "state");
+
+    AccessLogBatchWriter(AccessLogReceiver receiver, Executor executor, boolean combined, boolean json) {
+        this.receiver = receiver;
+        this.executor = executor;
+        this.combined = combined;
+        this.json = json;
+        this.lastDroppedReport = System.nanoTime() - DROPPED_REPORT_INTERVAL;
+    }
+
+    void register(AccessLogRingBuffer ringBuffer) {
+        ringBuffers.add(ringBuffer);
+    }
+
+    /**
+     * Schedules the writer unless it is already queued or running.
+     */
+    void entryPublished() {
+        if (state == 0 && stateUpdater.compareAndSet(this, 0, 1)) {
+            executor.execute(this);
+        }
+    }
+
+    long dropped() {
+        long dropped = 0;
+        for (AccessLogRingBuffer ringBuffer : ringBuffers) {
+            dropped += ringBuffer.dropped();
+        }
+        return dropped;
+    }
+
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        try {
+            boolean drained;
+            do {
+                drained = false;
+                for (AccessLogRingBuffer ringBuffer : ringBuffers) {
+                    try {
+                        if (ringBuffer.drain(formatter) > 0) {
+                            drained = true;
+                        }
+                        if (!messages.isEmpty()) {
+                            receiver.logMessages(messages);
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("Error writing access log", e);
+                    } finally {
+                        messages.clear();
+                    }
+                }
+                reportDropped();
+            } while (drained);
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if entries were published while the ring buffers were found empty
+            //if so then run this again
+            if (!isEmpty() && stateUpdater.compareAndSet(this, 0, 1)) {
+                executor.execute(this);
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        for (AccessLogRingBuffer ringBuffer : ringBuffers) {
+            if (!ringBuffer.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reportDropped() {
+        long dropped = dropped();
+        long now = System.nanoTime();
+        if (dropped != reportedDropped && now - lastDroppedReport >= DROPPED_REPORT_INTERVAL) {
+            log.warnf("%d access log entries were dropped because the ring buffer was full, %d in total",
+                    dropped - reportedDropped, dropped);
+            reportedDropped = dropped;
+            lastDroppedReport = now;
+        }
+    }
+
+    // %h %l %u %t "%r" %s %b, followed by "%{i,Referer}" "%{i,User-Agent}" for the combined pattern
+    void formatPlain(AccessLogEntry entry, StringBuilder sb) {
+        appendOrDash(sb, entry.remoteHost).append(" - ");
+        appendOrDash(sb, entry.remoteUser).append(' ');
+        sb.append(date(entry.timestamp)).append(" \"");
+        sb.append(entry.method.name()).append(' ').append(entry.uri).append(' ').append(protocol(entry.version));
+        sb.append("\" ").append(entry.status).append(' ');
+        if (entry.bytesSent == 0) {
+            sb.append('-');
+        } else {
+            sb.append(entry.bytesSent);
+        }
+        if (combined) {
+            sb.append(" \"");
+            appendOrDash(sb, entry.referer).append("\" \"");
+            appendOrDash(sb, entry.userAgent).append('"');
+        }
+    }
+
+    void formatJson(AccessLogEntry entry, StringBuilder sb) {
+        sb.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(Instant.ofEpochMilli(entry.timestamp).atZone(zone), sb);
+        sb.append('"');
+        appendJsonField(sb, "remoteHost", entry.remoteHost);
+        appendJsonField(sb, "remoteUser", entry.remoteUser);
+        appendJsonField(sb, "method", entry.method.name());
+        appendJsonField(sb, "uri", entry.uri);
+        appendJsonField(sb, "protocol", protocol(entry.version));
+        sb.append(",\"status\":").append(entry.status);
+        sb.append(",\"bytesSent\":").append(entry.bytesSent);
+        if (entry.responseTimeNanos >= 0) {
+            sb.append(",\"responseTime\":").append(TimeUnit.NANOSECONDS.toMillis(entry.responseTimeNanos));
+        }
+        appendJsonField(sb, "referer", entry.referer);
+        appendJsonField(sb, "userAgent", entry.userAgent);
+        sb.append('}');
+    }
+
+    private String date(long timestamp) {
+        // the entries of a batch are usually logged within the same second
+        long second = timestamp / 1000;
+        if (second != currentSecond) {
+            currentSecond = second;
+            currentDate = COMMON_LOG_FORMAT.format(Instant.ofEpochSecond(second).atZone(zone));
+        }
+        return currentDate;
+    }
+
+    private static StringBuilder appendOrDash(StringBuilder sb, String value) {
+        return sb.append(value == null || value.isEmpty() ? "-" : value);
+    }
+
+    private static void appendJsonField(StringBuilder sb, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static String protocol(HttpVersion version) {
+        if (version == null) {
+            return "-";
+        }
+        switch (version) {
+            case HTTP_1_0:
+                return "HTTP/1.0";
+            case HTTP_1_1:
+                return "HTTP/1.1";
+            case HTTP_2:
+                return "HTTP/2";
+            default:
+                return version.name().replace("HTTP_", "HTTP/").replace("_", ".");
+        }
+    }
+}
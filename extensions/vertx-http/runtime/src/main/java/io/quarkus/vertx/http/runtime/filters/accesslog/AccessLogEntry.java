@@ -0,0 +1,39 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+
+/**
+ * The raw fields of a request, as captured in an {@link AccessLogRingBuffer}.
+ * <p>
+ * The entries are preallocated and reused, so the fields only reference values that already exist when the request is
+ * done.
+ */
+final class AccessLogEntry {
+
+    long timestamp;
+    /**
+     * The response time, or {@code -1} if the start time of the request was not recorded.
+     */
+    long responseTimeNanos;
+    String remoteHost;
+    String remoteUser;
+    HttpMethod method;
+    String uri;
+    HttpVersion version;
+    int status;
+    long bytesSent;
+    String referer;
+    String userAgent;
+
+    void clear() {
+        // do not retain the values of the request until the entry is reused
+        remoteHost = null;
+        remoteUser = null;
+        method = null;
+        uri = null;
+        version = null;
+        referer = null;
+        userAgent = null;
+    }
+}
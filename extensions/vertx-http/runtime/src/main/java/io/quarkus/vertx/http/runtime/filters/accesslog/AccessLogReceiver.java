@@ -18,6 +18,8 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import java.util.List;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +31,13 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a batch of messages. The list is only read until this method returns.
+     */
+    default void logMessages(final List<String> messages) {
+        for (String message : messages) {
+            logMessage(message);
+        }
+    }
+
 }
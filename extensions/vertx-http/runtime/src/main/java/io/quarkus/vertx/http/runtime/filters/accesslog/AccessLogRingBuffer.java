@@ -0,0 +1,88 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A bounded ring buffer of preallocated {@link AccessLogEntry entries}, filled by a single producer thread and drained by
+ * a single consumer thread.
+ * <p>
+ * When the buffer is full the new entries are dropped and counted, so a slow writer never makes the buffer grow.
+ */
+final class AccessLogRingBuffer {
+
+    private final AccessLogEntry[] entries;
+    private final int mask;
+    // the next entry to publish, only written by the producer
+    private final AtomicLong tail = new AtomicLong();
+    // the next entry to drain, only written by the consumer
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    AccessLogRingBuffer(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The size of the access log ring buffer must be positive: " + size);
+        }
+        int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.entries = new AccessLogEntry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new AccessLogEntry();
+        }
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the next entry to fill, which must then be {@link #publish() published}.
+     *
+     * @return the entry, or {@code null} if the buffer is full and the entry was dropped
+     */
+    AccessLogEntry claim() {
+        long t = tail.get();
+        if (t - head.get() == entries.length) {
+            // only the producer increments the counter
+            dropped.lazySet(dropped.get() + 1);
+            return null;
+        }
+        return entries[(int) t & mask];
+    }
+
+    /**
+     * Makes the last claimed entry visible to the consumer.
+     */
+    void publish() {
+        tail.set(tail.get() + 1);
+    }
+
+    /**
+     * Passes the published entries to the given consumer, then releases them.
+     *
+     * @return the number of drained entries
+     */
+    int drain(Consumer<AccessLogEntry> consumer) {
+        long h = head.get();
+        long t = tail.get();
+        try {
+            for (long i = h; i < t; i++) {
+                AccessLogEntry entry = entries[(int) i & mask];
+                consumer.accept(entry);
+                entry.clear();
+            }
+        } finally {
+            // an entry that failed to be written is not retried
+            head.set(t);
+        }
+        return (int) (t - h);
+    }
+
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+}
@@ -164,6 +164,14 @@ public void logMessage(final String message) {
         }
     }
 
+    @Override
+    public void logMessages(final List<String> messages) {
+        this.pendingMessages.addAll(messages);
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
     /**
      * processes all queued log messages
      */
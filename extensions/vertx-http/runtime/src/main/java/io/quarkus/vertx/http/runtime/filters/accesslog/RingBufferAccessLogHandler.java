@@ -0,0 +1,132 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import io.quarkus.vertx.http.runtime.QuarkusHttpUser;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.quarkus.vertx.http.runtime.filters.OriginalRequestContext;
+import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Access log handler that captures the raw fields of each request into a preallocated ring buffer of the current event
+ * loop, instead of formatting a message on the request thread.
+ * <p>
+ * The entries are formatted, either as plain text following the {@code common} or {@code combined} pattern or as JSON,
+ * and passed to the {@link AccessLogReceiver} in batches by a background writer. When a ring buffer is full the entries
+ * are dropped, see {@link #getDroppedEntries()}.
+ */
+public class RingBufferAccessLogHandler implements Handler<RoutingContext> {
+
+    private final AccessLogBatchWriter writer;
+    private final int ringBufferSize;
+    private final boolean consolidateReroutedRequests;
+    private final Pattern excludePattern;
+    private final ThreadLocal<AccessLogRingBuffer> eventLoopRingBuffers = new ThreadLocal<>();
+    // shared by the requests completed outside of an event loop, guarded by itself
+    private final AccessLogRingBuffer sharedRingBuffer;
+
+    public RingBufferAccessLogHandler(final AccessLogReceiver accessLogReceiver, final Executor writeExecutor,
+            final String formatString, boolean json, int ringBufferSize, boolean consolidateReroutedRequests,
+            Optional<String> excludePattern) {
+        boolean combined = "combined".equals(formatString);
+        if (!json && !combined && !"common".equals(formatString)) {
+            throw new IllegalArgumentException("The access log ring buffer only supports the 'common' and 'combined' "
+                    + "patterns, but the pattern is '" + formatString + "'");
+        }
+        this.writer = new AccessLogBatchWriter(accessLogReceiver, writeExecutor, combined, json);
+        this.ringBufferSize = ringBufferSize;
+        this.consolidateReroutedRequests = consolidateReroutedRequests;
+        this.excludePattern = excludePattern.map(Pattern::compile).orElse(null);
+        this.sharedRingBuffer = new AccessLogRingBuffer(ringBufferSize);
+        writer.register(sharedRingBuffer);
+    }
+
+    /**
+     * @return the number of entries dropped because a ring buffer was full
+     */
+    public long getDroppedEntries() {
+        return writer.dropped();
+    }
+
+    @Override
+    public void handle(RoutingContext rc) {
+        if (excludePattern != null && excludePattern.matcher(rc.request().path()).matches()) {
+            rc.next();
+            return;
+        }
+        if (consolidateReroutedRequests && rc.get(OriginalRequestContext.RC_DATA_KEY, null) != null) {
+            rc.next();
+            return;
+        }
+        QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                capture(rc);
+            }
+        });
+        if (consolidateReroutedRequests) {
+            rc.put(OriginalRequestContext.RC_DATA_KEY, new OriginalRequestContext(rc));
+        }
+        rc.next();
+    }
+
+    private void capture(RoutingContext rc) {
+        if (Context.isOnEventLoopThread()) {
+            AccessLogRingBuffer ringBuffer = eventLoopRingBuffers.get();
+            if (ringBuffer == null) {
+                ringBuffer = new AccessLogRingBuffer(ringBufferSize);
+                eventLoopRingBuffers.set(ringBuffer);
+                writer.register(ringBuffer);
+            }
+            capture(rc, ringBuffer);
+        } else {
+            synchronized (sharedRingBuffer) {
+                capture(rc, sharedRingBuffer);
+            }
+        }
+        writer.entryPublished();
+    }
+
+    private static void capture(RoutingContext rc, AccessLogRingBuffer ringBuffer) {
+        AccessLogEntry entry = ringBuffer.claim();
+        if (entry == null) {
+            return;
+        }
+        HttpServerRequest request = rc.request();
+        entry.timestamp = System.currentTimeMillis();
+        Long requestStartTime = rc.get(VertxHttpRecorder.REQUEST_START_TIME);
+        entry.responseTimeNanos = requestStartTime != null ? System.nanoTime() - requestStartTime : -1;
+        SocketAddress remoteAddress = request.remoteAddress();
+        entry.remoteHost = remoteAddress != null ? remoteAddress.host() : null;
+        QuarkusHttpUser user = (QuarkusHttpUser) rc.user();
+        entry.remoteUser = user != null ? user.getSecurityIdentity().getPrincipal().getName() : null;
+        if (OriginalRequestContext.isPresent(rc)) {
+            entry.method = OriginalRequestContext.getMethod(rc);
+            entry.uri = OriginalRequestContext.getUri(rc);
+        } else {
+            entry.method = request.method();
+            entry.uri = request.uri();
+        }
+        entry.version = request.version();
+        entry.status = rc.response().getStatusCode();
+        entry.bytesSent = rc.response().bytesWritten();
+        entry.referer = request.getHeader(HttpHeaders.REFERER);
+        entry.userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        ringBuffer.publish();
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferAccessLogHandler{" +
+                "ringBufferSize=" + ringBufferSize +
+                '}';
+    }
+}
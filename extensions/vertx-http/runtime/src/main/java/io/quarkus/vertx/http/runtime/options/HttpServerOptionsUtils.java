@@ -12,6 +12,9 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.runtime.LaunchMode;
@@ -252,6 +255,7 @@ public static void applyCommonOptions(HttpServerOptions httpServerOptions,
         if (buildTimeConfig.compressionLevel.isPresent()) {
             httpServerOptions.setCompressionLevel(buildTimeConfig.compressionLevel.getAsInt());
         }
+        configureCompressorsIfNeeded(httpServerOptions, buildTimeConfig);
         httpServerOptions.setDecompressionSupported(buildTimeConfig.enableDecompression);
         httpServerOptions.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
         httpServerOptions.setHandle100ContinueAutomatically(httpConfiguration.handle100ContinueAutomatically);
@@ -293,6 +297,43 @@ public static void applyCommonOptions(HttpServerOptions httpServerOptions,
         configureTrafficShapingIfEnabled(httpServerOptions, httpConfiguration);
     }
 
+    private static void configureCompressorsIfNeeded(HttpServerOptions httpServerOptions,
+            HttpBuildTimeConfig buildTimeConfig) {
+        if (!buildTimeConfig.enableCompression || buildTimeConfig.compressors.isEmpty()) {
+            return;
+        }
+        // the compressors replace the default ones, so gzip and deflate are added with the configured level
+        int level = httpServerOptions.getCompressionLevel();
+        httpServerOptions.addCompressor(StandardCompressionOptions.gzip(level, 15, 8));
+        httpServerOptions.addCompressor(StandardCompressionOptions.deflate(level, 15, 8));
+        for (String compressor : buildTimeConfig.compressors.get()) {
+            switch (compressor.trim().toLowerCase(Locale.ROOT)) {
+                case "br":
+                    if (Brotli.isAvailable()) {
+                        httpServerOptions.addCompressor(StandardCompressionOptions.brotli());
+                    } else {
+                        Logger.getLogger(HttpServerOptionsUtils.class)
+                                .warn("The br compression is not offered because the Brotli native library is not available");
+                    }
+                    break;
+                case "zstd":
+                    if (Zstd.isAvailable()) {
+                        httpServerOptions.addCompressor(StandardCompressionOptions.zstd());
+                    } else {
+                        Logger.getLogger(HttpServerOptionsUtils.class)
+                                .warn("The zstd compression is not offered because the Zstd native library is not available");
+                    }
+                    break;
+                case "gzip":
+                case "deflate":
+                    break;
+                default:
+                    throw new ConfigurationException("Unsupported compression algorithm '" + compressor
+                            + "', the supported values of quarkus.http.compressors are br and zstd");
+            }
+        }
+    }
+
     private static void configureTrafficShapingIfEnabled(HttpServerOptions httpServerOptions,
             HttpConfiguration httpConfiguration) {
         if (httpConfiguration.trafficShaping.enabled) {
@@ -0,0 +1,96 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void shouldRoundUpTheCapacity() {
+        assertThat(new AccessLogRingBuffer(1).capacity()).isEqualTo(1);
+        assertThat(new AccessLogRingBuffer(4).capacity()).isEqualTo(4);
+        assertThat(new AccessLogRingBuffer(5).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldDropEntriesWhenFull() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(2);
+        publish(ringBuffer, "/a");
+        publish(ringBuffer, "/b");
+        assertThat(ringBuffer.claim()).isNull();
+        assertThat(ringBuffer.dropped()).isEqualTo(1);
+
+        List<String> uris = new ArrayList<>();
+        assertThat(ringBuffer.drain(entry -> uris.add(entry.uri))).isEqualTo(2);
+        assertThat(uris).containsExactly("/a", "/b");
+        assertThat(ringBuffer.isEmpty()).isTrue();
+
+        // the drained entries are reused
+        publish(ringBuffer, "/c");
+        uris.clear();
+        assertThat(ringBuffer.drain(entry -> uris.add(entry.uri))).isEqualTo(1);
+        assertThat(uris).containsExactly("/c");
+        assertThat(ringBuffer.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteBatches() {
+        List<String> messages = new ArrayList<>();
+        AccessLogBatchWriter writer = new AccessLogBatchWriter(new AccessLogReceiver() {
+            @Override
+            public void logMessage(String message) {
+                messages.add(message);
+            }
+        }, Runnable::run, true, false);
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        writer.register(ringBuffer);
+        publish(ringBuffer, "/a");
+        publish(ringBuffer, "/b");
+        writer.entryPublished();
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0)).startsWith("127.0.0.1 - - [")
+                .endsWith("] \"GET /a HTTP/1.1\" 200 - \"-\" \"curl/8.0\"");
+        assertThat(messages.get(1)).contains("\"GET /b HTTP/1.1\"");
+        assertThat(ringBuffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldFormatJson() {
+        AccessLogBatchWriter writer = new AccessLogBatchWriter(null, Runnable::run, false, true);
+        AccessLogEntry entry = new AccessLogEntry();
+        fill(entry, "/a?q=\"x\"");
+        entry.responseTimeNanos = 2_000_000;
+        entry.bytesSent = 42;
+        StringBuilder sb = new StringBuilder();
+        writer.formatJson(entry, sb);
+
+        assertThat(sb.toString()).startsWith("{\"timestamp\":\"")
+                .endsWith("\",\"remoteHost\":\"127.0.0.1\",\"method\":\"GET\",\"uri\":\"/a?q=\\\"x\\\"\","
+                        + "\"protocol\":\"HTTP/1.1\",\"status\":200,\"bytesSent\":42,\"responseTime\":2,"
+                        + "\"userAgent\":\"curl/8.0\"}");
+    }
+
+    private static void publish(AccessLogRingBuffer ringBuffer, String uri) {
+        fill(ringBuffer.claim(), uri);
+        ringBuffer.publish();
+    }
+
+    private static void fill(AccessLogEntry entry, String uri) {
+        entry.timestamp = System.currentTimeMillis();
+        entry.responseTimeNanos = -1;
+        entry.remoteHost = "127.0.0.1";
+        entry.method = HttpMethod.GET;
+        entry.uri = uri;
+        entry.version = HttpVersion.HTTP_1_1;
+        entry.status = 200;
+        entry.userAgent = "curl/8.0";
+    }
+}
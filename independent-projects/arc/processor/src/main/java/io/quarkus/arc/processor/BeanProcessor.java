@@ -79,6 +79,7 @@ public static Builder builder() {
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
     private final Predicate<BeanDeployment> optimizeContexts;
+    private final Predicate<BeanDeployment> optimizeRequestContext;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -109,6 +110,7 @@ private BeanProcessor(Builder builder) {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.optimizeContexts = builder.optimizeContexts;
+        this.optimizeRequestContext = builder.optimizeRequestContext;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
@@ -188,6 +190,9 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         ReflectionRegistration refReg = reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration;
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
         boolean optimizeContextsValue = optimizeContexts != null ? optimizeContexts.test(beanDeployment) : false;
+        // the request context can be optimized on its own, the generated class only depends on the request scoped beans
+        boolean optimizeRequestContextValue = optimizeContextsValue
+                || (optimizeRequestContext != null && optimizeRequestContext.test(beanDeployment));
 
         // These maps are precomputed and then used in the ComponentsProviderGenerator which is generated first
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
@@ -243,6 +248,8 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
                 refReg, beanDeployment, scopeToGeneratedName);
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
+        }
+        if (optimizeRequestContextValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
         }
 
@@ -365,15 +372,19 @@ public Collection<Resource> call() throws Exception {
                 }));
             }
 
-            if (optimizeContextsValue) {
+            if (optimizeContextsValue || optimizeRequestContextValue) {
                 // Generate _ContextInstances
                 primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
                         Collection<Resource> resources = new ArrayList<>();
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                        if (optimizeContextsValue) {
+                            resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
+                        }
+                        if (optimizeRequestContextValue) {
+                            resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                        }
                         return resources;
                     }
                 }));
@@ -451,9 +462,11 @@ public Collection<Resource> call() throws Exception {
                             observerToGeneratedName,
                             scopeToGeneratedName));
 
+            // Generate _ContextInstances
             if (optimizeContextsValue) {
-                // Generate _ContextInstances
                 resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
+            }
+            if (optimizeRequestContextValue) {
                 resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
             }
         }
@@ -566,6 +579,7 @@ public static class Builder {
         boolean allowMocking;
         boolean strictCompatibility;
         Predicate<BeanDeployment> optimizeContexts;
+        Predicate<BeanDeployment> optimizeRequestContext;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -860,6 +874,34 @@ public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
             return this;
         }
 
+        /**
+         *
+         * @param value
+         * @return self
+         * @see #setOptimizeRequestContext(Predicate)
+         */
+        public Builder setOptimizeRequestContext(boolean value) {
+            return setOptimizeRequestContext(new Predicate<BeanDeployment>() {
+                @Override
+                public boolean test(BeanDeployment t) {
+                    return value;
+                }
+            });
+        }
+
+        /**
+         * The request context is always optimized if {@link #setOptimizeContexts(Predicate)} applies. This predicate can be
+         * used to optimize the request context even if the other contexts are not optimized, e.g. because there are too many
+         * beans in the application but only a few of them are request scoped.
+         *
+         * @param fun
+         * @return self
+         */
+        public Builder setOptimizeRequestContext(Predicate<BeanDeployment> fun) {
+            this.optimizeRequestContext = fun;
+            return this;
+        }
+
         /**
          * Can be used to compute a priority of an alternative bean. A non-null computed value always
          * takes precedence over the priority defined by {@link Priority} or a stereotype.
@@ -4,7 +4,10 @@
 import static io.quarkus.arc.processor.KotlinUtils.isKotlinClass;
 
 import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -214,10 +217,11 @@ private static void generateInstanceBytecode(GeneratorContext ctx) {
         }
         ResultHandle instanceProvider = ctx.constructor.newInstance(
                 MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
-                        InjectableBean.class, Set.class, Member.class, int.class, boolean.class),
+                        InjectableBean.class, Set.class, Member.class, int.class, boolean.class, String[].class),
                 parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
                 ctx.constructor.load(ctx.injectionPoint.getPosition()),
-                ctx.constructor.load(ctx.injectionPoint.isTransient()));
+                ctx.constructor.load(ctx.injectionPoint.isTransient()),
+                collectMatchingBeanIds(ctx));
         ResultHandle instanceProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, instanceProvider);
         ctx.constructor.writeInstanceField(
@@ -226,6 +230,43 @@ private static void generateInstanceBytecode(GeneratorContext ctx) {
                 ctx.constructor.getThis(), instanceProviderSupplier);
     }
 
+    /**
+     * The required type and qualifiers of an {@code Instance<Foo>} injection point are known during build, so the matching
+     * beans can be found here and the container only needs to apply the ambiguity rules at runtime.
+     *
+     * @return the identifiers of the matching beans, or {@code null} if the beans must be resolved at runtime
+     */
+    private static ResultHandle collectMatchingBeanIds(GeneratorContext ctx) {
+        Type requiredType = ctx.injectionPoint.getRequiredType();
+        if ((requiredType.kind() != Kind.CLASS && requiredType.kind() != Kind.PARAMETERIZED_TYPE)
+                || requiredType.name().equals(DotNames.OBJECT)
+                || Types.containsTypeVariable(requiredType)) {
+            return ctx.constructor.loadNull();
+        }
+        for (BuiltinBean builtinBean : values()) {
+            // Built-in beans are only registered in the container at runtime
+            if (builtinBean.hasRawTypeDotName(requiredType.name())) {
+                return ctx.constructor.loadNull();
+            }
+        }
+        Set<BeanInfo> matching = ctx.beanDeployment.getBeanResolver().resolveBeans(requiredType,
+                ctx.injectionPoint.getRequiredQualifiers());
+        if (matching.isEmpty()) {
+            // Resolve at runtime so that the removed beans are reported
+            return ctx.constructor.loadNull();
+        }
+        List<String> ids = new ArrayList<>(matching.size());
+        for (BeanInfo bean : matching) {
+            ids.add(bean.getIdentifier());
+        }
+        Collections.sort(ids);
+        ResultHandle idsHandle = ctx.constructor.newArray(String.class, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            ctx.constructor.writeArrayValue(idsHandle, i, ctx.constructor.load(ids.get(i)));
+        }
+        return idsHandle;
+    }
+
     private static void generateEventBytecode(GeneratorContext ctx) {
         ResultHandle qualifiers = ctx.constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
         if (!ctx.injectionPoint.getRequiredQualifiers().isEmpty()) {
@@ -35,7 +35,8 @@ public static ArcContainer initialize(ArcInitConfig config) {
                 container = INSTANCE.get();
                 if (container == null) {
                     // Set the container instance first because Arc.container() can be used within ArcContainerImpl.init()
-                    container = new ArcContainerImpl(config.getCurrentContextFactory(), config.isStrictCompatibility());
+                    container = new ArcContainerImpl(config.getCurrentContextFactory(), config.isStrictCompatibility(),
+                            config.getResolutionCacheMaxSize());
                     INSTANCE.set(container);
                     container.init();
                 }
@@ -25,11 +25,13 @@ private ArcInitConfig(Builder builder) {
         this.currentContextFactory = builder.currentContextFactory;
         this.strictCompatibility = builder.strictCompatibility;
         this.optimizeContexts = builder.optimizeContexts;
+        this.resolutionCacheMaxSize = builder.resolutionCacheMaxSize;
     }
 
     private final boolean strictCompatibility;
     private final CurrentContextFactory currentContextFactory;
     private final boolean optimizeContexts;
+    private final int resolutionCacheMaxSize;
 
     public boolean isStrictCompatibility() {
         return strictCompatibility;
@@ -39,6 +41,15 @@ public CurrentContextFactory getCurrentContextFactory() {
         return currentContextFactory;
     }
 
+    /**
+     *
+     * @return the maximum size of the caches used for programmatic lookup, a value lower than 1 means the caches are
+     *         unbounded
+     */
+    public int getResolutionCacheMaxSize() {
+        return resolutionCacheMaxSize;
+    }
+
     /**
      *
      * @return {@code true} if optimized contexts should be used, {@code false} otherwise
@@ -53,12 +64,14 @@ public static class Builder {
         private boolean strictCompatibility;
         private CurrentContextFactory currentContextFactory;
         private boolean optimizeContexts;
+        private int resolutionCacheMaxSize;
 
         private Builder() {
             // init all values with their defaults
             this.strictCompatibility = false;
             this.currentContextFactory = null;
             this.optimizeContexts = false;
+            this.resolutionCacheMaxSize = 0;
         }
 
         public Builder setStrictCompatibility(boolean strictCompatibility) {
@@ -71,6 +84,18 @@ public Builder setCurrentContextFactory(CurrentContextFactory currentContextFact
             return this;
         }
 
+        /**
+         * Bounds the caches used for programmatic lookup, e.g. {@code Instance.select()} with dynamic qualifiers. If a
+         * cache exceeds the maximum size then entries that were not used recently are evicted.
+         *
+         * @param resolutionCacheMaxSize the maximum size, a value lower than 1 means the caches are unbounded
+         * @return this
+         */
+        public Builder setResolutionCacheMaxSize(int resolutionCacheMaxSize) {
+            this.resolutionCacheMaxSize = resolutionCacheMaxSize;
+            return this;
+        }
+
         /**
          * The value was actually never used.
          *
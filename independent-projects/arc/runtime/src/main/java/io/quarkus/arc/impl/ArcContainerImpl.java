@@ -105,6 +105,17 @@ public class ArcContainerImpl implements ArcContainer {
     private final boolean strictMode;
 
     public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean strictMode) {
+        this(currentContextFactory, strictMode, 0);
+    }
+
+    /**
+     *
+     * @param currentContextFactory
+     * @param strictMode
+     * @param resolutionCacheMaxSize the maximum size of the caches used for programmatic lookup, a value lower than 1 means
+     *        the caches are unbounded
+     */
+    public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean strictMode, int resolutionCacheMaxSize) {
         this.strictMode = strictMode;
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
         running = new AtomicBoolean(true);
@@ -159,9 +170,9 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         interceptors.sort(Comparator.comparingInt(InjectableInterceptor::getPriority));
         decorators.sort(Comparator.comparingInt(InjectableDecorator::getPriority));
 
-        resolved = new ComputingCache<>(this::resolve);
-        beansById = new ComputingCache<>(this::findById);
-        beansByName = new ComputingCache<>(this::resolve);
+        resolved = new ComputingCache<>(this::resolve, resolutionCacheMaxSize);
+        beansById = new ComputingCache<>(this::findById, resolutionCacheMaxSize);
+        beansByName = new ComputingCache<>(this::resolve, resolutionCacheMaxSize);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -424,6 +435,18 @@ public boolean strictCompatibility() {
         return strictMode;
     }
 
+    /**
+     * The statistics of the caches used for programmatic lookup, i.e. the results of typesafe resolution
+     * ({@code resolved}), and of lookups by bean identifier ({@code beansById}) and by name ({@code beansByName}). The hit,
+     * miss and eviction counts are only recorded if the caches are bounded.
+     *
+     * @return the statistics, keyed by the name of the cache
+     */
+    public Map<String, ComputingCache.Stats> getResolutionCacheStats() {
+        return Map.of("resolved", resolved.getStats(), "beansById", beansById.getStats(), "beansByName",
+                beansByName.getStats());
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -970,6 +993,24 @@ Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifi
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * Resolves ambiguities for a set of beans that was found to match a required type and qualifiers during build.
+     *
+     * @param matchingBeanIds
+     * @return the set of resolved beans
+     */
+    Set<InjectableBean<?>> getResolvedBeans(String[] matchingBeanIds) {
+        List<InjectableBean<?>> matching = new ArrayList<>(matchingBeanIds.length);
+        for (String id : matchingBeanIds) {
+            InjectableBean<?> bean = beansById.getValue(id);
+            if (bean == null) {
+                throw new IllegalStateException("No bean found for identifier: " + id);
+            }
+            matching.add(bean);
+        }
+        return resolve(matching);
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         return matches(bean.getTypes(), bean.getQualifiers(), requiredType, qualifiers);
     }
@@ -4,7 +4,10 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -15,6 +18,12 @@
  * Computing cache backed by a {@link ConcurrentHashMap} which intentionally does not use
  * {@link Map#computeIfAbsent(Object, Function)} and is reentrant.
  * Derived from {@code org.jboss.weld.util.cache.ReentrantMapBackedComputingCache}.
+ * <p>
+ * A cache created with a maximum size is bounded. Once the maximum size is exceeded an entry is evicted using the
+ * second-chance (CLOCK) algorithm: entries are considered in insertion order, and an entry that was read since it was last
+ * considered is skipped once, unless all the entries were skipped already. Lookups of existing entries do not lock, and
+ * the counters are striped, so that a bounded cache scales like the unbounded one. A bounded cache also records the
+ * number of hits, misses and evictions.
  *
  * @param <K>
  * @param <V>
@@ -24,6 +33,14 @@
     private final ConcurrentMap<K, LazyValue<V>> map;
     private final Function<K, V> computingFunction;
 
+    // the following fields are only used if the cache is bounded
+    private final int maxSize;
+    private final AtomicInteger size;
+    private final ConcurrentLinkedQueue<BoundedValue<K, V>> evictionQueue;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
     /**
      * Note that {@link #getValue(Object)} cannot be used if no default computing function is specified.
      */
@@ -32,8 +49,32 @@ public ComputingCache() {
     }
 
     public ComputingCache(Function<K, V> computingFunction) {
+        this(computingFunction, 0);
+    }
+
+    /**
+     *
+     * @param computingFunction
+     * @param maxSize the maximum number of entries, a value lower than 1 means the cache is unbounded
+     */
+    public ComputingCache(Function<K, V> computingFunction, int maxSize) {
         this.map = new ConcurrentHashMap<>();
         this.computingFunction = computingFunction;
+        if (maxSize > 0) {
+            this.maxSize = maxSize;
+            this.size = new AtomicInteger();
+            this.evictionQueue = new ConcurrentLinkedQueue<>();
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.evictions = new LongAdder();
+        } else {
+            this.maxSize = 0;
+            this.size = null;
+            this.evictionQueue = null;
+            this.hits = null;
+            this.misses = null;
+            this.evictions = null;
+        }
     }
 
     public V getValue(K key) {
@@ -58,6 +99,9 @@ public V computeIfAbsent(K key, Supplier<V> supplier) {
         if (supplier == null) {
             throw new IllegalStateException("Computing function not defined");
         }
+        if (maxSize > 0) {
+            return computeIfAbsentBounded(key, supplier);
+        }
         LazyValue<V> value = map.get(key);
         if (value == null) {
             value = new LazyValue<V>(supplier);
@@ -69,13 +113,88 @@ public V computeIfAbsent(K key, Supplier<V> supplier) {
         return value.get();
     }
 
+    private V computeIfAbsentBounded(K key, Supplier<V> supplier) {
+        LazyValue<V> value = map.get(key);
+        if (value == null) {
+            BoundedValue<K, V> newValue = new BoundedValue<K, V>(key, supplier);
+            value = map.putIfAbsent(key, newValue);
+            if (value == null) {
+                misses.increment();
+                evictionQueue.offer(newValue);
+                if (size.incrementAndGet() > maxSize) {
+                    evict();
+                }
+                return newValue.get();
+            }
+        }
+        hits.increment();
+        BoundedValue<K, V> boundedValue = (BoundedValue<K, V>) value;
+        if (!boundedValue.referenced) {
+            // avoid writing to a shared field on every hit
+            boundedValue.referenced = true;
+        }
+        return value.get();
+    }
+
+    private void evict() {
+        // every entry is skipped at most once: once as many entries as the cache contains were skipped, the referenced
+        // entries are evicted too, so that concurrent lookups cannot keep the cache above its maximum size
+        int skipped = 0;
+        while (size.get() > maxSize) {
+            BoundedValue<K, V> candidate = evictionQueue.poll();
+            if (candidate == null) {
+                // concurrent removals/evictions emptied the queue in the meantime
+                return;
+            }
+            if (candidate.referenced && skipped < maxSize) {
+                // second chance
+                candidate.referenced = false;
+                skipped++;
+                evictionQueue.offer(candidate);
+                continue;
+            }
+            if (map.remove(candidate.key, candidate)) {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
     public V remove(K key) {
         LazyValue<V> previous = map.remove(key);
+        if (previous != null && maxSize > 0) {
+            // the entries are compared by identity, so that a value added for the same key in the meantime is kept
+            evictionQueue.remove(previous);
+            size.decrementAndGet();
+        }
         return previous != null ? previous.get() : null;
     }
 
     public void clear() {
         map.clear();
+        if (maxSize > 0) {
+            evictionQueue.clear();
+            size.set(0);
+        }
+    }
+
+    /**
+     *
+     * @return the current number of entries
+     */
+    public int size() {
+        return maxSize > 0 ? size.get() : map.size();
+    }
+
+    /**
+     *
+     * @return a snapshot of the statistics of this cache; the counts are {@code -1} if the cache is unbounded
+     */
+    public Stats getStats() {
+        if (maxSize > 0) {
+            return new Stats(size.get(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+        }
+        return new Stats(map.size(), 0, -1, -1, -1);
     }
 
     public void forEachValue(Consumer<? super V> action) {
@@ -109,4 +228,74 @@ public boolean isEmpty() {
         return map.isEmpty();
     }
 
+    public static final class Stats {
+
+        private final int size;
+        private final int maxSize;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        Stats(int size, int maxSize, long hitCount, long missCount, long evictionCount) {
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         *
+         * @return the maximum number of entries, or {@code 0} if the cache is unbounded
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         *
+         * @return the number of lookups that found an existing entry
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         *
+         * @return the number of lookups that created a new entry
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats [size=" + size + ", maxSize=" + maxSize + ", hitCount=" + hitCount + ", missCount=" + missCount
+                    + ", evictionCount=" + evictionCount + "]";
+        }
+
+    }
+
+    static final class BoundedValue<K, V> extends LazyValue<V> {
+
+        final K key;
+
+        // set when the value is read, cleared when the entry is given a second chance
+        volatile boolean referenced;
+
+        BoundedValue(K key, Supplier<V> supplier) {
+            super(supplier);
+            this.key = key;
+        }
+
+    }
+
 }
@@ -42,7 +42,7 @@
 
     public static Instance<Object> forSynthesis(CreationalContextImpl<?> creationalContext, boolean allowInjectionPointLookup) {
         InstanceImpl<Object> result = new InstanceImpl<>(creationalContext, Object.class, Collections.emptySet(),
-                null, null, Collections.emptySet(), null, -1, false, false);
+                null, null, Collections.emptySet(), null, -1, false, false, null);
         if (allowInjectionPointLookup) {
             return result;
         }
@@ -121,20 +121,32 @@ public T get() {
 
     static <T> InstanceImpl<T> forGlobalEntrypoint(Type requiredType, Set<Annotation> requiredQualifiers) {
         return new InstanceImpl<>(new CreationalContextImpl<>(null), requiredType, requiredQualifiers,
-                null, null, Collections.emptySet(), null, -1, false, true);
+                null, null, Collections.emptySet(), null, -1, false, true, null);
     }
 
     static <T> InstanceImpl<T> forInjection(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
             boolean isTransient) {
+        return forInjection(targetBean, type, qualifiers, creationalContext, annotations, javaMember, position, isTransient,
+                null);
+    }
+
+    /**
+     *
+     * @param resolvedBeans the beans resolved for the injection point, or {@code null} if the beans should be resolved by
+     *        the container
+     */
+    static <T> InstanceImpl<T> forInjection(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            boolean isTransient, List<InjectableBean<?>> resolvedBeans) {
         return new InstanceImpl<>(creationalContext, getRequiredType(type), qualifiers,
-                type, targetBean, annotations, javaMember, position, isTransient, true);
+                type, targetBean, annotations, javaMember, position, isTransient, true, resolvedBeans);
     }
 
     private static <T> InstanceImpl<T> child(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
         return new InstanceImpl<>(parent.creationalContext, requiredType, requiredQualifiers, parent.injectionPointType,
                 parent.targetBean, parent.annotations, parent.javaMember, parent.position, parent.isTransient,
-                parent.resetCurrentInjectionPoint);
+                parent.resetCurrentInjectionPoint, null);
     }
 
     private final CreationalContextImpl<?> creationalContext;
@@ -157,12 +169,15 @@ private static <T> InstanceImpl<T> child(InstanceImpl<?> parent, Type requiredTy
 
     private InstanceImpl(CreationalContextImpl<?> creationalContext, Type requiredType, Set<Annotation> requiredQualifiers,
             Type injectionPointType, InjectableBean<?> targetBean, Set<Annotation> annotations, Member javaMember,
-            int position, boolean isTransient, boolean resetCurrentInjectionPoint) {
+            int position, boolean isTransient, boolean resetCurrentInjectionPoint, List<InjectableBean<?>> resolvedBeans) {
         this.creationalContext = creationalContext;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
 
-        if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
+        if (resolvedBeans != null) {
+            // The matching beans were found during build
+            this.resolvedBeans = Instances.filterSuppressed(resolvedBeans);
+        } else if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
         } else {
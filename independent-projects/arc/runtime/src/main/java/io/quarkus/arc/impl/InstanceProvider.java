@@ -3,6 +3,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.enterprise.context.spi.CreationalContext;
@@ -24,9 +25,21 @@
     private final Member javaMember;
     private final int position;
     private final boolean isTransient;
+    private final String[] matchingBeanIds;
+    private volatile List<InjectableBean<?>> resolvedBeans;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position, boolean isTransient) {
+        this(type, qualifiers, targetBean, annotations, javaMember, position, isTransient, null);
+    }
+
+    /**
+     *
+     * @param matchingBeanIds the identifiers of the beans that match the required type and qualifiers, found during build;
+     *        {@code null} if the beans should be resolved at runtime
+     */
+    public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
+            Member javaMember, int position, boolean isTransient, String[] matchingBeanIds) {
         this.requiredType = type;
         this.qualifiers = qualifiers;
         this.targetBean = targetBean;
@@ -34,6 +47,7 @@ public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?>
         this.javaMember = javaMember;
         this.position = position;
         this.isTransient = isTransient;
+        this.matchingBeanIds = matchingBeanIds;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -41,10 +55,23 @@ public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?>
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = InstanceImpl.forInjection(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position, isTransient);
+                annotations, javaMember, position, isTransient, resolvedBeans());
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
     }
 
+    private List<InjectableBean<?>> resolvedBeans() {
+        if (matchingBeanIds == null) {
+            return null;
+        }
+        List<InjectableBean<?>> beans = resolvedBeans;
+        if (beans == null) {
+            // The result is always the same so there's no need to synchronize
+            beans = Instances.resolveBeans(matchingBeanIds);
+            resolvedBeans = beans;
+        }
+        return beans;
+    }
+
 }
@@ -49,6 +49,34 @@ public static List<InjectableBean<?>> resolveBeans(Type requiredType, Annotation
         return List.copyOf(nonSuppressed);
     }
 
+    /**
+     * Unlike {@link #resolveBeans(Type, Annotation...)} the suppressed beans are not filtered out.
+     *
+     * @param matchingBeanIds the identifiers of the beans that match the required type and qualifiers, found during build
+     * @return the resolved beans sorted by priority
+     * @see #filterSuppressed(List)
+     */
+    static List<InjectableBean<?>> resolveBeans(String[] matchingBeanIds) {
+        List<InjectableBean<?>> resolved = new ArrayList<>(ArcContainerImpl.instance().getResolvedBeans(matchingBeanIds));
+        resolved.sort(PRIORITY_COMPARATOR);
+        return List.copyOf(resolved);
+    }
+
+    static List<InjectableBean<?>> filterSuppressed(List<InjectableBean<?>> beans) {
+        for (InjectableBean<?> bean : beans) {
+            if (bean.isSuppressed()) {
+                List<InjectableBean<?>> nonSuppressed = new ArrayList<>(beans.size());
+                for (InjectableBean<?> injectableBean : beans) {
+                    if (!injectableBean.isSuppressed()) {
+                        nonSuppressed.add(injectableBean);
+                    }
+                }
+                return List.copyOf(nonSuppressed);
+            }
+        }
+        return beans;
+    }
+
     private static List<InjectableBean<?>> resolveAllBeans(Type requiredType, Set<Annotation> requiredQualifiers) {
         if (requiredQualifiers == null || requiredQualifiers.isEmpty()) {
             // If no qualifier is specified then @Any is used
@@ -0,0 +1,138 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ComputingCacheTest {
+
+    @Test
+    public void testUnbounded() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<Integer, String> cache = new ComputingCache<>(key -> {
+            computations.incrementAndGet();
+            return key.toString();
+        });
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), cache.getValue(i));
+            assertEquals(String.valueOf(i), cache.getValue(i));
+        }
+        assertEquals(100, computations.get());
+        ComputingCache.Stats stats = cache.getStats();
+        assertEquals(100, stats.getSize());
+        assertEquals(0, stats.getMaxSize());
+        assertEquals(-1, stats.getHitCount());
+        assertEquals(-1, stats.getMissCount());
+    }
+
+    @Test
+    public void testBoundedEviction() {
+        ComputingCache<Integer, String> cache = new ComputingCache<>(Object::toString, 3);
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.getValue(3);
+        // 1 was used recently, so it gets a second chance and 2 is evicted instead
+        cache.getValue(1);
+        cache.getValue(4);
+        assertNotNull(cache.getValueIfPresent(1));
+        assertNull(cache.getValueIfPresent(2));
+        assertNotNull(cache.getValueIfPresent(3));
+        assertNotNull(cache.getValueIfPresent(4));
+
+        ComputingCache.Stats stats = cache.getStats();
+        assertEquals(3, stats.getSize());
+        assertEquals(3, stats.getMaxSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(4, stats.getMissCount());
+        assertEquals(1, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testBoundedSizeNeverExceeded() {
+        ComputingCache<Integer, String> cache = new ComputingCache<>(Object::toString, 10);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.valueOf(i), cache.getValue(i));
+            assertEquals(String.valueOf(i % 5), cache.getValue(i % 5));
+        }
+        ComputingCache.Stats stats = cache.getStats();
+        assertEquals(10, stats.getSize());
+        assertEquals(stats.getMissCount() - 10, stats.getEvictionCount());
+
+        cache.remove(999);
+        assertEquals(9, cache.getStats().getSize());
+        cache.clear();
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    public void testBoundedRemoveAndReadd() {
+        ComputingCache<Integer, String> cache = new ComputingCache<>(Object::toString, 3);
+        for (int i = 0; i < 1000; i++) {
+            cache.getValue(i);
+            cache.remove(i);
+        }
+        assertEquals(0, cache.size());
+        cache.getValue(1);
+        cache.remove(1);
+        // the entry added again for the same key is still evicted first
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.getValue(3);
+        cache.getValue(4);
+        assertNull(cache.getValueIfPresent(1));
+        assertNotNull(cache.getValueIfPresent(2));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testBoundedChurn() throws Exception {
+        int maxSize = 16;
+        int threads = 4;
+        int lookups = 20_000;
+        ComputingCache<Integer, String> cache = new ComputingCache<>(Object::toString, maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < lookups; i++) {
+                        // a few hot keys that are always read and a long tail of keys read once or removed
+                        int key = random.nextInt(4) == 0 ? random.nextInt(4) : random.nextInt(1000);
+                        assertEquals(String.valueOf(key), cache.getValue(key));
+                        if (random.nextInt(10) == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        AtomicInteger entries = new AtomicInteger();
+        cache.forEachEntry((key, value) -> entries.incrementAndGet());
+        ComputingCache.Stats stats = cache.getStats();
+        assertTrue(stats.getSize() <= maxSize, stats::toString);
+        assertEquals(entries.get(), stats.getSize());
+        assertEquals((long) threads * lookups, stats.getHitCount() + stats.getMissCount());
+        assertTrue(stats.getHitCount() > 0, stats::toString);
+        assertTrue(stats.getEvictionCount() > 0, stats::toString);
+    }
+
+}
@@ -94,6 +94,7 @@ public static class Builder {
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
         private boolean optimizeContexts = false;
+        private boolean optimizeRequestContext = false;
         private final List<Predicate<ClassInfo>> excludeTypes;
 
         public Builder() {
@@ -222,6 +223,11 @@ public Builder optimizeContexts(boolean value) {
             return this;
         }
 
+        public Builder optimizeRequestContext(boolean value) {
+            this.optimizeRequestContext = value;
+            return this;
+        }
+
         public Builder excludeType(Predicate<ClassInfo> predicate) {
             this.excludeTypes.add(predicate);
             return this;
@@ -264,6 +270,7 @@ public ArcTestContainer build() {
 
     private final boolean strictCompatibility;
     private final boolean optimizeContexts;
+    private final boolean optimizeRequestContext;
 
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
@@ -288,6 +295,7 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
         this.optimizeContexts = false;
+        this.optimizeRequestContext = false;
         this.excludeTypes = Collections.emptyList();
     }
 
@@ -314,6 +322,7 @@ public ArcTestContainer(Builder builder) {
         this.buildCompatibleExtensions = builder.buildCompatibleExtensions;
         this.strictCompatibility = builder.strictCompatibility;
         this.optimizeContexts = builder.optimizeContexts;
+        this.optimizeRequestContext = builder.optimizeRequestContext;
         this.excludeTypes = builder.excludeTypes;
     }
 
@@ -432,7 +441,8 @@ private ClassLoader init(ExtensionContext context) {
                     .setApplicationIndex(applicationIndex)
                     .setBuildCompatibleExtensions(buildCompatibleExtensions)
                     .setStrictCompatibility(strictCompatibility)
-                    .setOptimizeContexts(optimizeContexts);
+                    .setOptimizeContexts(optimizeContexts)
+                    .setOptimizeRequestContext(optimizeRequestContext);
             if (!resourceAnnotations.isEmpty()) {
                 builder.addResourceAnnotations(resourceAnnotations.stream()
                         .map(c -> DotName.createSimple(c.getName()))
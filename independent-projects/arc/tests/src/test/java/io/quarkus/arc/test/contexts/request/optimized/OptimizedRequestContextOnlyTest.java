@@ -0,0 +1,96 @@
+package io.quarkus.arc.test.contexts.request.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ComputingCacheContextInstances;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimizedRequestContextOnlyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Boom.class, Bim.class)
+            .optimizeContexts(false)
+            .optimizeRequestContext(true)
+            .build();
+
+    @Test
+    public void testContext() throws Exception {
+        ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            InjectableContext requestContext = container.getActiveContext(RequestScoped.class);
+            Object requestInstances = readField(requestContext.getState(), "contextInstances");
+            assertTrue(requestInstances.getClass().getName().endsWith("_ContextInstances"),
+                    requestInstances.getClass().getName());
+
+            InjectableContext applicationContext = container.getActiveContext(ApplicationScoped.class);
+            assertEquals(ComputingCacheContextInstances.class, readField(applicationContext, "instances").getClass());
+
+            Boom boom = container.instance(Boom.class).get();
+            String id1 = boom.ping();
+            assertEquals(id1, boom.ping());
+            container.instance(Bim.class).get().bam();
+
+            requestContext.destroy();
+            container.requestContext().activate();
+            String id2 = boom.ping();
+            assertNotEquals(id1, id2);
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    private static Object readField(Object target, String name) throws ReflectiveOperationException {
+        Class<?> clazz = target.getClass();
+        while (clazz != null) {
+            try {
+                Field field = clazz.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(target);
+            } catch (NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    @RequestScoped
+    public static class Boom {
+
+        private String id;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Bim {
+
+        public void bam() {
+        }
+
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InjectedInstanceResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Converter.class, AlphaConverter.class, BravoConverter.class,
+            Service.class, DefaultService.class, AlternativeService.class, Consumer.class);
+
+    @Test
+    public void testResolution() {
+        // Create the consumer twice so that the beans resolved for the injection points are reused
+        for (int i = 0; i < 2; i++) {
+            Consumer consumer = Arc.container().instance(Consumer.class).get();
+
+            assertTrue(consumer.converters.isAmbiguous());
+            String val = "ok";
+            for (Converter converter : consumer.converters) {
+                val = converter.convert(val);
+            }
+            assertEquals("ok:alpha:bravo", val);
+            assertEquals("ok:bravo", consumer.converters.select(Named.Literal.of("bravo")).get().convert("ok"));
+
+            assertFalse(consumer.service.isAmbiguous());
+            assertEquals("alternative", consumer.service.get().ping());
+
+            assertTrue(consumer.named.isUnsatisfied());
+        }
+    }
+
+    interface Converter {
+
+        String convert(String val);
+
+    }
+
+    @Priority(5)
+    @Singleton
+    static class AlphaConverter implements Converter {
+
+        @Override
+        public String convert(String val) {
+            return val + ":alpha";
+        }
+
+    }
+
+    @Named("bravo")
+    @Singleton
+    static class BravoConverter implements Converter {
+
+        @Override
+        public String convert(String val) {
+            return val + ":bravo";
+        }
+
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @DefaultBean
+    @Singleton
+    static class DefaultService implements Service {
+
+        @Override
+        public String ping() {
+            return "default";
+        }
+
+    }
+
+    @Alternative
+    @Priority(1)
+    @Singleton
+    static class AlternativeService implements Service {
+
+        @Override
+        public String ping() {
+            return "alternative";
+        }
+
+    }
+
+    @Dependent
+    static class Consumer {
+
+        @Inject
+        @Any
+        Instance<Converter> converters;
+
+        @Inject
+        Instance<Service> service;
+
+        @Inject
+        @Named("charlie")
+        Instance<Converter> named;
+
+    }
+
+}
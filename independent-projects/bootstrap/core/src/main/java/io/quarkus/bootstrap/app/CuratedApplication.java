@@ -23,6 +23,7 @@
 import io.quarkus.bootstrap.classloading.FilteredClassPathElement;
 import io.quarkus.bootstrap.classloading.MemoryClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.bootstrap.classloading.ResourceIndexCache;
 import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.DependencyFlags;
@@ -418,6 +419,7 @@ public void close() {
             baseRuntimeClassLoader = null;
         }
         augmentationElements.clear();
+        ResourceIndexCache.persist();
     }
 
     /**
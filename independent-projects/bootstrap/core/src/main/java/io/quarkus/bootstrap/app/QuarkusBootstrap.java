@@ -14,6 +14,7 @@
 import io.quarkus.bootstrap.BootstrapAppModelFactory;
 import io.quarkus.bootstrap.BootstrapException;
 import io.quarkus.bootstrap.classloading.ClassLoaderEventListener;
+import io.quarkus.bootstrap.classloading.ResourceIndexCache;
 import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.bootstrap.resolver.AppModelResolver;
 import io.quarkus.bootstrap.resolver.maven.MavenArtifactResolver;
@@ -33,6 +34,8 @@ public class QuarkusBootstrap implements Serializable {
 
     private static final long serialVersionUID = -3400622859354530408L;
 
+    private static final String RESOURCE_INDEX_DAT = "resource-index.dat";
+
     /**
      * The root of the application, where the application classes live.
      */
@@ -143,6 +146,11 @@ public CuratedApplication bootstrap() throws BootstrapException {
             }
         }
 
+        if ((mode == Mode.TEST || mode == Mode.DEV) && !disableClasspathCache && targetDirectory != null) {
+            //dev mode restarts and test profiles rebuild their class loaders, so the listed dependencies are kept
+            ResourceIndexCache.enable(targetDirectory.resolve("quarkus").resolve("bootstrap").resolve(RESOURCE_INDEX_DAT));
+        }
+
         final ConfiguredClassLoading classLoadingConfig = ConfiguredClassLoading.builder()
                 .setApplicationRoot(applicationRoot)
                 .setDefaultFlatTestClassPath(defaultFlatTestClassPath)
@@ -24,6 +24,8 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.maven.dependency.ResolvedDependency;
+import io.quarkus.paths.ArchivePathTree;
+import io.quarkus.paths.FilteredPathTree;
 import io.quarkus.paths.OpenPathTree;
 import io.quarkus.paths.PathTree;
 import io.quarkus.paths.PathVisit;
@@ -134,25 +136,36 @@ public <T> T apply(Function<OpenPathTree, T> func) {
     public Set<String> getProvidedResources() {
         Set<String> resources = this.resources;
         if (resources == null) {
-            resources = apply(tree -> {
-                final Set<String> relativePaths = new HashSet<>();
-                tree.walk(new PathVisitor() {
-                    @Override
-                    public void visitPath(PathVisit visit) {
-                        final String relativePath = visit.getRelativePath("/");
-                        if (relativePath.isEmpty()) {
-                            return;
-                        }
-                        relativePaths.add(relativePath);
-                    }
-                });
-                return relativePaths;
-            });
+            final PathTree originalTree = pathTree.getOriginalTree();
+            if (originalTree instanceof ArchivePathTree && !(pathTree instanceof FilteredPathTree)) {
+                //the content of dependencies hardly ever changes, so it is not listed again for every class loader
+                resources = ResourceIndexCache.getProvidedResources(getRoot(), originalTree.hashCode(),
+                        this::listProvidedResources);
+            } else {
+                resources = listProvidedResources();
+            }
             this.resources = resources;
         }
         return resources;
     }
 
+    private Set<String> listProvidedResources() {
+        return apply(tree -> {
+            final Set<String> relativePaths = new HashSet<>();
+            tree.walk(new PathVisitor() {
+                @Override
+                public void visitPath(PathVisit visit) {
+                    final String relativePath = visit.getRelativePath("/");
+                    if (relativePath.isEmpty()) {
+                        return;
+                    }
+                    relativePaths.add(relativePath);
+                }
+            });
+            return relativePaths;
+        });
+    }
+
     @Override
     protected Manifest readManifest() {
         return apply(OpenPathTree::getManifest);
@@ -175,12 +175,11 @@ public boolean isParentFirst(String name) {
         //if the interrupt bit is set then we clear it and restore it at the end
         boolean interrupted = Thread.interrupted();
         try {
+            //the state is immutable, so there is no need to take the class loading lock,
+            //which would allocate a lock for every class name that is checked
             ClassLoaderState state = getState();
-            synchronized (getClassLoadingLock(name)) {
-                String resourceName = sanitizeName(name).replace('.', '/') + ".class";
-                return parentFirst(resourceName, state);
-            }
-
+            String resourceName = sanitizeName(name).replace('.', '/') + ".class";
+            return parentFirst(resourceName, state);
         } finally {
             if (interrupted) {
                 //restore interrupt state
@@ -533,23 +532,29 @@ private void definePackage(String name, ClassPathElement classPathElement) {
         //we can't use getPackage here
         //if can return a package from the parent
         if ((pkgName != null) && definedPackages.get(pkgName) == null) {
-            synchronized (getClassLoadingLock(pkgName)) {
-                if (definedPackages.get(pkgName) == null) {
-                    Manifest mf = classPathElement.getManifest();
-                    if (mf != null) {
-                        Attributes ma = mf.getMainAttributes();
-                        definedPackages.put(pkgName, definePackage(pkgName, ma.getValue(Attributes.Name.SPECIFICATION_TITLE),
-                                ma.getValue(Attributes.Name.SPECIFICATION_VERSION),
-                                ma.getValue(Attributes.Name.SPECIFICATION_VENDOR),
-                                ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE),
-                                ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION),
-                                ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR), null));
-                        return;
-                    }
-
+            //the manifest is read outside of any lock, and defining a package never loads classes,
+            //so it does not need to be guarded by a class loading lock, which is retained for the lifetime of the class loader
+            Package pkg;
+            Manifest mf = classPathElement.getManifest();
+            try {
+                if (mf != null) {
+                    Attributes ma = mf.getMainAttributes();
+                    pkg = definePackage(pkgName, ma.getValue(Attributes.Name.SPECIFICATION_TITLE),
+                            ma.getValue(Attributes.Name.SPECIFICATION_VERSION),
+                            ma.getValue(Attributes.Name.SPECIFICATION_VENDOR),
+                            ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE),
+                            ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION),
+                            ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR), null);
+                } else {
                     // this could certainly be improved to use the actual manifest
-                    definedPackages.put(pkgName, definePackage(pkgName, null, null, null, null, null, null, null));
+                    pkg = definePackage(pkgName, null, null, null, null, null, null, null);
                 }
+            } catch (IllegalArgumentException e) {
+                // the package was defined concurrently by another thread
+                pkg = getDefinedPackage(pkgName);
+            }
+            if (pkg != null) {
+                definedPackages.putIfAbsent(pkgName, pkg);
             }
         }
     }
@@ -0,0 +1,194 @@
+package io.quarkus.bootstrap.classloading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A JVM wide cache of the resources provided by archives on the class path, that can be persisted between runs.
+ * <p>
+ * Listing the entries of every dependency is a large part of the cost of building a {@link QuarkusClassLoader}, and it is
+ * paid again for every dev mode restart and for every test profile, even though the dependencies hardly ever change.
+ * An archive is identified by its path, together with its size and last modification time, so an archive that was
+ * rebuilt is listed again.
+ */
+public final class ResourceIndexCache {
+
+    private static final Logger log = Logger.getLogger(ResourceIndexCache.class);
+
+    private static final int MAGIC = 0x52494458;
+    private static final int VERSION = 1;
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static volatile Path file;
+    private static volatile boolean modified;
+
+    private ResourceIndexCache() {
+    }
+
+    /**
+     * Persists the cache to the given file, and loads the entries previously written to it.
+     * <p>
+     * This has no effect if the cache is already persisted to this file.
+     */
+    public static synchronized void enable(Path file) {
+        if (file.equals(ResourceIndexCache.file)) {
+            return;
+        }
+        ResourceIndexCache.file = file;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != Runtime.version().feature()) {
+                // multi release jars provide different resources depending on the Java version
+                log.debugf("Ignoring the resource index %s created by a different version", file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String archive = in.readUTF();
+                long size = in.readLong();
+                long lastModified = in.readLong();
+                int treeHash = in.readInt();
+                entries.putIfAbsent(archive, new Entry(size, lastModified, treeHash, readResources(in)));
+            }
+            log.debugf("Loaded the resources of %d archives from %s", count, file);
+        } catch (NoSuchFileException e) {
+            // first run
+        } catch (IOException e) {
+            log.debugf(e, "Failed to read the resource index %s", file);
+        }
+    }
+
+    /**
+     * Writes the cache to the file it was enabled with, if any archive was listed since it was last written.
+     */
+    public static synchronized void persist() {
+        Path file = ResourceIndexCache.file;
+        if (file == null || !modified) {
+            return;
+        }
+        modified = false;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(Runtime.version().feature());
+                Map<String, Entry> snapshot = new HashMap<>(entries);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Entry> i : snapshot.entrySet()) {
+                    Entry entry = i.getValue();
+                    out.writeUTF(i.getKey());
+                    out.writeLong(entry.size);
+                    out.writeLong(entry.lastModified);
+                    out.writeInt(entry.treeHash);
+                    writeResources(out, entry.resources);
+                }
+            }
+            // other JVMs may be reading the file, so it is never written in place
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to write the resource index %s", file);
+        }
+    }
+
+    /**
+     * Returns the resources provided by the given archive, listing them only if they are not cached yet.
+     * <p>
+     * Nothing is cached unless the cache was {@link #enable(Path) enabled}, as the entries would never be released
+     * otherwise, for instance in production mode.
+     *
+     * @param archive the archive
+     * @param treeHash a hash of the way the archive is read, such as the filter applied to it
+     * @param lister lists the resources of the archive
+     * @return the resources, never {@code null}
+     */
+    static Set<String> getProvidedResources(Path archive, int treeHash, Supplier<Set<String>> lister) {
+        if (file == null) {
+            return lister.get();
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return lister.get();
+        }
+        if (!attributes.isRegularFile()) {
+            return lister.get();
+        }
+        String key = archive.toAbsolutePath().toString();
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.size == size && entry.lastModified == lastModified && entry.treeHash == treeHash) {
+            Set<String> result = new HashSet<>((int) (entry.resources.length / 0.75f) + 1);
+            result.addAll(Arrays.asList(entry.resources));
+            return result;
+        }
+        Set<String> result = lister.get();
+        String[] resources = result.toArray(new String[0]);
+        Arrays.sort(resources);
+        entries.put(key, new Entry(size, lastModified, treeHash, resources));
+        modified = true;
+        return result;
+    }
+
+    /**
+     * The sorted names are written with the length of the prefix they share with the previous name, as most resources
+     * of an archive share their packages.
+     */
+    private static void writeResources(DataOutputStream out, String[] resources) throws IOException {
+        out.writeInt(resources.length);
+        String previous = "";
+        for (String resource : resources) {
+            int common = 0;
+            int max = Math.min(previous.length(), resource.length());
+            while (common < max && previous.charAt(common) == resource.charAt(common)) {
+                common++;
+            }
+            out.writeShort(common);
+            out.writeUTF(resource.substring(common));
+            previous = resource;
+        }
+    }
+
+    private static String[] readResources(DataInputStream in) throws IOException {
+        String[] resources = new String[in.readInt()];
+        String previous = "";
+        for (int i = 0; i < resources.length; i++) {
+            int common = in.readUnsignedShort();
+            previous = resources[i] = previous.substring(0, common).concat(in.readUTF());
+        }
+        return resources;
+    }
+
+    private static final class Entry {
+        final long size;
+        final long lastModified;
+        final int treeHash;
+        final String[] resources;
+
+        Entry(long size, long lastModified, int treeHash, String[] resources) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.treeHash = treeHash;
+            this.resources = resources;
+        }
+    }
+}
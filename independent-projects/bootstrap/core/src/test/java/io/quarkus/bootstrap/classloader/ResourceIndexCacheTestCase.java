@@ -0,0 +1,70 @@
+package io.quarkus.bootstrap.classloader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.bootstrap.classloading.ResourceIndexCache;
+import io.quarkus.bootstrap.util.IoUtils;
+
+public class ResourceIndexCacheTestCase {
+
+    @Test
+    public void testRebuiltArchiveIsListedAgain() throws Exception {
+        Path dir = Files.createTempDirectory("resource-index");
+        try {
+            Path index = dir.resolve("resource-index.dat");
+            ResourceIndexCache.enable(index);
+
+            Path jarPath = dir.resolve("test.jar");
+            ShrinkWrap.create(JavaArchive.class)
+                    .add(new StringAsset("a"), "a.txt")
+                    .add(new StringAsset("b"), "b/b.txt")
+                    .as(ZipExporter.class).exportTo(jarPath.toFile());
+            try (QuarkusClassLoader cl = createClassLoader(jarPath)) {
+                Assertions.assertNotNull(cl.getResource("a.txt"));
+                Assertions.assertNotNull(cl.getResource("b/b.txt"));
+                Assertions.assertEquals(1, cl.getElementsWithResource("b").size());
+            }
+            ResourceIndexCache.persist();
+            Assertions.assertTrue(Files.exists(index));
+
+            // served from the cache
+            try (QuarkusClassLoader cl = createClassLoader(jarPath)) {
+                Assertions.assertNotNull(cl.getResource("a.txt"));
+                Assertions.assertNotNull(cl.getResource("b/b.txt"));
+                Assertions.assertNull(cl.getResource("c.txt"));
+            }
+
+            FileTime lastModified = Files.getLastModifiedTime(jarPath);
+            ShrinkWrap.create(JavaArchive.class)
+                    .add(new StringAsset("a"), "a.txt")
+                    .add(new StringAsset("c"), "c.txt")
+                    .as(ZipExporter.class).exportTo(jarPath.toFile(), true);
+            Files.setLastModifiedTime(jarPath, FileTime.fromMillis(lastModified.toMillis() + 1000));
+            try (QuarkusClassLoader cl = createClassLoader(jarPath)) {
+                Assertions.assertNotNull(cl.getResource("a.txt"));
+                Assertions.assertNull(cl.getResource("b/b.txt"));
+                Assertions.assertNotNull(cl.getResource("c.txt"));
+            }
+            ResourceIndexCache.persist();
+        } finally {
+            IoUtils.recursiveDelete(dir);
+        }
+    }
+
+    private QuarkusClassLoader createClassLoader(Path jarPath) {
+        return QuarkusClassLoader.builder("test", getClass().getClassLoader(), false)
+                .addElement(ClassPathElement.fromPath(jarPath, true))
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The classes that were loaded by the {@link RunnerClassLoader} while the application was starting, in the order in which
+ * they were loaded.
+ * <p>
+ * A profile is recorded by starting the application with the {@value #RECORD_PROPERTY} system property set to the file
+ * that should be written. When the application is then packaged with {@code quarkus.package.jar.class-loading-profile}
+ * pointing to this file, the classes are loaded by a background thread as soon as the application starts, so that the
+ * main thread mostly finds them already defined.
+ */
+public final class ClassLoadingProfile {
+
+    public static final String RECORD_PROPERTY = "quarkus.class-loading-profile.record";
+
+    private static final String STARTUP_TIME_PREFIX = "# startup-time-ms=";
+    private static final Logger log = Logger.getLogger(ClassLoadingProfile.class);
+
+    private final List<String> classNames;
+    private final long startupTimeMillis;
+
+    public ClassLoadingProfile(List<String> classNames, long startupTimeMillis) {
+        this.classNames = classNames;
+        this.startupTimeMillis = startupTimeMillis;
+    }
+
+    /**
+     * @return the names of the loaded classes, in loading order
+     */
+    public List<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * @return the time it took for the application to start when the profile was recorded, or -1 if unknown
+     */
+    public long getStartupTimeMillis() {
+        return startupTimeMillis;
+    }
+
+    public static ClassLoadingProfile read(Path file) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        long startupTimeMillis = -1;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.startsWith(STARTUP_TIME_PREFIX)) {
+                startupTimeMillis = Long.parseLong(line.substring(STARTUP_TIME_PREFIX.length()).trim());
+                continue;
+            }
+            int idx = line.indexOf('#');
+            if (idx != -1) {
+                line = line.substring(0, idx);
+            }
+            line = line.strip();
+            if (!line.isEmpty()) {
+                classNames.add(line);
+            }
+        }
+        return new ClassLoadingProfile(classNames, startupTimeMillis);
+    }
+
+    public void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(STARTUP_TIME_PREFIX);
+            writer.write(Long.toString(startupTimeMillis));
+            writer.newLine();
+            for (String className : classNames) {
+                writer.write(className);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Collects the classes defined by the class loader, until the application has started.
+     */
+    static final class Recording {
+
+        private final Path file;
+        private final long start = System.nanoTime();
+        private final Set<String> classNames = Collections.synchronizedSet(new LinkedHashSet<>());
+
+        Recording(Path file) {
+            this.file = file;
+        }
+
+        void classLoaded(String className) {
+            classNames.add(className);
+        }
+
+        void finish() {
+            long startupTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            List<String> recorded;
+            synchronized (classNames) {
+                recorded = new ArrayList<>(classNames);
+            }
+            try {
+                new ClassLoadingProfile(recorded, startupTimeMillis).write(file);
+                log.infof("Recorded the %d classes loaded during a startup of %d ms to %s", recorded.size(),
+                        startupTimeMillis, file);
+            } catch (IOException e) {
+                log.errorf(e, "Failed to write the class-loading profile to %s", file);
+            }
+        }
+    }
+
+    /**
+     * Loads the classes of a profile from a background thread, in the recorded order.
+     * <p>
+     * A single thread is used: the {@link RunnerClassLoader} only keeps the buffers of a few jars, so several threads
+     * loading classes from different jars would keep evicting the buffers the main thread is reading from.
+     */
+    static final class Replay implements Runnable {
+
+        private final ClassLoader classLoader;
+        private final ClassLoadingProfile profile;
+        private final AtomicInteger loaded = new AtomicInteger();
+        private final long start = System.nanoTime();
+        private final Thread thread;
+        private volatile boolean stopped;
+
+        Replay(ClassLoader classLoader, ClassLoadingProfile profile) {
+            this.classLoader = classLoader;
+            this.profile = profile;
+            this.thread = new Thread(this, "quarkus-class-preload");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            for (String className : profile.getClassNames()) {
+                if (stopped) {
+                    return;
+                }
+                try {
+                    classLoader.loadClass(className);
+                    loaded.incrementAndGet();
+                } catch (Throwable ignored) {
+                    // the class will fail to load on the main thread as well, if it is ever needed
+                }
+            }
+        }
+
+        /**
+         * Waits for the preloading thread to complete, or to stop once {@link #finish()} was called.
+         */
+        void await(long timeoutMillis) throws InterruptedException {
+            thread.join(timeoutMillis);
+        }
+
+        int getLoaded() {
+            return loaded.get();
+        }
+
+        void finish() {
+            stopped = true;
+            long startupTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (profile.getStartupTimeMillis() >= 0) {
+                log.debugf("Started in %d ms with the class-loading profile, %d ms when the profile was recorded;"
+                        + " %d of %d classes were preloaded", startupTimeMillis, profile.getStartupTimeMillis(),
+                        loaded.get(), profile.getClassNames().size());
+            } else {
+                log.debugf("Started in %d ms with the class-loading profile; %d of %d classes were preloaded",
+                        startupTimeMillis, loaded.get(), profile.getClassNames().size());
+            }
+        }
+    }
+}
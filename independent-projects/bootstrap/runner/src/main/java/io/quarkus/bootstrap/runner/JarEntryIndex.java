@@ -0,0 +1,171 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The offsets of the entries of a jar, computed during the build so that {@link MappedJarResource} can read the entries
+ * straight from a memory mapped file.
+ * <p>
+ * Only plain zip files are supported: jars that use ZIP64, encryption or a compression method other than stored or
+ * deflated cannot be indexed, and are read via {@link JarResource} instead.
+ */
+final class JarEntryIndex {
+
+    static final int STORED = 0;
+    static final int DEFLATED = 8;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_LENGTH = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_LENGTH = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private JarEntryIndex() {
+    }
+
+    static final class Entry {
+        final String name;
+        final int method;
+        final int offset;
+        final int compressedSize;
+        final int size;
+
+        Entry(String name, int method, int offset, int compressedSize, int size) {
+            this.name = name;
+            this.method = method;
+            this.offset = offset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Reads the central directory of the given jar and serializes the location of the data of every entry.
+     *
+     * @return the serialized index, or {@code null} if the jar can't be memory mapped
+     */
+    static byte[] create(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE || fileSize < END_LENGTH) {
+                return null;
+            }
+            ByteBuffer end = findEnd(channel, (int) fileSize);
+            if (end == null) {
+                return null;
+            }
+            int entries = Short.toUnsignedInt(end.getShort(10));
+            long centralDirectorySize = Integer.toUnsignedLong(end.getInt(12));
+            long centralDirectoryOffset = Integer.toUnsignedLong(end.getInt(16));
+            if (entries == 0xFFFF || centralDirectoryOffset + centralDirectorySize > fileSize) {
+                // ZIP64
+                return null;
+            }
+            ByteBuffer central = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+            ByteBuffer localHeader = ByteBuffer.allocate(LOCAL_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(entries);
+                int pos = 0;
+                for (int i = 0; i < entries; i++) {
+                    if (pos + CENTRAL_HEADER_LENGTH > central.limit() || central.getInt(pos) != CENTRAL_HEADER_SIGNATURE) {
+                        return null;
+                    }
+                    int flags = Short.toUnsignedInt(central.getShort(pos + 8));
+                    int method = Short.toUnsignedInt(central.getShort(pos + 10));
+                    long compressedSize = Integer.toUnsignedLong(central.getInt(pos + 20));
+                    long size = Integer.toUnsignedLong(central.getInt(pos + 24));
+                    int nameLength = Short.toUnsignedInt(central.getShort(pos + 28));
+                    int extraLength = Short.toUnsignedInt(central.getShort(pos + 30));
+                    int commentLength = Short.toUnsignedInt(central.getShort(pos + 32));
+                    long localHeaderOffset = Integer.toUnsignedLong(central.getInt(pos + 42));
+                    if ((flags & 1) != 0 || (method != STORED && method != DEFLATED)
+                            || compressedSize >= Integer.MAX_VALUE || size >= Integer.MAX_VALUE
+                            || localHeaderOffset + LOCAL_HEADER_LENGTH > fileSize) {
+                        // encrypted, unsupported compression or ZIP64
+                        return null;
+                    }
+                    byte[] name = new byte[nameLength];
+                    central.get(pos + CENTRAL_HEADER_LENGTH, name);
+
+                    // the extra field of the local header can differ from the one in the central directory
+                    localHeader.clear();
+                    readFully(channel, localHeader, localHeaderOffset);
+                    if (localHeader.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+                        return null;
+                    }
+                    long dataOffset = localHeaderOffset + LOCAL_HEADER_LENGTH
+                            + Short.toUnsignedInt(localHeader.getShort(26))
+                            + Short.toUnsignedInt(localHeader.getShort(28));
+                    if (dataOffset + compressedSize > fileSize) {
+                        return null;
+                    }
+
+                    out.writeUTF(new String(name, StandardCharsets.UTF_8));
+                    out.writeByte(method);
+                    out.writeInt((int) dataOffset);
+                    out.writeInt((int) compressedSize);
+                    out.writeInt((int) size);
+                    pos += CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+                }
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    static Map<String, Entry> read(byte[] index) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(index))) {
+            int entries = in.readInt();
+            Map<String, Entry> result = new HashMap<>((int) (entries / 0.75f) + 1);
+            for (int i = 0; i < entries; i++) {
+                String name = in.readUTF();
+                result.put(name, new Entry(name, in.readUnsignedByte(), in.readInt(), in.readInt(), in.readInt()));
+            }
+            return result;
+        }
+    }
+
+    private static ByteBuffer findEnd(FileChannel channel, int fileSize) throws IOException {
+        int length = Math.min(fileSize, END_LENGTH + MAX_COMMENT_LENGTH);
+        ByteBuffer tail = read(channel, fileSize - length, length);
+        for (int pos = length - END_LENGTH; pos >= 0; pos--) {
+            // the record is followed by the archive comment, which must run up to the end of the file
+            if (tail.getInt(pos) == END_SIGNATURE
+                    && pos + END_LENGTH + Short.toUnsignedInt(tail.getShort(pos + 20)) == length) {
+                return tail.slice(pos, END_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        return null;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, buffer, position);
+        return buffer;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read == -1) {
+                throw new EOFException();
+            }
+        }
+    }
+}
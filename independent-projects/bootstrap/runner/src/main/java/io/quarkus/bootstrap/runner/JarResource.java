@@ -53,6 +53,10 @@ public JarResource(ManifestInfo manifestInfo, Path jarPath) {
 
     @Override
     public void init() {
+        this.protectionDomain = createProtectionDomain(jarPath);
+    }
+
+    static ProtectionDomain createProtectionDomain(Path jarPath) {
         final URL url;
         try {
             String path = jarPath.toAbsolutePath().toString();
@@ -64,7 +68,7 @@ public void init() {
         } catch (URISyntaxException | MalformedURLException e) {
             throw new RuntimeException("Unable to create protection domain for " + jarPath, e);
         }
-        this.protectionDomain = new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null);
+        return new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null);
     }
 
     @Override
@@ -104,43 +108,49 @@ public URL getResourceURL(String resource) {
             if (entry == null) {
                 return null;
             }
-            try {
-                String realName = JarEntries.getRealName(entry);
-                // Avoid ending the URL with / to avoid breaking compatibility
-                if (realName.endsWith("/")) {
-                    realName = realName.substring(0, realName.length() - 1);
-                }
-                final URI jarUri = jarPath.toUri();
-                // first create a URI which includes both the jar file path and the relative resource name
-                // and then invoke a toURL on it. The URI reconstruction allows for any encoding to be done
-                // for the "path" which includes the "realName"
-                var ssp = new StringBuilder(jarUri.getPath().length() + realName.length() + 2);
-                ssp.append(jarUri.getPath());
-                ssp.append("!/");
-                ssp.append(realName);
-                final URL resUrl = new URI(jarUri.getScheme(), ssp.toString(), null).toURL();
-                // wrap it up into a "jar" protocol URL
-                //horrible hack to deal with '?' characters in the URL
-                //seems to be the only way, the URI constructor just does not let you handle them in a sane way
-                var file = new StringBuilder((resUrl.getProtocol() == null ? 4 : resUrl.getProtocol().length()) + 1 +
-                        resUrl.getPath().length() + (resUrl.getQuery() == null ? 0 : 3 + resUrl.getQuery().length()));
-                // protocol shouldn't be null, but let's be safe
-                file.append(resUrl.getProtocol());
-                file.append(':');
-                file.append(resUrl.getPath());
-                if (resUrl.getQuery() != null) {
-                    file.append("%3F");
-                    file.append(resUrl.getQuery());
-                }
-                return new URL("jar", null, file.toString());
-            } catch (MalformedURLException | URISyntaxException e) {
-                throw new RuntimeException(e);
-            }
+            return toResourceURL(jarPath, JarEntries.getRealName(entry));
         } finally {
             readLock.unlock();
         }
     }
 
+    /**
+     * @return the {@code jar:} URL of the given entry of the jar
+     */
+    static URL toResourceURL(Path jarPath, String realName) {
+        try {
+            // Avoid ending the URL with / to avoid breaking compatibility
+            if (realName.endsWith("/")) {
+                realName = realName.substring(0, realName.length() - 1);
+            }
+            final URI jarUri = jarPath.toUri();
+            // first create a URI which includes both the jar file path and the relative resource name
+            // and then invoke a toURL on it. The URI reconstruction allows for any encoding to be done
+            // for the "path" which includes the "realName"
+            var ssp = new StringBuilder(jarUri.getPath().length() + realName.length() + 2);
+            ssp.append(jarUri.getPath());
+            ssp.append("!/");
+            ssp.append(realName);
+            final URL resUrl = new URI(jarUri.getScheme(), ssp.toString(), null).toURL();
+            // wrap it up into a "jar" protocol URL
+            //horrible hack to deal with '?' characters in the URL
+            //seems to be the only way, the URI constructor just does not let you handle them in a sane way
+            var file = new StringBuilder((resUrl.getProtocol() == null ? 4 : resUrl.getProtocol().length()) + 1 +
+                    resUrl.getPath().length() + (resUrl.getQuery() == null ? 0 : 3 + resUrl.getQuery().length()));
+            // protocol shouldn't be null, but let's be safe
+            file.append(resUrl.getProtocol());
+            file.append(':');
+            file.append(resUrl.getPath());
+            if (resUrl.getQuery() != null) {
+                file.append("%3F");
+                file.append(resUrl.getQuery());
+            }
+            return new URL("jar", null, file.toString());
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public ManifestInfo getManifestInfo() {
         return manifestInfo;
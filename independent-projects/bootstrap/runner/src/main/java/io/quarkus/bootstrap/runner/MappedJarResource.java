@@ -0,0 +1,182 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.ProtectionDomain;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * A jar resource that is read from a memory mapped file, using the entry offsets recorded by {@link JarEntryIndex}
+ * during the build.
+ * <p>
+ * Unlike {@link JarResource} no {@link java.util.jar.JarFile} is opened, and reading an entry does not need any lock:
+ * the data is copied, or inflated, straight from the mapped buffer.
+ */
+public class MappedJarResource implements ClassLoadingResource {
+
+    // Inflaters hold native memory, so they are reused across all the jars
+    private static final ConcurrentLinkedQueue<Inflater> INFLATERS = new ConcurrentLinkedQueue<>();
+
+    private final ManifestInfo manifestInfo;
+    private final Path jarPath;
+
+    private volatile ProtectionDomain protectionDomain;
+
+    //The index is only deserialized when the jar is first accessed, as most jars are never used at startup.
+    //Both fields are guarded by this; serializedIndex is cleared once the index is available.
+    private byte[] serializedIndex;
+    private volatile Map<String, JarEntryIndex.Entry> index;
+
+    //Mapped lazily, and released on close.
+    private volatile ByteBuffer buffer;
+
+    MappedJarResource(ManifestInfo manifestInfo, Path jarPath, byte[] serializedIndex) {
+        this.manifestInfo = manifestInfo;
+        this.jarPath = jarPath;
+        this.serializedIndex = serializedIndex;
+    }
+
+    @Override
+    public void init() {
+        this.protectionDomain = JarResource.createProtectionDomain(jarPath);
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        JarEntryIndex.Entry entry = getEntry(resource);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer buffer = getBuffer();
+        byte[] data = new byte[entry.size];
+        if (entry.method == JarEntryIndex.STORED) {
+            // absolute bulk get, the position of the shared buffer is never modified
+            buffer.get(entry.offset, data);
+            return data;
+        }
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setInput(buffer.slice(entry.offset, entry.compressedSize));
+            int pos = 0;
+            while (pos < data.length) {
+                int read = inflater.inflate(data, pos, data.length - pos);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new RuntimeException("Failed to read all data for " + resource);
+                }
+                pos += read;
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Failed to read zip entry " + resource, e);
+        } finally {
+            inflater.reset();
+            INFLATERS.offer(inflater);
+        }
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        JarEntryIndex.Entry entry = getEntry(resource);
+        if (entry == null) {
+            return null;
+        }
+        return JarResource.toResourceURL(jarPath, entry.name);
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return manifestInfo;
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain() {
+        return protectionDomain;
+    }
+
+    private JarEntryIndex.Entry getEntry(String resource) {
+        Map<String, JarEntryIndex.Entry> index = getIndex();
+        JarEntryIndex.Entry entry = index.get(resource);
+        if (entry == null && !resource.isEmpty() && resource.charAt(resource.length() - 1) != '/') {
+            // same as ZipFile, a directory can be looked up without the trailing slash
+            entry = index.get(resource + '/');
+        }
+        return entry;
+    }
+
+    private Map<String, JarEntryIndex.Entry> getIndex() {
+        Map<String, JarEntryIndex.Entry> index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    try {
+                        index = JarEntryIndex.read(serializedIndex);
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to read the entry index of " + jarPath, e);
+                    }
+                    this.index = index;
+                    this.serializedIndex = null;
+                }
+            }
+        }
+        return index;
+    }
+
+    private ByteBuffer getBuffer() {
+        ByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            synchronized (this) {
+                buffer = this.buffer;
+                if (buffer == null) {
+                    try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+                        // the mapping stays valid after the channel is closed
+                        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to map " + jarPath, e);
+                    }
+                    this.buffer = buffer;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    @Override
+    public void close() {
+        //The mapping is released once the buffer is garbage collected
+        this.buffer = null;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        MappedJarResource that = (MappedJarResource) o;
+        return Objects.equals(manifestInfo, that.manifestInfo) && jarPath.equals(that.jarPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(manifestInfo, jarPath);
+    }
+}
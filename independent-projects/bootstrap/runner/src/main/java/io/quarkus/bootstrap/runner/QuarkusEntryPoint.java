@@ -58,6 +58,12 @@ private static void doRun(Object args) throws IOException, ClassNotFoundExceptio
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
+                String classLoadingProfile = System.getProperty(ClassLoadingProfile.RECORD_PROPERTY);
+                if (classLoadingProfile != null) {
+                    appRunnerClassLoader.recordClassLoadingProfile(Path.of(classLoadingProfile));
+                } else {
+                    appRunnerClassLoader.replayClassLoadingProfile();
+                }
                 Class<?> mainClass = appRunnerClassLoader.loadClass(app.getMainClass());
                 mainClass.getMethod("main", String[].class).invoke(null, args);
             } finally {
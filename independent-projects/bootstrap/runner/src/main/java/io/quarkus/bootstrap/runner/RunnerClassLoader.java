@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -46,15 +47,30 @@ public final class RunnerClassLoader extends ClassLoader {
 
     private final CracResource resource;
 
+    // the profile packaged with the application, if any
+    private final ClassLoadingProfile classLoadingProfile;
+    // only set until the application has started
+    private volatile ClassLoadingProfile.Recording classLoadingRecording;
+    private volatile ClassLoadingProfile.Replay classLoadingReplay;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this(parent, resourceDirectoryMap, parentFirstPackages, nonExistentResources, fullyIndexedDirectories,
+                directlyIndexedResourcesIndexMap, null);
+    }
+
+    RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+            Set<String> parentFirstPackages, Set<String> nonExistentResources,
+            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            ClassLoadingProfile classLoadingProfile) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.classLoadingProfile = classLoadingProfile;
 
         resource = new CracResource();
         org.crac.Core.getGlobalContext().register(resource);
@@ -102,7 +118,12 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
                 definePackage(packageName, resources);
                 try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Class<?> defined = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    ClassLoadingProfile.Recording recording = classLoadingRecording;
+                    if (recording != null) {
+                        recording.classLoaded(name);
+                    }
+                    return defined;
                 } catch (LinkageError e) {
                     loaded = findLoadedClass(name);
                     if (loaded != null) {
@@ -280,7 +301,44 @@ protected Class<?> findClass(String moduleName, String name) {
         }
     }
 
+    /**
+     * Records the classes that are loaded until the application has started, and writes them to the given file.
+     *
+     * @see ClassLoadingProfile
+     */
+    public void recordClassLoadingProfile(Path file) {
+        classLoadingRecording = new ClassLoadingProfile.Recording(file);
+    }
+
+    /**
+     * Starts loading the classes of the profile packaged with the application in the background, if there is one.
+     *
+     * @see ClassLoadingProfile
+     */
+    public void replayClassLoadingProfile() {
+        if (classLoadingProfile != null && !classLoadingProfile.getClassNames().isEmpty()) {
+            ClassLoadingProfile.Replay replay = new ClassLoadingProfile.Replay(this, classLoadingProfile);
+            classLoadingReplay = replay;
+            replay.start();
+        }
+    }
+
+    private void finishClassLoadingProfile() {
+        ClassLoadingProfile.Recording recording = classLoadingRecording;
+        if (recording != null) {
+            classLoadingRecording = null;
+            recording.finish();
+        }
+        ClassLoadingProfile.Replay replay = classLoadingReplay;
+        if (replay != null) {
+            classLoadingReplay = null;
+            replay.finish();
+        }
+    }
+
     public void close() {
+        //command mode applications are not notified once started
+        finishClassLoadingProfile();
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
                 i.close();
@@ -289,6 +347,8 @@ public void close() {
     }
 
     public void resetInternalCaches() {
+        //this is invoked once the application has started
+        finishClassLoadingProfile();
         synchronized (this.currentlyBufferedResources) {
             for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
                 for (ClassLoadingResource i : entry.getValue()) {
@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 4;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -62,6 +62,28 @@ public String getMainClass() {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, false);
+    }
+
+    /**
+     * @param memoryMapped whether the offsets of the jar entries should be written, so that the jars can be memory mapped
+     *        by {@link MappedJarResource} instead of being opened as {@link JarFile}s
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, boolean memoryMapped)
+            throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, memoryMapped, null);
+    }
+
+    /**
+     * @param memoryMapped whether the offsets of the jar entries should be written, so that the jars can be memory mapped
+     *        by {@link MappedJarResource} instead of being opened as {@link JarFile}s
+     * @param classLoadingProfile the classes to preload when the application starts, may be {@code null}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, boolean memoryMapped,
+            ClassLoadingProfile classLoadingProfile)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
@@ -72,7 +94,7 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jar, memoryMapped);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -98,6 +120,14 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                     data.writeShort(index);
                 }
             }
+            data.writeBoolean(classLoadingProfile != null);
+            if (classLoadingProfile != null) {
+                data.writeLong(classLoadingProfile.getStartupTimeMillis());
+                data.writeInt(classLoadingProfile.getClassNames().size());
+                for (String className : classLoadingProfile.getClassNames()) {
+                    data.writeUTF(className);
+                }
+            }
             data.flush();
         }
     }
@@ -123,11 +153,21 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
-                allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
+                String[] dirs = new String[numDirs];
                 for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
+                    dirs[i] = in.readUTF();
+                }
+                ClassLoadingResource resource;
+                if (in.readBoolean()) {
+                    byte[] entryIndex = new byte[in.readInt()];
+                    in.readFully(entryIndex);
+                    resource = new MappedJarResource(info, appRoot.resolve(path), entryIndex);
+                } else {
+                    resource = new JarResource(info, appRoot.resolve(path));
+                }
+                allClassLoadingResources[pathCount] = resource;
+                for (String dir : dirs) {
                     int j = dir.indexOf('/');
                     while (j >= 0) {
                         resourceDirectoryTracker.addResourceDir(dir.substring(0, j), resource);
@@ -158,9 +198,19 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            ClassLoadingProfile classLoadingProfile = null;
+            if (in.readBoolean()) {
+                long startupTimeMillis = in.readLong();
+                int classes = in.readInt();
+                List<String> classNames = new ArrayList<>(classes);
+                for (int i = 0; i < classes; i++) {
+                    classNames.add(in.readUTF());
+                }
+                classLoadingProfile = new ClassLoadingProfile(classNames, startupTimeMillis);
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap, classLoadingProfile);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init();
             }
@@ -179,7 +229,7 @@ private static String readNullableString(DataInputStream in) throws IOException
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, boolean memoryMapped) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -200,12 +250,19 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
                 }
             }
 
+            // multi-release jars resolve entries depending on the runtime version,
+            // and the entries of signed jars are verified, so these are always opened as JarFile
+            boolean mappable = memoryMapped && (manifest == null
+                    || !"true".equalsIgnoreCase(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE)));
             Set<String> dirs = new LinkedHashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
             Enumeration<? extends ZipEntry> entries = zip.entries();
             boolean hasDefaultPackage = false;
             while (entries.hasMoreElements()) {
                 ZipEntry entry = entries.nextElement();
+                if (mappable && isSignatureFile(entry.getName())) {
+                    mappable = false;
+                }
                 if (!entry.getName().contains("/")) {
                     hasDefaultPackage = true;
                     if (!entry.getName().isEmpty() && FULLY_INDEXED_PATHS.contains("")) {
@@ -252,6 +309,14 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
             for (String i : dirs) {
                 out.writeUTF(i);
             }
+            byte[] entryIndex = mappable ? JarEntryIndex.create(jar) : null;
+            if (entryIndex == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                out.writeInt(entryIndex.length);
+                out.write(entryIndex);
+            }
             List<String> result = new ArrayList<>();
             for (List<String> values : fullyIndexedPaths.values()) {
                 result.addAll(values);
@@ -260,6 +325,13 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
         }
     }
 
+    private static boolean isSignatureFile(String name) {
+        if (!name.startsWith("META-INF/") || name.indexOf('/', "META-INF/".length()) != -1) {
+            return false;
+        }
+        return name.endsWith(".SF") || name.endsWith(".RSA") || name.endsWith(".DSA") || name.endsWith(".EC");
+    }
+
     private static List<String> newFullyIndexedPathsValue(String ignored) {
         return new ArrayList<>(10);
     }
@@ -330,11 +402,11 @@ private static class ResourceDirectoryTracker {
         private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
         private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
 
-        void addResourceDir(String dir, JarResource resource) {
+        void addResourceDir(String dir, ClassLoadingResource resource) {
             ClassLoadingResource[] existing = result.get(dir);
             if (existing == null) {
                 // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
+                result.put(dir, new ClassLoadingResource[] { resource });
             } else {
                 ClassLoadingResource existingResource = existing[0];
                 if (existingResource.equals(resource)) {
@@ -0,0 +1,106 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ClassLoadingProfile}
+ */
+public class ClassLoadingProfileTest {
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path file = Files.createTempFile("class-loading", ".profile");
+        try {
+            List<String> classNames = List.of("org.acme.Main", "org.acme.Service", "org.acme.Service$Inner");
+            new ClassLoadingProfile(classNames, 1234).write(file);
+
+            ClassLoadingProfile profile = ClassLoadingProfile.read(file);
+            Assertions.assertEquals(classNames, profile.getClassNames());
+            Assertions.assertEquals(1234, profile.getStartupTimeMillis());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testReadEditedProfile() throws Exception {
+        Path file = Files.createTempFile("class-loading", ".profile");
+        try {
+            Files.writeString(file, "# classes used by the startup of the application\n\norg.acme.Main # the main class\n"
+                    + "  org.acme.Service\n", StandardCharsets.UTF_8);
+
+            ClassLoadingProfile profile = ClassLoadingProfile.read(file);
+            Assertions.assertEquals(List.of("org.acme.Main", "org.acme.Service"), profile.getClassNames());
+            Assertions.assertEquals(-1, profile.getStartupTimeMillis());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testReplayLoadsTheClassesInOrder() throws Exception {
+        RecordingClassLoader classLoader = new RecordingClassLoader(null);
+        List<String> classNames = List.of("java.lang.String", "org.acme.Missing", "java.util.List");
+        ClassLoadingProfile.Replay replay = new ClassLoadingProfile.Replay(classLoader,
+                new ClassLoadingProfile(classNames, 1234));
+        replay.start();
+        replay.await(TimeUnit.SECONDS.toMillis(10));
+
+        Assertions.assertEquals(classNames, classLoader.requested);
+        // the missing class is skipped
+        Assertions.assertEquals(2, replay.getLoaded());
+        replay.finish();
+    }
+
+    @Test
+    public void testFinishStopsTheReplay() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingClassLoader classLoader = new RecordingClassLoader(release);
+        ClassLoadingProfile.Replay replay = new ClassLoadingProfile.Replay(classLoader,
+                new ClassLoadingProfile(List.of("java.lang.String", "java.lang.Integer", "java.util.List"), -1));
+        replay.start();
+        classLoader.blocked.await(10, TimeUnit.SECONDS);
+
+        // the application started while the first class was being loaded
+        replay.finish();
+        release.countDown();
+        replay.await(TimeUnit.SECONDS.toMillis(10));
+
+        Assertions.assertEquals(List.of("java.lang.String"), classLoader.requested);
+    }
+
+    private static final class RecordingClassLoader extends ClassLoader {
+
+        final List<String> requested = new CopyOnWriteArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingClassLoader(CountDownLatch release) {
+            super(RecordingClassLoader.class.getClassLoader());
+            this.release = release;
+        }
+
+        @Override
+        public Class<?> loadClass(String name) throws ClassNotFoundException {
+            requested.add(name);
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.loadClass(name);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedJarResource}
+ */
+public class MappedJarResourceTest {
+
+    @Test
+    public void testSameContentAsJarResource() throws Exception {
+        Path jarPath = Files.createTempFile("mapped", ".jar");
+        byte[] random = new byte[100_000];
+        new Random(42).nextBytes(random);
+        byte[] text = "hello hello hello hello".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarPath))) {
+            out.putNextEntry(new JarEntry("org/"));
+            out.putNextEntry(new JarEntry("org/acme/"));
+            writeEntry(out, "org/acme/Deflated.class", text, false);
+            writeEntry(out, "org/acme/Stored.class", random, true);
+            writeEntry(out, "org/acme/empty.txt", new byte[0], false);
+            writeEntry(out, "a b.txt", text, true);
+        }
+
+        byte[] index = JarEntryIndex.create(jarPath);
+        Assertions.assertNotNull(index);
+        MappedJarResource mapped = new MappedJarResource(null, jarPath, index);
+        JarResource jar = new JarResource(null, jarPath);
+        mapped.init();
+        jar.init();
+        try {
+            for (String resource : new String[] { "org/acme/Deflated.class", "org/acme/Stored.class", "org/acme/empty.txt",
+                    "a b.txt", "org/acme/", "org/acme", "org/acme/Missing.class" }) {
+                Assertions.assertArrayEquals(jar.getResourceData(resource), mapped.getResourceData(resource), resource);
+                Assertions.assertEquals(jar.getResourceURL(resource), mapped.getResourceURL(resource), resource);
+            }
+            Assertions.assertArrayEquals(text, mapped.getResourceData("org/acme/Deflated.class"));
+            Assertions.assertArrayEquals(random, mapped.getResourceData("org/acme/Stored.class"));
+
+            // the jar is mapped again after it has been closed
+            mapped.close();
+            Assertions.assertArrayEquals(text, mapped.getResourceData("a b.txt"));
+        } finally {
+            mapped.close();
+            jar.close();
+            Files.delete(jarPath);
+        }
+    }
+
+    private static void writeEntry(JarOutputStream out, String name, byte[] data, boolean stored) throws Exception {
+        JarEntry entry = new JarEntry(name);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(data.length);
+            entry.setCompressedSize(data.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+}
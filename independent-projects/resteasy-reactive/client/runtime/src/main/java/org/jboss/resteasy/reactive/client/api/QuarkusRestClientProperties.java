@@ -75,6 +75,40 @@ public class QuarkusRestClientProperties {
      */
     public static final String HTTP2 = "io.quarkus.rest.client.http2";
 
+    /**
+     * The maximum number of HTTP/2 connections per host. Defaults to the {@link #CONNECTION_POOL_SIZE}.
+     */
+    public static final String HTTP2_CONNECTION_POOL_SIZE = "io.quarkus.rest.client.http2-connection-pool-size";
+
+    /**
+     * The maximum number of concurrent streams per HTTP/2 connection. Defaults to the limit advertised by the server.
+     */
+    public static final String HTTP2_MULTIPLEXING_LIMIT = "io.quarkus.rest.client.http2-multiplexing-limit";
+
+    /**
+     * The name under which the metrics of the connection pool of the client are reported, in the form
+     * <code>type|client name</code>. The metrics are not reported if not set.
+     */
+    public static final String METRICS_NAME = "io.quarkus.rest.client.metrics-name";
+
+    /**
+     * Set to true to let the identical invocations without entity of the GET, HEAD and OPTIONS methods that are in
+     * flight at the same time share the result of a single request.
+     */
+    public static final String COALESCE_REQUESTS = "io.quarkus.rest.client.coalesce-requests";
+
+    /**
+     * The maximum number of bytes of the responses cached in memory by the client, which enables the HTTP cache of the
+     * client.
+     */
+    public static final String HTTP_CACHE_SIZE = "io.quarkus.rest.client.http-cache-size";
+
+    /**
+     * The {@link org.jboss.resteasy.reactive.client.cache.HttpResponseCache} storing the responses cached by the client,
+     * which enables the HTTP cache of the client. Takes precedence over {@link #HTTP_CACHE_SIZE}.
+     */
+    public static final String HTTP_CACHE = "io.quarkus.rest.client.http-cache";
+
     /**
      * Set to true to explicitly use the Application-Layer Protocol Negotiation extension.
      */
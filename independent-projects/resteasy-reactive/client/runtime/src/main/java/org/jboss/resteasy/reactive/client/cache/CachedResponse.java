@@ -0,0 +1,94 @@
+package org.jboss.resteasy.reactive.client.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * A response stored in a {@link HttpResponseCache}, with its body.
+ */
+public final class CachedResponse {
+
+    private final int status;
+    private final String reasonPhrase;
+    private final MultivaluedMap<String, String> headers;
+    private final byte[] body;
+    private final Map<String, String> varyingRequestHeaders;
+    private final long expiresAt;
+    private final String etag;
+    private final String lastModified;
+    private final long size;
+
+    /**
+     * @param varyingRequestHeaders the values of the request headers listed by the {@code Vary} header of the response,
+     *        by lower case name
+     * @param expiresAt the time in milliseconds after which the response must be revalidated
+     */
+    public CachedResponse(int status, String reasonPhrase, MultivaluedMap<String, String> headers, byte[] body,
+            Map<String, String> varyingRequestHeaders, long expiresAt, String etag, String lastModified) {
+        this.status = status;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = headers;
+        this.body = body;
+        this.varyingRequestHeaders = varyingRequestHeaders;
+        this.expiresAt = expiresAt;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        long size = body.length;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            size += header.getKey().length();
+            for (String value : header.getValue()) {
+                size += value.length();
+            }
+        }
+        this.size = size;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    public MultivaluedMap<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public Map<String, String> getVaryingRequestHeaders() {
+        return varyingRequestHeaders;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public boolean isFresh(long now) {
+        return now < expiresAt;
+    }
+
+    public boolean canBeRevalidated() {
+        return etag != null || lastModified != null;
+    }
+
+    /**
+     * @return the approximate number of bytes used by this response
+     */
+    public long size() {
+        return size;
+    }
+}
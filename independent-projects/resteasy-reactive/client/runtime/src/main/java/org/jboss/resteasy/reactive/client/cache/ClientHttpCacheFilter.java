@@ -0,0 +1,339 @@
+package org.jboss.resteasy.reactive.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientResponseFilter;
+import org.jboss.resteasy.reactive.common.jaxrs.StatusTypeImpl;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
+
+/**
+ * A shared HTTP cache following the caching rules of RFC 9111, for the responses to the {@code GET} requests.
+ * <p>
+ * The responses are stored by URI, and can be served to any invocation of the client, or of the other clients using
+ * the same {@link HttpResponseCache}. So the responses with the {@code private} directive are never stored, and the
+ * responses to the requests with an {@code Authorization} header are only stored if they have the {@code public},
+ * {@code s-maxage} or {@code must-revalidate} directive. This filter runs after the other request filters, so that the
+ * request headers listed by the {@code Vary} header of a response are compared once they have all been set.
+ * <p>
+ * The fresh responses are served from the {@link HttpResponseCache} without sending the request. The stale responses
+ * that have a validator are revalidated with a conditional request, and served from the cache if the server replies
+ * with {@code 304 Not Modified}. The responses to the successful unsafe requests invalidate the cached response of
+ * their URI.
+ * <p>
+ * Only the responses whose body has been fully read by the client are stored, and the freshness of a response is only
+ * determined by its {@code Cache-Control: s-maxage}, {@code max-age} or {@code Expires} headers. The outcome of each
+ * cacheable request is stored in the {@link #OUTCOME_PROPERTY} property of the request context, so that it can be
+ * reported by the metrics.
+ */
+@Priority(Integer.MAX_VALUE)
+public class ClientHttpCacheFilter implements ResteasyReactiveClientRequestFilter, ResteasyReactiveClientResponseFilter {
+
+    /**
+     * The request context property that holds the outcome, one of {@link #HIT}, {@link #REVALIDATED} and {@link #MISS}.
+     */
+    public static final String OUTCOME_PROPERTY = "org.jboss.resteasy.reactive.client.cache.outcome";
+
+    public static final String HIT = "hit";
+    public static final String REVALIDATED = "revalidated";
+    public static final String MISS = "miss";
+
+    private static final String REVALIDATED_RESPONSE_PROPERTY = "org.jboss.resteasy.reactive.client.cache.revalidated";
+    private static final String NO_STORE_PROPERTY = "org.jboss.resteasy.reactive.client.cache.no-store";
+
+    private final HttpResponseCache cache;
+
+    public ClientHttpCacheFilter(HttpResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())
+                // the caller handles the validation itself
+                || requestContext.getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)
+                || requestContext.getHeaders().containsKey(HttpHeaders.IF_MODIFIED_SINCE)) {
+            return;
+        }
+        CacheControl requestCacheControl = CacheControl
+                .parse(requestContext.getStringHeaders().get(HttpHeaders.CACHE_CONTROL));
+        if (requestCacheControl.noStore) {
+            requestContext.setProperty(NO_STORE_PROPERTY, Boolean.TRUE);
+            return;
+        }
+        requestContext.setProperty(OUTCOME_PROPERTY, MISS);
+        CachedResponse cached = cache.get(requestContext.getUri().toString());
+        if (cached == null || !matchesVaryingHeaders(cached, requestContext)) {
+            return;
+        }
+        boolean revalidate = requestCacheControl.noCache || requestCacheControl.maxAge == 0;
+        if (!revalidate && cached.isFresh(System.currentTimeMillis())) {
+            requestContext.setProperty(OUTCOME_PROPERTY, HIT);
+            requestContext.abortWith(toResponse(cached));
+        } else if (cached.canBeRevalidated()) {
+            if (cached.getEtag() != null) {
+                requestContext.getHeaders().putSingle(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
+            } else {
+                requestContext.getHeaders().putSingle(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+            requestContext.setProperty(REVALIDATED_RESPONSE_PROPERTY, cached);
+        }
+    }
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext, ClientResponseContext responseContext) {
+        String method = requestContext.getMethod();
+        if (!isSafe(method)) {
+            // RFC 9111 section 4.4
+            int status = responseContext.getStatus();
+            if (status >= 200 && status < 400) {
+                cache.invalidate(requestContext.getUri().toString());
+            }
+            return;
+        }
+        if (!HttpMethod.GET.equals(method) || requestContext.getProperty(NO_STORE_PROPERTY) != null
+                || HIT.equals(requestContext.getProperty(OUTCOME_PROPERTY))) {
+            return;
+        }
+        String key = requestContext.getUri().toString();
+        long now = System.currentTimeMillis();
+        CachedResponse revalidated = (CachedResponse) requestContext.getProperty(REVALIDATED_RESPONSE_PROPERTY);
+        if (revalidated != null && responseContext.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            CachedResponse updated = update(revalidated, responseContext.getHeaders(), now);
+            cache.put(key, updated);
+            responseContext.setStatusInfo(new StatusTypeImpl(updated.getStatus(), updated.getReasonPhrase()));
+            responseContext.getHeaders().clear();
+            for (Map.Entry<String, List<String>> header : updated.getHeaders().entrySet()) {
+                responseContext.getHeaders().addAll(header.getKey(), header.getValue());
+            }
+            responseContext.setEntityStream(new ByteArrayInputStream(updated.getBody()));
+            requestContext.setProperty(OUTCOME_PROPERTY, REVALIDATED);
+            return;
+        }
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        CachedResponse response = toCachedResponse(requestContext, responseContext, now);
+        if (response != null) {
+            cache.put(key, response);
+        }
+    }
+
+    private static CachedResponse toCachedResponse(ResteasyReactiveClientRequestContext requestContext,
+            ClientResponseContext responseContext, long now) {
+        MultivaluedMap<String, String> headers = responseContext.getHeaders();
+        CacheControl cacheControl = CacheControl.parse(headers.get(HttpHeaders.CACHE_CONTROL));
+        if (cacheControl.noStore || cacheControl.isPrivate) {
+            return null;
+        }
+        // RFC 9111 section 3.5
+        if (requestContext.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                && !cacheControl.isPublic && cacheControl.sMaxAge < 0 && !cacheControl.mustRevalidate) {
+            return null;
+        }
+        String etag = headers.getFirst(HttpHeaders.ETAG);
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        long expiresAt = expiresAt(cacheControl, headers, now);
+        if (expiresAt <= now && etag == null && lastModified == null) {
+            // would never be served from the cache
+            return null;
+        }
+        Map<String, String> varyingRequestHeaders = Collections.emptyMap();
+        List<String> vary = headers.get(HttpHeaders.VARY);
+        if (vary != null) {
+            varyingRequestHeaders = new HashMap<>();
+            for (String value : vary) {
+                for (String name : value.split(",")) {
+                    name = name.trim().toLowerCase(Locale.ROOT);
+                    if (name.equals("*")) {
+                        return null;
+                    }
+                    if (!name.isEmpty()) {
+                        varyingRequestHeaders.put(name, requestContext.getHeaderString(name));
+                    }
+                }
+            }
+        }
+        InputStream entityStream = responseContext.getEntityStream();
+        byte[] body;
+        if (entityStream == null) {
+            body = new byte[0];
+        } else if (entityStream instanceof ByteArrayInputStream) {
+            // the body has already been read, reading it again does not block
+            try {
+                body = entityStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            responseContext.setEntityStream(new ByteArrayInputStream(body));
+        } else {
+            // the body is streamed
+            return null;
+        }
+        return new CachedResponse(responseContext.getStatus(), responseContext.getStatusInfo().getReasonPhrase(),
+                copy(headers), body, varyingRequestHeaders, expiresAt, etag, lastModified);
+    }
+
+    private static CachedResponse update(CachedResponse cached, MultivaluedMap<String, String> notModifiedHeaders,
+            long now) {
+        MultivaluedMap<String, String> headers = copy(cached.getHeaders());
+        // RFC 9111 section 3.2, the headers of the 304 response replace the stored ones
+        for (Map.Entry<String, List<String>> header : notModifiedHeaders.entrySet()) {
+            if (!header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+        CacheControl cacheControl = CacheControl.parse(headers.get(HttpHeaders.CACHE_CONTROL));
+        return new CachedResponse(cached.getStatus(), cached.getReasonPhrase(), headers, cached.getBody(),
+                cached.getVaryingRequestHeaders(), expiresAt(cacheControl, headers, now),
+                Objects.requireNonNullElse(headers.getFirst(HttpHeaders.ETAG), cached.getEtag()),
+                Objects.requireNonNullElse(headers.getFirst(HttpHeaders.LAST_MODIFIED), cached.getLastModified()));
+    }
+
+    private static long expiresAt(CacheControl cacheControl, MultivaluedMap<String, String> headers, long now) {
+        if (cacheControl.noCache) {
+            return now;
+        }
+        long maxAge = cacheControl.sMaxAge >= 0 ? cacheControl.sMaxAge : cacheControl.maxAge;
+        if (maxAge >= 0) {
+            long age = parseSeconds(headers.getFirst("Age"));
+            return now + Math.max(0, maxAge - Math.max(0, age)) * 1000;
+        }
+        String expires = headers.getFirst(HttpHeaders.EXPIRES);
+        if (expires != null) {
+            Date expiresDate = parseDate(expires);
+            if (expiresDate == null) {
+                // invalid dates represent a time in the past
+                return now;
+            }
+            Date date = parseDate(headers.getFirst(HttpHeaders.DATE));
+            long lifetime = expiresDate.getTime() - (date != null ? date.getTime() : now);
+            return now + Math.max(0, lifetime);
+        }
+        return now;
+    }
+
+    private static boolean matchesVaryingHeaders(CachedResponse cached, ResteasyReactiveClientRequestContext requestContext) {
+        for (Map.Entry<String, String> header : cached.getVaryingRequestHeaders().entrySet()) {
+            if (!Objects.equals(header.getValue(), requestContext.getHeaderString(header.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Response toResponse(CachedResponse cached) {
+        Response.ResponseBuilder builder = Response.status(cached.getStatus(), cached.getReasonPhrase());
+        for (Map.Entry<String, List<String>> header : cached.getHeaders().entrySet()) {
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        if (cached.getBody().length > 0) {
+            builder.entity(cached.getBody());
+        }
+        return builder.build();
+    }
+
+    private static MultivaluedMap<String, String> copy(MultivaluedMap<String, String> headers) {
+        CaseInsensitiveMap<String> copy = new CaseInsensitiveMap<>();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            copy.addAll(header.getKey(), header.getValue());
+        }
+        return copy;
+    }
+
+    private static boolean isSafe(String method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)
+                || "TRACE".equals(method);
+    }
+
+    private static long parseSeconds(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Date parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return DateUtil.parseDate(value);
+        } catch (DateUtil.DateParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The directives of a {@code Cache-Control} header used by a shared cache.
+     */
+    static final class CacheControl {
+        boolean noStore;
+        boolean noCache;
+        boolean isPrivate;
+        boolean isPublic;
+        boolean mustRevalidate;
+        long maxAge = -1;
+        long sMaxAge = -1;
+
+        static CacheControl parse(List<String> values) {
+            CacheControl cacheControl = new CacheControl();
+            if (values == null) {
+                return cacheControl;
+            }
+            for (String value : values) {
+                for (String directive : value.split(",")) {
+                    directive = directive.trim().toLowerCase(Locale.ROOT);
+                    if (directive.equals("no-store")) {
+                        cacheControl.noStore = true;
+                    } else if (directive.equals("no-cache") || directive.startsWith("no-cache=")) {
+                        cacheControl.noCache = true;
+                    } else if (directive.equals("private") || directive.startsWith("private=")) {
+                        cacheControl.isPrivate = true;
+                    } else if (directive.equals("public")) {
+                        cacheControl.isPublic = true;
+                    } else if (directive.equals("must-revalidate")) {
+                        cacheControl.mustRevalidate = true;
+                    } else if (directive.startsWith("max-age=")) {
+                        cacheControl.maxAge = parseSeconds(unquote(directive.substring("max-age=".length())));
+                    } else if (directive.startsWith("s-maxage=")) {
+                        cacheControl.sMaxAge = parseSeconds(unquote(directive.substring("s-maxage=".length())));
+                    }
+                }
+            }
+            return cacheControl;
+        }
+
+        private static String unquote(String value) {
+            if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+                return value.substring(1, value.length() - 1);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.jboss.resteasy.reactive.client.cache;
+
+/**
+ * The storage of the responses cached by a client, see {@link ClientHttpCacheFilter}.
+ * <p>
+ * The implementations must be thread-safe, and are free to evict the responses at any time.
+ */
+public interface HttpResponseCache {
+
+    /**
+     * @param key the absolute URI of the request
+     * @return the cached response, or {@code null}
+     */
+    CachedResponse get(String key);
+
+    /**
+     * Stores or replaces the response cached for the given key.
+     */
+    void put(String key, CachedResponse response);
+
+    /**
+     * Removes the response cached for the given key, if any.
+     */
+    void invalidate(String key);
+}
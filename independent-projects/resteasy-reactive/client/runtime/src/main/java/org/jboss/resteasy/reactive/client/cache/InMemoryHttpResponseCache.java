@@ -0,0 +1,71 @@
+package org.jboss.resteasy.reactive.client.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link HttpResponseCache} that keeps the responses in memory, evicting the least recently used ones when the total
+ * size of the responses exceeds the maximum size.
+ */
+public class InMemoryHttpResponseCache implements HttpResponseCache {
+
+    private final long maxSize;
+    // guarded by itself, in access order
+    private final LinkedHashMap<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * @param maxSize the maximum number of bytes of the cached responses
+     */
+    public InMemoryHttpResponseCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        synchronized (responses) {
+            return responses.get(key);
+        }
+    }
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        long responseSize = response.size();
+        synchronized (responses) {
+            CachedResponse previous = responses.remove(key);
+            if (previous != null) {
+                size -= previous.size();
+            }
+            if (responseSize > maxSize) {
+                return;
+            }
+            responses.put(key, response);
+            size += responseSize;
+            Iterator<Map.Entry<String, CachedResponse>> eldest = responses.entrySet().iterator();
+            while (size > maxSize) {
+                size -= eldest.next().getValue().size();
+                eldest.remove();
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        synchronized (responses) {
+            CachedResponse previous = responses.remove(key);
+            if (previous != null) {
+                size -= previous.size();
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes of the cached responses
+     */
+    public long size() {
+        synchronized (responses) {
+            return size;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.jboss.resteasy.reactive.client.impl;
 
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.READ_TIMEOUT;
 
 import java.io.ByteArrayOutputStream;
@@ -29,6 +31,9 @@
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
+import org.jboss.resteasy.reactive.client.cache.ClientHttpCacheFilter;
+import org.jboss.resteasy.reactive.client.cache.HttpResponseCache;
+import org.jboss.resteasy.reactive.client.cache.InMemoryHttpResponseCache;
 import org.jboss.resteasy.reactive.client.interceptors.ClientGZIPDecodingInterceptor;
 import org.jboss.resteasy.reactive.client.logging.DefaultClientLogger;
 import org.jboss.resteasy.reactive.client.spi.ClientContextResolver;
@@ -291,6 +296,15 @@ public ClientImpl build() {
             configuration.register(ClientGZIPDecodingInterceptor.class);
         }
 
+        HttpResponseCache httpCache = (HttpResponseCache) configuration.getProperty(HTTP_CACHE);
+        Object httpCacheSize = configuration.getProperty(HTTP_CACHE_SIZE);
+        if (httpCache == null && httpCacheSize != null) {
+            httpCache = new InMemoryHttpResponseCache(((Number) httpCacheSize).longValue());
+        }
+        if (httpCache != null) {
+            configuration.register(new ClientHttpCacheFilter(httpCache));
+        }
+
         clientLogger.setBodySize(loggingBodySize);
 
         options.setMaxChunkSize(maxChunkSize);
@@ -1,13 +1,17 @@
 package org.jboss.resteasy.reactive.client.impl;
 
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CAPTURE_STACKTRACE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.COALESCE_REQUESTS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.METRICS_NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
 
@@ -16,7 +20,10 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -75,6 +82,7 @@
 import io.vertx.core.http.WebSocketClientOptions;
 import io.vertx.core.http.WebSocketConnectOptions;
 import io.vertx.core.http.WebsocketVersion;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetServer;
@@ -90,6 +98,14 @@ public class ClientImpl implements Client {
     private static final int DEFAULT_CONNECT_TIMEOUT = 15000;
     private static final int DEFAULT_CONNECTION_POOL_SIZE = 20;
 
+    // the options of the shared HTTP clients with a user supplied name, to detect the clients sharing a name with
+    // different options
+    private static final ConcurrentMap<String, JsonObject> NAMED_SHARED_CLIENT_OPTIONS = new ConcurrentHashMap<>();
+    // the index of the shared HTTP clients without a user supplied name, by options: the clients with the first options
+    // keep the default name, the others get it suffixed by their index
+    private static final ConcurrentMap<JsonObject, Integer> DEFAULT_SHARED_CLIENT_INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger DEFAULT_SHARED_CLIENT_COUNT = new AtomicInteger();
+
     final ClientContext clientContext;
     final boolean closeVertx;
     final HttpClient httpClient;
@@ -163,7 +179,19 @@ public Vertx get() {
             log.debugf("Setting connectionPoolSize to %d", connectionPoolSize);
         }
         options.setMaxPoolSize((int) connectionPoolSize);
-        options.setHttp2MaxPoolSize((int) connectionPoolSize);
+        Object http2ConnectionPoolSize = configuration.getProperty(HTTP2_CONNECTION_POOL_SIZE);
+        if (http2ConnectionPoolSize == null) {
+            http2ConnectionPoolSize = connectionPoolSize;
+        } else {
+            log.debugf("Setting http2ConnectionPoolSize to %d", http2ConnectionPoolSize);
+        }
+        options.setHttp2MaxPoolSize((int) http2ConnectionPoolSize);
+
+        Object http2MultiplexingLimit = configuration.getProperty(HTTP2_MULTIPLEXING_LIMIT);
+        if (http2MultiplexingLimit != null) {
+            log.debugf("Setting http2MultiplexingLimit to %d", http2MultiplexingLimit);
+            options.setHttp2MultiplexingLimit((int) http2MultiplexingLimit);
+        }
 
         Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
         if (keepAliveEnabled != null) {
@@ -185,8 +213,34 @@ public Vertx get() {
             options.setName((String) name);
         }
 
+        Object metricsName = configuration.getProperty(METRICS_NAME);
+        if (metricsName != null) {
+            options.setMetricsName((String) metricsName);
+        }
+
         Object shared = configuration.getProperty(SHARED);
         if (shared != null && (boolean) shared) {
+            // Vert.x shares the HTTP clients by name, and a shared client keeps the options of the client that created it
+            JsonObject sharedOptions = options.toJson();
+            if (name != null) {
+                // the clients deliberately sharing a name keep sharing their HTTP client
+                JsonObject previous = NAMED_SHARED_CLIENT_OPTIONS.put((String) name, sharedOptions);
+                if (previous != null && !previous.equals(sharedOptions)) {
+                    log.warnf("The REST clients sharing the HTTP client '%s' have different HTTP options, only the options"
+                            + " of the first one are used", name);
+                }
+            } else {
+                // only the clients with the same options share the default name
+                int index = DEFAULT_SHARED_CLIENT_INDEXES.computeIfAbsent(sharedOptions,
+                        o -> DEFAULT_SHARED_CLIENT_COUNT.getAndIncrement());
+                if (index > 0) {
+                    options.setName(options.getName() + "-" + index);
+                    if (metricsName != null) {
+                        // the connection pools of the shared clients with different options are reported separately
+                        options.setMetricsName(metricsName + "-" + index);
+                    }
+                }
+            }
             log.debugf("Sharing of the HTTP client '%s' enabled", options.getName());
             options.setShared(true);
         }
@@ -209,6 +263,12 @@ public Vertx get() {
         handlerChain = new HandlerChain(isCaptureStacktrace(configuration), options.getMaxChunkSize(), followRedirects,
                 loggingScope,
                 clientContext.getMultipartResponsesData(), clientLogger);
+
+        Object coalesceRequests = configuration.getProperty(COALESCE_REQUESTS);
+        if (coalesceRequests != null && (boolean) coalesceRequests) {
+            log.debug("Coalescing of the identical requests in flight enabled");
+            handlerChain.setRequestCoalescer(new RequestCoalescer());
+        }
     }
 
     private boolean isCaptureStacktrace(ConfigurationImpl configuration) {
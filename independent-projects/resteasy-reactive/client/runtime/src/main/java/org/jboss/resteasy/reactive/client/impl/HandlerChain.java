@@ -35,6 +35,7 @@ class HandlerChain {
     private final ClientRestHandler clientErrorHandler;
 
     private ClientRestHandler preClientSendHandler = null;
+    private ClientRestHandler requestCoalescer = null;
 
     public HandlerChain(boolean captureStacktrace, int maxChunkSize, boolean followRedirects, LoggingScope loggingScope,
             Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger) {
@@ -52,10 +53,15 @@ HandlerChain setPreClientSendHandler(ClientRestHandler preClientSendHandler) {
         return this;
     }
 
+    HandlerChain setRequestCoalescer(ClientRestHandler requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+        return this;
+    }
+
     ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
         List<ClientRequestFilter> requestFilters = configuration.getRequestFilters();
         List<ClientResponseFilter> responseFilters = configuration.getResponseFilters();
-        if (requestFilters.isEmpty() && responseFilters.isEmpty()) {
+        if (requestFilters.isEmpty() && responseFilters.isEmpty() && requestCoalescer == null) {
             return new ClientRestHandler[] { clientCaptureCurrentContextRestHandler,
                     clientSwitchToRequestContextRestHandler,
                     clientSendHandler,
@@ -63,13 +69,18 @@ ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
                     clientResponseCompleteRestHandler };
         }
         List<ClientRestHandler> result = new ArrayList<>(
-                (preClientSendHandler != null ? 4 : 3) + requestFilters.size() + responseFilters.size());
+                (preClientSendHandler != null ? 4 : 3) + (requestCoalescer != null ? 1 : 0) + requestFilters.size()
+                        + responseFilters.size());
         if (preClientSendHandler != null) {
             result.add(preClientSendHandler);
         }
         for (int i = 0; i < requestFilters.size(); i++) {
             result.add(new ClientRequestFilterRestHandler(requestFilters.get(i)));
         }
+        if (requestCoalescer != null) {
+            // the identical requests are only known once the request filters have set the headers
+            result.add(requestCoalescer);
+        }
         result.add(clientCaptureCurrentContextRestHandler);
         result.add(clientSwitchToRequestContextRestHandler);
         result.add(clientSendHandler);
@@ -0,0 +1,201 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import jakarta.ws.rs.ProcessingException;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Splits a JSON array received in several buffers into its elements, without decoding them, so that they can be read
+ * one by one by the message body readers while the rest of the array is still being received.
+ * <p>
+ * If the JSON document is not an array, the consecutive JSON values it contains are passed to the handler instead.
+ */
+final class JsonArrayParser implements Handler<Buffer> {
+
+    private static final int START = 0;
+    private static final int BEFORE_ELEMENT = 1;
+    private static final int AFTER_SEPARATOR = 2;
+    private static final int VALUE = 3;
+    private static final int BETWEEN_VALUES = 4;
+    private static final int END = 5;
+
+    private final Handler<Buffer> valueHandler;
+
+    private int state = START;
+    private boolean array;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    // the beginning of the current value received in the previous buffers
+    private Buffer pending;
+
+    JsonArrayParser(Handler<Buffer> valueHandler) {
+        this.valueHandler = valueHandler;
+    }
+
+    @Override
+    public void handle(Buffer buffer) {
+        int length = buffer.length();
+        int valueStart = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.getByte(i);
+            switch (state) {
+                case START:
+                    if (isWhitespace(b)) {
+                        continue;
+                    }
+                    if (b == '[') {
+                        array = true;
+                        state = BEFORE_ELEMENT;
+                        continue;
+                    }
+                    break;
+                case BEFORE_ELEMENT:
+                    if (isWhitespace(b)) {
+                        continue;
+                    }
+                    if (b == ']') {
+                        state = END;
+                        continue;
+                    }
+                    break;
+                case AFTER_SEPARATOR:
+                case BETWEEN_VALUES:
+                    if (isWhitespace(b)) {
+                        continue;
+                    }
+                    break;
+                case END:
+                    if (isWhitespace(b)) {
+                        continue;
+                    }
+                    throw unexpected(b);
+                case VALUE:
+                    if (valueEnds(buffer, valueStart, i, b)) {
+                        continue;
+                    }
+                    // the value has been emitted and a new one starts with this byte
+                    break;
+            }
+            if (b == ',' || b == ']' || b == '}') {
+                throw unexpected(b);
+            }
+            state = VALUE;
+            valueStart = i;
+            depth = 0;
+            inString = false;
+            escaped = false;
+            valueEnds(buffer, valueStart, i, b);
+        }
+        if (state == VALUE) {
+            if (pending == null) {
+                pending = Buffer.buffer();
+            }
+            pending.appendBuffer(buffer, valueStart, length - valueStart);
+        }
+    }
+
+    /**
+     * Called at the end of the JSON document.
+     *
+     * @throws ProcessingException if the document is incomplete
+     */
+    void end() {
+        if (state == VALUE && !array && depth == 0 && !inString) {
+            // a number or a literal at the end of the document
+            emit(Buffer.buffer(), 0, 0);
+            state = BETWEEN_VALUES;
+        }
+        if (state != END && state != BETWEEN_VALUES && (array || state != START)) {
+            throw new ProcessingException("Unexpected end of the JSON " + (array ? "array" : "document"));
+        }
+    }
+
+    /**
+     * @return {@code false} if the byte is not part of the current value, which has been emitted, and starts a new one
+     */
+    private boolean valueEnds(Buffer buffer, int valueStart, int i, byte b) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+                if (depth == 0 && !array) {
+                    emit(buffer, valueStart, i + 1);
+                    state = BETWEEN_VALUES;
+                }
+            }
+            return true;
+        }
+        switch (b) {
+            case '"':
+                if (depth == 0 && !array && (i > valueStart || pending != null)) {
+                    // a string right after a number or a literal
+                    emit(buffer, valueStart, i);
+                    return false;
+                }
+                inString = true;
+                break;
+            case '{':
+            case '[':
+                if (depth == 0 && !array && (i > valueStart || pending != null)) {
+                    emit(buffer, valueStart, i);
+                    return false;
+                }
+                depth++;
+                break;
+            case '}':
+            case ']':
+                if (depth > 0) {
+                    depth--;
+                    if (depth == 0 && !array) {
+                        emit(buffer, valueStart, i + 1);
+                        state = BETWEEN_VALUES;
+                    }
+                } else if (array && b == ']') {
+                    emit(buffer, valueStart, i);
+                    state = END;
+                } else {
+                    throw unexpected(b);
+                }
+                break;
+            case ',':
+                if (depth == 0) {
+                    if (!array) {
+                        throw unexpected(b);
+                    }
+                    emit(buffer, valueStart, i);
+                    state = AFTER_SEPARATOR;
+                }
+                break;
+            default:
+                if (depth == 0 && !array && isWhitespace(b)) {
+                    emit(buffer, valueStart, i);
+                    state = BETWEEN_VALUES;
+                }
+        }
+        return true;
+    }
+
+    private void emit(Buffer buffer, int start, int end) {
+        Buffer value;
+        if (pending == null) {
+            value = buffer.getBuffer(start, end);
+        } else {
+            value = pending.appendBuffer(buffer, start, end - start);
+            pending = null;
+        }
+        valueHandler.handle(value);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static ProcessingException unexpected(byte b) {
+        return new ProcessingException("Unexpected character '" + (char) b + "' in the JSON document");
+    }
+}
@@ -5,7 +5,10 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
@@ -114,45 +117,96 @@ public void onCancel(Runnable onCancel) {
         }
     }
 
+    /**
+     * The number of items requested by the subscriber and not emitted yet, which is negative when the emitter buffers
+     * items that have not been requested.
+     */
+    static class Demand {
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile Runnable onRequest;
+
+        void request(long n) {
+            requested.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < current ? Long.MAX_VALUE : sum;
+            });
+            Runnable action = onRequest;
+            if (action != null) {
+                action.run();
+            }
+        }
+
+        void emitted() {
+            requested.updateAndGet(current -> current == Long.MAX_VALUE ? current : current - 1);
+        }
+
+        boolean isRequested() {
+            return requested.get() > 0;
+        }
+
+        void onRequest(Runnable onRequest) {
+            this.onRequest = onRequest;
+        }
+    }
+
     @Override
     public <R> Multi<R> method(String name, Entity<?> entity, GenericType<R> responseType) {
         AsyncInvokerImpl invoker = (AsyncInvokerImpl) invocationBuilder.rx();
         // FIXME: backpressure setting?
-        return Multi.createFrom().emitter(emitter -> {
-            MultiRequest<R> multiRequest = new MultiRequest<>(emitter);
-            RestClientRequestContext restClientRequestContext = invoker.performRequestInternal(name, entity, responseType,
-                    false);
-            restClientRequestContext.getResult().handle((response, connectionError) -> {
-                if (connectionError != null) {
-                    emitter.fail(connectionError);
-                } else {
-                    HttpClientResponse vertxResponse = restClientRequestContext.getVertxClientResponse();
-                    if (!emitter.isCancelled()) {
-                        if (response.getStatus() == 200
-                                && MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(response.getMediaType())) {
-                            registerForSse(
-                                    multiRequest, responseType, vertxResponse,
-                                    (String) restClientRequestContext.getProperties()
-                                            .get(RestClientRequestContext.DEFAULT_CONTENT_TYPE_PROP),
-                                    restClientRequestContext.getInvokedMethod());
-                        } else if (response.getStatus() == 200
-                                && RestMediaType.APPLICATION_STREAM_JSON_TYPE.isCompatible(response.getMediaType())) {
-                            registerForJsonStream(multiRequest, restClientRequestContext, responseType, response,
-                                    vertxResponse);
+        return Multi.createFrom().deferred(() -> {
+            Demand demand = new Demand();
+            return Multi.createFrom().<R> emitter(emitter -> {
+                MultiRequest<R> multiRequest = new MultiRequest<>(emitter);
+                RestClientRequestContext restClientRequestContext = invoker.performRequestInternal(name, entity, responseType,
+                        false);
+                restClientRequestContext.getResult().handle((response, connectionError) -> {
+                    if (connectionError != null) {
+                        emitter.fail(connectionError);
+                    } else {
+                        HttpClientResponse vertxResponse = restClientRequestContext.getVertxClientResponse();
+                        if (!emitter.isCancelled()) {
+                            if (response.getStatus() == 200
+                                    && MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(response.getMediaType())) {
+                                registerForSse(
+                                        multiRequest, responseType, vertxResponse,
+                                        (String) restClientRequestContext.getProperties()
+                                                .get(RestClientRequestContext.DEFAULT_CONTENT_TYPE_PROP),
+                                        restClientRequestContext.getInvokedMethod());
+                            } else if (response.getStatus() == 200
+                                    && RestMediaType.APPLICATION_STREAM_JSON_TYPE.isCompatible(response.getMediaType())) {
+                                registerForJsonStream(multiRequest, restClientRequestContext, responseType, response,
+                                        vertxResponse);
+                            } else if (response.getStatus() == 200
+                                    && MediaType.APPLICATION_JSON_TYPE.isCompatible(response.getMediaType())
+                                    && isJsonArrayElement(responseType)) {
+                                registerForJsonArray(multiRequest, demand, restClientRequestContext, responseType, response,
+                                        vertxResponse);
+                            } else {
+                                // read stuff in chunks
+                                registerForChunks(multiRequest, restClientRequestContext, responseType, response,
+                                        vertxResponse);
+                            }
+                            vertxResponse.resume();
                         } else {
-                            // read stuff in chunks
-                            registerForChunks(multiRequest, restClientRequestContext, responseType, response, vertxResponse);
+                            vertxResponse.request().connection().close();
                         }
-                        vertxResponse.resume();
-                    } else {
-                        vertxResponse.request().connection().close();
                     }
-                }
-                return null;
-            });
+                    return null;
+                });
+            }).onRequest().invoke(demand::request);
         });
     }
 
+    private static boolean isJsonArrayElement(GenericType<?> responseType) {
+        Class<?> rawType = responseType.getRawType();
+        // the responses of these types keep being read chunk by chunk
+        return !String.class.equals(rawType) && !byte[].class.equals(rawType) && !Buffer.class.equals(rawType)
+                && !io.vertx.mutiny.core.buffer.Buffer.class.equals(rawType)
+                && !rawType.isArray() && !Collection.class.isAssignableFrom(rawType);
+    }
+
     private boolean isNewlineDelimited(ResponseImpl response) {
         return RestMediaType.APPLICATION_STREAM_JSON_TYPE.isCompatible(response.getMediaType()) ||
                 RestMediaType.APPLICATION_NDJSON_TYPE.isCompatible(response.getMediaType());
@@ -401,4 +455,77 @@ public void handle(Void c) {
         });
     }
 
+    private <R> void registerForJsonArray(MultiRequest<? super R> multiRequest,
+            Demand demand,
+            RestClientRequestContext restClientRequestContext,
+            GenericType<R> responseType,
+            ResponseImpl response,
+            HttpClientResponse vertxClientResponse) {
+        JsonArrayParser parser = new JsonArrayParser(new Handler<Buffer>() {
+            @Override
+            public void handle(Buffer element) {
+                try {
+                    R item = restClientRequestContext.readEntity(new ByteArrayInputStream(element.getBytes()),
+                            responseType,
+                            response.getMediaType(),
+                            restClientRequestContext.getMethodDeclaredAnnotationsSafe(),
+                            response.getMetadata());
+                    demand.emitted();
+                    multiRequest.emit(item);
+                } catch (IOException e) {
+                    multiRequest.fail(e);
+                }
+            }
+        });
+        // the response is paused while the subscriber does not request more elements, so that only the elements of the
+        // buffer being parsed are kept in memory
+        AtomicBoolean paused = new AtomicBoolean();
+        demand.onRequest(() -> {
+            if (paused.compareAndSet(true, false)) {
+                vertxClientResponse.resume();
+            }
+        });
+        vertxClientResponse.handler(new Handler<Buffer>() {
+            @Override
+            public void handle(Buffer buffer) {
+                try {
+                    parser.handle(buffer);
+                } catch (Throwable t) {
+                    multiRequest.fail(t);
+                    return;
+                }
+                if (!demand.isRequested() && paused.compareAndSet(false, true)) {
+                    vertxClientResponse.pause();
+                    // the subscriber may have requested elements in the meantime
+                    if (demand.isRequested() && paused.compareAndSet(true, false)) {
+                        vertxClientResponse.resume();
+                    }
+                }
+            }
+        });
+        vertxClientResponse.exceptionHandler(t -> {
+            if (t == ConnectionBase.CLOSED_EXCEPTION) {
+                // we can ignore this one since we registered a closeHandler
+            } else {
+                multiRequest.fail(t);
+            }
+        });
+        vertxClientResponse.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void c) {
+                try {
+                    parser.end();
+                } catch (Throwable t) {
+                    multiRequest.fail(t);
+                    return;
+                }
+                multiRequest.complete();
+            }
+        });
+
+        // watch for user cancelling
+        multiRequest.onCancel(() -> {
+            vertxClientResponse.request().connection().close();
+        });
+    }
 }
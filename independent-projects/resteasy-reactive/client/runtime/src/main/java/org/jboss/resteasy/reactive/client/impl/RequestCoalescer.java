@@ -0,0 +1,180 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Coalesces the identical invocations of a client that are in flight at the same time, so that they share the result of
+ * a single HTTP request.
+ * <p>
+ * This handler runs after the request filters, so two invocations are identical when they have the same method, URI,
+ * headers and response type once all the request filters, including the ones propagating the headers or the
+ * credentials of the caller, have been applied. Only the invocations of safe methods, without entity, that read the
+ * entity of the response are coalesced, and the invocations aborted by a request filter are never coalesced.
+ * <p>
+ * The coalesced invocations get the same {@link Response} instance, so the entity of the response is shared by them
+ * and must not be modified. The response filters only run for the invocation that performs the request. Each
+ * coalesced invocation is still completed on the Vert.x context of its own caller.
+ */
+final class RequestCoalescer implements ClientRestHandler {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ConcurrentMap<Key, CompletableFuture<ResponseImpl>> inFlight = new ConcurrentHashMap<>();
+
+    static boolean canCoalesce(String httpMethodName, Entity<?> entity, GenericType<?> responseType) {
+        if (entity != null || responseType == null || !SAFE_METHODS.contains(httpMethodName)) {
+            return false;
+        }
+        Class<?> rawType = responseType.getRawType();
+        // the response and the streams can only be read once
+        return !Response.class.isAssignableFrom(rawType)
+                && !InputStream.class.isAssignableFrom(rawType)
+                && !Reader.class.isAssignableFrom(rawType);
+    }
+
+    @Override
+    public void handle(RestClientRequestContext context) {
+        if (context.isAborted() || !context.isRegisterBodyHandler()
+                || !canCoalesce(context.getHttpMethod(), context.getEntity(), context.getResponseType())) {
+            return;
+        }
+        CompletableFuture<ResponseImpl> shared = join(context.getHttpMethod(), context.getUri(),
+                context.getRequestHeaders(), context.getResponseType().getType(), context.getResult());
+        if (shared == null) {
+            // this invocation performs the request
+            return;
+        }
+        // the shared result is completed on the context of the invocation performing the request, so the context of
+        // the caller is captured to resume this invocation on it
+        Context callerContext = Vertx.currentContext();
+        if (callerContext == null) {
+            callerContext = context.getRestClient().getVertx().getOrCreateContext();
+        }
+        Executor callerExecutor = new ContextExecutor(callerContext);
+        context.suspend();
+        shared.whenComplete(new BiConsumer<>() {
+            @Override
+            public void accept(ResponseImpl response, Throwable throwable) {
+                // completes the result of the invocation on its own context, without sending any request
+                context.restart(new ClientRestHandler[] { new ClientRestHandler() {
+                    @Override
+                    public void handle(RestClientRequestContext requestContext) {
+                        if (throwable != null) {
+                            requestContext.getResult().completeExceptionally(throwable);
+                        } else {
+                            requestContext.getResult().complete(response);
+                        }
+                    }
+                } });
+                context.resume(callerExecutor);
+            }
+        });
+    }
+
+    /**
+     * @param result the result of the invocation
+     * @return the result of the identical invocation in flight, or {@code null} if there is none and the invocation
+     *         performs the request
+     */
+    CompletableFuture<ResponseImpl> join(String httpMethodName, URI uri, ClientRequestHeaders headers, Type responseType,
+            CompletableFuture<ResponseImpl> result) {
+        Key key = new Key(httpMethodName, uri, headers, responseType);
+        CompletableFuture<ResponseImpl> shared = inFlight.putIfAbsent(key, result);
+        if (shared != null) {
+            return shared;
+        }
+        result.whenComplete(new BiConsumer<>() {
+            @Override
+            public void accept(ResponseImpl response, Throwable throwable) {
+                // the invocations made from now on perform a new request
+                inFlight.remove(key, result);
+            }
+        });
+        return null;
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private static final class ContextExecutor implements Executor {
+        private final Context context;
+
+        ContextExecutor(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    command.run();
+                }
+            });
+        }
+    }
+
+    private static final class Key {
+        private final String httpMethodName;
+        private final URI uri;
+        private final Map<String, List<String>> headers;
+        private final Type responseType;
+        private final int hashCode;
+
+        Key(String httpMethodName, URI uri, ClientRequestHeaders headers, Type responseType) {
+            this.httpMethodName = httpMethodName;
+            this.uri = uri;
+            // the header names are case-insensitive
+            Map<String, List<String>> normalizedHeaders = new TreeMap<>();
+            for (Map.Entry<String, List<String>> header : headers.asMap().entrySet()) {
+                normalizedHeaders.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue());
+            }
+            this.headers = normalizedHeaders;
+            this.responseType = responseType;
+            this.hashCode = Objects.hash(httpMethodName, uri, normalizedHeaders, responseType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return httpMethodName.equals(key.httpMethodName) && uri.equals(key.uri) && headers.equals(key.headers)
+                    && responseType.equals(key.responseType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.jboss.resteasy.reactive.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ClientHttpCacheFilterTest {
+
+    @Test
+    public void cacheControlIsParsed() {
+        ClientHttpCacheFilter.CacheControl cacheControl = ClientHttpCacheFilter.CacheControl
+                .parse(List.of("public, Max-Age=60", "no-cache=\"Set-Cookie\""));
+        assertEquals(60, cacheControl.maxAge);
+        assertTrue(cacheControl.noCache);
+        assertTrue(cacheControl.isPublic);
+        assertFalse(cacheControl.noStore);
+        assertFalse(cacheControl.isPrivate);
+    }
+
+    @Test
+    public void sharedCacheDirectivesAreParsed() {
+        ClientHttpCacheFilter.CacheControl cacheControl = ClientHttpCacheFilter.CacheControl
+                .parse(List.of("private=\"Set-Cookie\", s-maxage=\"120\", must-revalidate"));
+        assertTrue(cacheControl.isPrivate);
+        assertTrue(cacheControl.mustRevalidate);
+        assertEquals(120, cacheControl.sMaxAge);
+        assertEquals(-1, cacheControl.maxAge);
+    }
+
+    @Test
+    public void quotedMaxAgeIsParsed() {
+        assertEquals(30, ClientHttpCacheFilter.CacheControl.parse(List.of("max-age=\"30\"")).maxAge);
+    }
+
+    @Test
+    public void missingCacheControl() {
+        ClientHttpCacheFilter.CacheControl cacheControl = ClientHttpCacheFilter.CacheControl.parse(null);
+        assertEquals(-1, cacheControl.maxAge);
+        assertFalse(cacheControl.noCache);
+        assertFalse(cacheControl.noStore);
+    }
+
+    @Test
+    public void noStore() {
+        assertTrue(ClientHttpCacheFilter.CacheControl.parse(List.of("no-store")).noStore);
+    }
+}
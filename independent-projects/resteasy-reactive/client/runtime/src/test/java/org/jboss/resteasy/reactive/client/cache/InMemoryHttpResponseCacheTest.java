@@ -0,0 +1,69 @@
+package org.jboss.resteasy.reactive.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.junit.jupiter.api.Test;
+
+public class InMemoryHttpResponseCacheTest {
+
+    private final InMemoryHttpResponseCache cache = new InMemoryHttpResponseCache(30);
+
+    @Test
+    public void leastRecentlyUsedResponsesAreEvicted() {
+        cache.put("a", response(10));
+        cache.put("b", response(10));
+        cache.put("c", response(10));
+        assertEquals(30, cache.size());
+
+        // "a" becomes the most recently used response
+        assertNotNull(cache.get("a"));
+        cache.put("d", response(10));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+        assertEquals(30, cache.size());
+    }
+
+    @Test
+    public void replacedAndInvalidatedResponsesAreNotCounted() {
+        cache.put("a", response(10));
+        CachedResponse replacement = response(20);
+        cache.put("a", replacement);
+        assertSame(replacement, cache.get("a"));
+        assertEquals(20, cache.size());
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void responsesLargerThanTheCacheAreNotStored() {
+        cache.put("a", response(10));
+        cache.put("b", response(31));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void headersAreCounted() {
+        MultivaluedHashMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.put("ETag", List.of("\"1\""));
+        CachedResponse response = new CachedResponse(200, "OK", headers, new byte[10], Map.of(), 0, "\"1\"", null);
+        assertEquals(17, response.size());
+    }
+
+    private static CachedResponse response(int bodySize) {
+        return new CachedResponse(200, "OK", new MultivaluedHashMap<>(), new byte[bodySize], Map.of(), 0, null, null);
+    }
+}
@@ -10,6 +10,7 @@
 import jakarta.ws.rs.client.ClientResponseFilter;
 
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
+import org.jboss.resteasy.reactive.client.handlers.ClientRequestFilterRestHandler;
 import org.jboss.resteasy.reactive.client.logging.DefaultClientLogger;
 import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
@@ -43,4 +44,24 @@ public void preSendHandlerIsAlwaysFirst() throws Exception {
         assertEquals(handlers[0], preHandler);
     }
 
+    @Test
+    public void requestCoalescerRunsAfterRequestFilters() throws Exception {
+
+        var chain = new HandlerChain(false, 8096, true, LoggingScope.NONE, Collections.emptyMap(), new DefaultClientLogger());
+
+        RequestCoalescer requestCoalescer = new RequestCoalescer();
+        chain.setRequestCoalescer(requestCoalescer);
+
+        var config = new ConfigurationImpl(RuntimeType.CLIENT);
+        ClientRequestFilter testReqFilter = ctx -> {
+        };
+        config.register(testReqFilter);
+
+        var handlers = chain.createHandlerChain(config);
+
+        // Ensure the coalescer compares the headers set by the request filters
+        assertTrue(handlers[0] instanceof ClientRequestFilterRestHandler);
+        assertEquals(handlers[1], requestCoalescer);
+    }
+
 }
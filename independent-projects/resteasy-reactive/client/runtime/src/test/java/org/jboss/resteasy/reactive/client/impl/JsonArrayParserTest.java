@@ -0,0 +1,79 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.ProcessingException;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+public class JsonArrayParserTest {
+
+    private final List<String> values = new ArrayList<>();
+    private final JsonArrayParser parser = new JsonArrayParser(value -> values.add(value.toString()));
+
+    @Test
+    public void arrayElementsAreSplit() {
+        parse("[{\"name\":\"a\",\"tags\":[1,2]}, \"b\\\"]\" ,3,null,[{}]]");
+        assertEquals(List.of("{\"name\":\"a\",\"tags\":[1,2]}", "\"b\\\"]\" ", "3", "null", "[{}]"), values);
+    }
+
+    @Test
+    public void elementsCanSpanSeveralBuffers() {
+        String json = " [{\"name\":\"a,b\"},{\"name\":\"c\\\\\"},12345] ";
+        // every split of the document in two buffers
+        for (int i = 0; i <= json.length(); i++) {
+            JsonArrayParser parser = new JsonArrayParser(value -> values.add(value.toString()));
+            parser.handle(Buffer.buffer(json.substring(0, i)));
+            parser.handle(Buffer.buffer(json.substring(i)));
+            parser.end();
+            assertEquals(List.of("{\"name\":\"a,b\"}", "{\"name\":\"c\\\\\"}", "12345"), values);
+            values.clear();
+        }
+    }
+
+    @Test
+    public void elementsAreEmittedAsSoonAsTheyAreReceived() {
+        parser.handle(Buffer.buffer("[{\"a\":1},"));
+        assertEquals(List.of("{\"a\":1}"), values);
+        parser.handle(Buffer.buffer("{\"a\":2}"));
+        parser.handle(Buffer.buffer("]"));
+        parser.end();
+        assertEquals(List.of("{\"a\":1}", "{\"a\":2}"), values);
+    }
+
+    @Test
+    public void emptyArray() {
+        parse(" [ ] ");
+        assertEquals(List.of(), values);
+    }
+
+    @Test
+    public void consecutiveValuesAreSplit() {
+        parse("{\"a\":1}{\"a\":[2]}\n\"c\" 4");
+        assertEquals(List.of("{\"a\":1}", "{\"a\":[2]}", "\"c\"", "4"), values);
+    }
+
+    @Test
+    public void truncatedArrayFails() {
+        parser.handle(Buffer.buffer("[{\"a\":1},{\"a\""));
+        assertThrows(ProcessingException.class, parser::end);
+    }
+
+    @Test
+    public void invalidArrayFails() {
+        assertThrows(ProcessingException.class, () -> parser.handle(Buffer.buffer("[1,,2]")));
+        assertThrows(ProcessingException.class, () -> new JsonArrayParser(value -> {
+        }).handle(Buffer.buffer("[1] 2")));
+    }
+
+    private void parse(String json) {
+        parser.handle(Buffer.buffer(json));
+        parser.end();
+    }
+}
@@ -0,0 +1,83 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescerTest {
+
+    private static final URI TARGET = URI.create("http://localhost:8080/hello");
+    private static final GenericType<String> STRING = new GenericType<>(String.class);
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    @Test
+    public void identicalInvocationsShareTheRequest() {
+        CompletableFuture<ResponseImpl> first = new CompletableFuture<>();
+        assertNull(coalescer.join("GET", TARGET, headers("Accept", "text/plain"), String.class, first));
+        assertSame(first, coalescer.join("GET", TARGET, headers("accept", "text/plain"), String.class,
+                new CompletableFuture<>()));
+        assertEquals(1, coalescer.inFlight());
+
+        first.complete(null);
+        assertEquals(0, coalescer.inFlight());
+
+        // the request is not in flight anymore
+        assertNull(coalescer.join("GET", TARGET, headers("Accept", "text/plain"), String.class, new CompletableFuture<>()));
+    }
+
+    @Test
+    public void differentInvocationsDoNotShareTheRequest() {
+        assertNull(coalescer.join("GET", TARGET, headers("Accept", "text/plain"), String.class, new CompletableFuture<>()));
+        assertNull(coalescer.join("GET", TARGET, headers("Accept", "application/json"), String.class,
+                new CompletableFuture<>()));
+        assertNull(coalescer.join("HEAD", TARGET, headers("Accept", "text/plain"), String.class, new CompletableFuture<>()));
+        assertNull(coalescer.join("GET", TARGET.resolve("/bye"), headers("Accept", "text/plain"), String.class,
+                new CompletableFuture<>()));
+        assertNull(coalescer.join("GET", TARGET, headers("Accept", "text/plain"), Integer.class, new CompletableFuture<>()));
+        // the headers set by the request filters, such as the credentials of the caller, are compared too
+        assertNull(coalescer.join("GET", TARGET, headers("Authorization", "Bearer alice"), String.class,
+                new CompletableFuture<>()));
+        assertNull(coalescer.join("GET", TARGET, headers("Authorization", "Bearer bob"), String.class,
+                new CompletableFuture<>()));
+        assertEquals(7, coalescer.inFlight());
+    }
+
+    @Test
+    public void failedRequestsAreNotInFlight() {
+        CompletableFuture<ResponseImpl> first = new CompletableFuture<>();
+        assertNull(coalescer.join("GET", TARGET, headers("Accept", "text/plain"), String.class, first));
+        first.completeExceptionally(new IllegalStateException());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    public void onlySafeInvocationsReadingTheEntityCanBeCoalesced() {
+        assertTrue(RequestCoalescer.canCoalesce("GET", null, STRING));
+        assertFalse(RequestCoalescer.canCoalesce("POST", null, STRING));
+        assertFalse(RequestCoalescer.canCoalesce("GET", Entity.text("hello"), STRING));
+        assertFalse(RequestCoalescer.canCoalesce("GET", null, null));
+        assertFalse(RequestCoalescer.canCoalesce("GET", null, new GenericType<>(Response.class)));
+        assertFalse(RequestCoalescer.canCoalesce("GET", null, new GenericType<>(InputStream.class)));
+    }
+
+    private static ClientRequestHeaders headers(String name, String value) {
+        ClientRequestHeaders headers = new ClientRequestHeaders(new ConfigurationImpl(RuntimeType.CLIENT));
+        headers.header(name, value);
+        return headers;
+    }
+}
@@ -0,0 +1,96 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+
+/**
+ * Generates resource classes that are registered next to the benchmarked ones, so that routing operates on a
+ * realistically sized route table. The resource {@code n} is bound to {@code /resource<n>} and exposes:
+ * <ul>
+ * <li>{@code GET /resource<n>}</li>
+ * <li>{@code GET /resource<n>/{id}}</li>
+ * <li>{@code GET /resource<n>/{id}/children/{child}}</li>
+ * <li>{@code DELETE /resource<n>/{id}}</li>
+ * </ul>
+ */
+final class AdditionalResources extends ClassLoader {
+
+    private static final String PACKAGE = AdditionalResources.class.getPackageName() + ".generated.";
+
+    private final Map<String, byte[]> classes = new LinkedHashMap<>();
+
+    AdditionalResources(int count, ClassLoader parent) {
+        super(parent);
+        ClassOutput output = new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                classes.put(name.replace('/', '.'), data);
+            }
+        };
+        for (int i = 0; i < count; i++) {
+            generate(output, i);
+        }
+    }
+
+    /**
+     * @return the bytecode of the generated classes, keyed by class name
+     */
+    Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] data = classes.get(name);
+        if (data == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, data, 0, data.length);
+    }
+
+    private static void generate(ClassOutput output, int index) {
+        try (ClassCreator cc = ClassCreator.builder().classOutput(output).className(PACKAGE + "Resource" + index).build()) {
+            cc.addAnnotation(Path.class).addValue("value", "/resource" + index);
+            cc.addAnnotation(Produces.class).addValue("value", new String[] { MediaType.TEXT_PLAIN });
+
+            MethodCreator constructor = cc.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+            constructor.returnValue(null);
+
+            MethodCreator list = cc.getMethodCreator("list", String.class);
+            list.addAnnotation(GET.class);
+            list.returnValue(list.load("list"));
+
+            MethodCreator get = cc.getMethodCreator("get", String.class, String.class);
+            get.addAnnotation(GET.class);
+            get.addAnnotation(Path.class).addValue("value", "/{id}");
+            get.getParameterAnnotations(0).addAnnotation(PathParam.class).addValue("value", "id");
+            get.returnValue(get.getMethodParam(0));
+
+            MethodCreator child = cc.getMethodCreator("child", String.class, String.class, String.class);
+            child.addAnnotation(GET.class);
+            child.addAnnotation(Path.class).addValue("value", "/{id}/children/{child}");
+            child.getParameterAnnotations(0).addAnnotation(PathParam.class).addValue("value", "id");
+            child.getParameterAnnotations(1).addAnnotation(PathParam.class).addValue("value", "child");
+            child.returnValue(child.getMethodParam(0));
+
+            MethodCreator delete = cc.getMethodCreator("delete", void.class, String.class);
+            delete.addAnnotation(DELETE.class);
+            delete.addAnnotation(Path.class).addValue("value", "/{id}");
+            delete.getParameterAnnotations(0).addAnnotation(PathParam.class).addValue("value", "id");
+            delete.returnValue(null);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A small application assembled by {@link ResteasyReactiveDeploymentManager}, so that the requests run through the
+ * handler chain built by {@code RuntimeDeploymentManager} for annotated resources, filters, exception mappers and
+ * message body readers and writers, like in a real application, without requiring a HTTP server.
+ * <p>
+ * The application exposes the following endpoints:
+ * <ul>
+ * <li>{@code GET /hello} returning a plain text entity</li>
+ * <li>{@code GET /hello/{name}} returning a JSON entity built from a path parameter</li>
+ * <li>{@code GET /items/{id}} converting the path parameter to a {@code long}</li>
+ * <li>{@code POST /items} reading a JSON request body</li>
+ * <li>{@code GET /items/{id}/missing} throwing an exception that is turned into a 404 by an {@code ExceptionMapper}</li>
+ * </ul>
+ * Every request passes through a pre-matching request filter and a response filter. A configurable number of
+ * {@link AdditionalResources additional resource classes} is registered so that routing operates on a realistically
+ * sized route table.
+ * <p>
+ * Unlike in Quarkus, where the endpoint invokers are generated, the endpoints are invoked through reflection.
+ */
+public class BenchmarkApplication implements RequestContextFactory {
+
+    public static final String REQUEST_ID = "X-Request-Id";
+
+    private static final List<Class<?>> CLASSES = List.of(HelloResource.class, ItemResource.class, Greeting.class,
+            Item.class, RequestIdFilter.class, ResponseHeadersFilter.class, ItemNotFoundExceptionMapper.class,
+            JsonMessageBodyReader.class, JsonMessageBodyWriter.class);
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final ResteasyReactiveDeploymentManager.RunnableApplication application;
+    private final RestInitialHandler initialHandler;
+    private BenchmarkRequestContext current;
+
+    public BenchmarkApplication(int additionalResources) {
+        AdditionalResources resources = new AdditionalResources(additionalResources,
+                BenchmarkApplication.class.getClassLoader());
+        Thread thread = Thread.currentThread();
+        ClassLoader originalClassLoader = thread.getContextClassLoader();
+        // the classes of the application are loaded through the TCCL
+        thread.setContextClassLoader(resources);
+        try {
+            ResteasyReactiveDeploymentManager.ScanResult scanned = ResteasyReactiveDeploymentManager
+                    .start(index(resources.getClasses()))
+                    .scan();
+            ResteasyReactiveDeploymentManager.PreparedApplication prepared = scanned.prepare(resources,
+                    ReflectiveContextInjectedBeanFactory.STRING_FACTORY);
+            prepared.addScannedSerializers();
+            prepared.addBuiltinSerializers();
+            DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1), true,
+                    System.getProperty("java.io.tmpdir"), List.of(), StandardCharsets.UTF_8, Optional.empty(), 2048, 1000);
+            // the blocking endpoints run on the calling thread too
+            application = prepared.createApplication(runtimeConfiguration, this, DIRECT);
+            initialHandler = application.getInitialHandler();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            thread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private static Index index(Map<String, byte[]> generatedClasses) {
+        Indexer indexer = new Indexer();
+        try {
+            for (Class<?> clazz : CLASSES) {
+                indexer.indexClass(clazz);
+            }
+            for (byte[] data : generatedClasses.values()) {
+                indexer.index(new ByteArrayInputStream(data));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return indexer.complete();
+    }
+
+    /**
+     * Runs the request through the complete handler chain on the calling thread.
+     *
+     * @return the context, which holds the response status and the number of bytes written
+     */
+    public BenchmarkRequestContext dispatch(BenchmarkRequest request) {
+        initialHandler.beginProcessing(request);
+        BenchmarkRequestContext result = current;
+        current = null;
+        return result;
+    }
+
+    public void close() {
+        application.close();
+    }
+
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        return current = new BenchmarkRequestContext(deployment, (BenchmarkRequest) context, requestContext, handlerChain,
+                abortHandlerChain);
+    }
+}
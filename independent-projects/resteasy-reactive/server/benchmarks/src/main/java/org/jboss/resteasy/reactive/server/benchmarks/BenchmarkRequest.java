@@ -0,0 +1,85 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable description of an incoming HTTP request, used as the external context object when creating a
+ * {@link BenchmarkRequestContext}. Instances are built once per benchmark and replayed for every invocation.
+ */
+public final class BenchmarkRequest {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    final String method;
+    final String path;
+    final Map<String, List<String>> headers;
+    final List<Map.Entry<String, String>> headerEntries;
+    final byte[] body;
+
+    private BenchmarkRequest(String method, String path, Map<String, List<String>> headers, byte[] body) {
+        this.method = method;
+        this.path = path;
+        this.headers = headers;
+        this.body = body;
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                entries.add(Map.entry(entry.getKey(), value));
+            }
+        }
+        this.headerEntries = Collections.unmodifiableList(entries);
+    }
+
+    public static Builder get(String path) {
+        return new Builder("GET", path);
+    }
+
+    public static Builder post(String path) {
+        return new Builder("POST", path);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public static final class Builder {
+
+        private final String method;
+        private final String path;
+        private final Map<String, List<String>> headers = new HashMap<>();
+        private byte[] body = EMPTY_BODY;
+
+        private Builder(String method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        public Builder header(String name, String value) {
+            headers.computeIfAbsent(name.toLowerCase(Locale.ROOT), k -> new ArrayList<>(1)).add(value);
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+            return this;
+        }
+
+        public BenchmarkRequest build() {
+            Map<String, List<String>> copy = new HashMap<>();
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                copy.put(entry.getKey(), List.copyOf(entry.getValue()));
+            }
+            return new BenchmarkRequest(method, path, Collections.unmodifiableMap(copy), body);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A request context that is backed by an in-memory {@link BenchmarkRequest} instead of a network connection.
+ * <p>
+ * Everything runs on the calling thread, so a single invocation of {@link #run()} drives the request through the
+ * complete handler chain and leaves the outcome in {@link #getStatus()} and {@link #getResponseBytes()}.
+ */
+public class BenchmarkRequestContext extends ResteasyReactiveRequestContext
+        implements ServerHttpRequest, ServerHttpResponse {
+
+    public static final RequestContextFactory FACTORY = new RequestContextFactory() {
+        @Override
+        public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+                ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+            return new BenchmarkRequestContext(deployment, (BenchmarkRequest) context, requestContext, handlerChain,
+                    abortHandlerChain);
+        }
+    };
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final BenchmarkRequest request;
+    private final Map<String, String> responseHeaders = new LinkedHashMap<>();
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+    private int status = 200;
+    private long responseBytes;
+    private boolean ended;
+
+    public BenchmarkRequestContext(Deployment deployment, BenchmarkRequest request,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.request = request;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return DIRECT;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        // benchmarked requests always complete synchronously, so there is nothing to time out
+        return new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        return false;
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        List<String> values = request.headers.get(name.toString().toLowerCase(Locale.ROOT));
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        return request.headerEntries;
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        List<String> values = request.headers.get(name.toLowerCase(Locale.ROOT));
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return request.headers.containsKey(accept.toString().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public String getRequestPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return request.method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        return "http://localhost:8080" + request.path;
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHost() {
+        return "localhost:8080";
+    }
+
+    @Override
+    public void closeConnection() {
+        ended = true;
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        return null;
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String query() {
+        return null;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return true;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        return new ByteArrayInputStream(request.body);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(request.body);
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        if (request.body.length > 0) {
+            callback.data(ByteBuffer.wrap(request.body));
+        }
+        callback.done();
+        return this;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType.isInstance(this)) {
+            return theType.cast(this);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        status = code;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        commit();
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public boolean headWritten() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        commit();
+        responseBytes += data.length;
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return end(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        responseHeaders.merge(name.toString(), value.toString(), (a, b) -> a + "," + b);
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        responseHeaders.put(name.toString(), value.toString());
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        responseHeaders.put(name.toString(), String.join(",", values));
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return responseHeaders.entrySet();
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return responseHeaders.get(name);
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        responseHeaders.remove(name);
+    }
+
+    @Override
+    public boolean closed() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        commit();
+        responseBytes += data.length;
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commit();
+        responseBytes += data.length;
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        commit();
+        responseBytes += length;
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                commit();
+                responseBytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                commit();
+                responseBytes += len;
+            }
+
+            @Override
+            public void close() {
+                ended = true;
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        onDrain.run();
+        return this;
+    }
+
+    private void commit() {
+        if (preCommitTask != null) {
+            Consumer<ResteasyReactiveRequestContext> task = preCommitTask;
+            preCommitTask = null;
+            task.accept(this);
+        }
+    }
+}
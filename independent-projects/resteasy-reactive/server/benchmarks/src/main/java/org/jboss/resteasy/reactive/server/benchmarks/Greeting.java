@@ -0,0 +1,15 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+public class Greeting {
+
+    public String message;
+    public String recipient;
+
+    public Greeting() {
+    }
+
+    public Greeting(String message, String recipient) {
+        this.message = message;
+        this.recipient = recipient;
+    }
+}
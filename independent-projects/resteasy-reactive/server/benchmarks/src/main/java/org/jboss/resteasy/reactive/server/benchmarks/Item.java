@@ -0,0 +1,19 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+public class Item {
+
+    public long id;
+    public String name;
+    public double price;
+    public boolean available;
+
+    public Item() {
+    }
+
+    public Item(long id, String name, double price, boolean available) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.available = available;
+    }
+}
@@ -0,0 +1,9 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+public class ItemNotFoundException extends RuntimeException {
+
+    public ItemNotFoundException(long id) {
+        // mapped exceptions are expected, don't pay for a stack trace
+        super("Item " + id + " does not exist", null, false, false);
+    }
+}
@@ -0,0 +1,14 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class ItemNotFoundExceptionMapper implements ExceptionMapper<ItemNotFoundException> {
+
+    @Override
+    public Response toResponse(ItemNotFoundException exception) {
+        return Response.status(Response.Status.NOT_FOUND).entity(new Greeting(exception.getMessage(), null)).build();
+    }
+}
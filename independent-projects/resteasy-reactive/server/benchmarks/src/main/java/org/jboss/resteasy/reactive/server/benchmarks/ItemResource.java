@@ -0,0 +1,32 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/items")
+@Produces(MediaType.APPLICATION_JSON)
+public class ItemResource {
+
+    @GET
+    @Path("/{id}")
+    public Item get(@PathParam("id") long id) {
+        return new Item(id, "item", 9.99, true);
+    }
+
+    @GET
+    @Path("/{id}/missing")
+    public Item missing(@PathParam("id") long id) {
+        throw new ItemNotFoundException(id);
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Item create(Item item) {
+        return item;
+    }
+}
@@ -0,0 +1,16 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.jackson.JacksonBasicMessageBodyReader;
+
+@Provider
+@Consumes(MediaType.APPLICATION_JSON)
+public class JsonMessageBodyReader extends JacksonBasicMessageBodyReader {
+
+    public JsonMessageBodyReader() {
+        super(JsonMessageBodyWriter.MAPPER);
+    }
+}
@@ -0,0 +1,123 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of dispatching a request through the handler chain of a deployed application, i.e. routing,
+ * parameter extraction, filters, invocation, exception mapping and serialisation, without any network involvement.
+ * <p>
+ * Results are reported as operations per second for a single thread, i.e. throughput per core. Run with
+ * {@code java -jar target/benchmarks.jar RequestDispatchBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestDispatchBenchmark {
+
+    /**
+     * The number of resource classes registered in addition to the benchmarked ones.
+     */
+    @Param({ "10", "600" })
+    int additionalResources;
+
+    private BenchmarkApplication application;
+    private BenchmarkRequest plainText;
+    private BenchmarkRequest pathParam;
+    private BenchmarkRequest convertedPathParam;
+    private BenchmarkRequest jsonBody;
+    private BenchmarkRequest mappedException;
+    private BenchmarkRequest routedAmongMany;
+
+    @Setup
+    public void setup() {
+        application = new BenchmarkApplication(additionalResources);
+        plainText = BenchmarkRequest.get("/hello")
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_PLAIN)
+                .build();
+        pathParam = BenchmarkRequest.get("/hello/quarkus")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON)
+                .header(BenchmarkApplication.REQUEST_ID, "7c1f2a")
+                .build();
+        convertedPathParam = BenchmarkRequest.get("/items/4711")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON)
+                .build();
+        jsonBody = BenchmarkRequest.post("/items")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .body("{\"id\":4711,\"name\":\"item\",\"price\":9.99,\"available\":true}")
+                .build();
+        mappedException = BenchmarkRequest.get("/items/4711/missing")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON)
+                .build();
+        routedAmongMany = BenchmarkRequest.get("/resource" + (additionalResources / 2) + "/42/children/7")
+                .build();
+
+        verify(plainText, 200);
+        verify(pathParam, 200);
+        verify(convertedPathParam, 200);
+        verify(jsonBody, 200);
+        verify(mappedException, 404);
+        verify(routedAmongMany, 200);
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    private void verify(BenchmarkRequest request, int expectedStatus) {
+        BenchmarkRequestContext context = application.dispatch(request);
+        if (context.getStatus() != expectedStatus || context.getResponseBytes() == 0) {
+            throw new IllegalStateException("Unexpected response for " + request.getMethod() + " " + request.getPath()
+                    + ": status " + context.getStatus() + ", " + context.getResponseBytes() + " bytes");
+        }
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext plainText() {
+        return application.dispatch(plainText);
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext pathParam() {
+        return application.dispatch(pathParam);
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext convertedPathParam() {
+        return application.dispatch(convertedPathParam);
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext jsonBody() {
+        return application.dispatch(jsonBody);
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext mappedException() {
+        return application.dispatch(mappedException);
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext routedAmongMany() {
+        return application.dispatch(routedAmongMany);
+    }
+}
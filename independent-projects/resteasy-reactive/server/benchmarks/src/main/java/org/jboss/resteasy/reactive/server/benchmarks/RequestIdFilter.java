@@ -0,0 +1,22 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * A pre-matching filter, so that every request, including the ones that are not routed to any endpoint, runs a filter.
+ */
+@Provider
+@PreMatching
+public class RequestIdFilter implements ContainerRequestFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String requestId = requestContext.getHeaderString(BenchmarkApplication.REQUEST_ID);
+        if (requestId != null) {
+            requestContext.setProperty(BenchmarkApplication.REQUEST_ID, requestId);
+        }
+    }
+}
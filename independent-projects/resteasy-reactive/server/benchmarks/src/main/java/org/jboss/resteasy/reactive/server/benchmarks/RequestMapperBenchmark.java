@@ -0,0 +1,102 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RequestMapper#map(String)} in isolation, both for class level (prefix) templates as used by
+ * {@code RestInitialHandler} and for method level templates as used by {@code ClassRoutingHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    /**
+     * The number of class level templates.
+     */
+    @Param({ "10", "100", "600" })
+    int templates;
+
+    private RequestMapper<String> classMapper;
+    private RequestMapper<String> methodMapper;
+    private String literalPath;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> classTemplates = new ArrayList<>();
+        for (int i = 0; i < templates; i++) {
+            addTemplate(classTemplates, true, "/api/resource" + i);
+        }
+        addTemplate(classTemplates, true, "/api/users/{userId}/orders");
+        addTemplate(classTemplates, true, "/api/files/{path: .+}");
+        classMapper = new RequestMapper<>(classTemplates);
+
+        ArrayList<RequestMapper.RequestPath<String>> methodTemplates = new ArrayList<>();
+        addTemplate(methodTemplates, false, "/");
+        addTemplate(methodTemplates, false, "/search");
+        addTemplate(methodTemplates, false, "/{id}");
+        addTemplate(methodTemplates, false, "/{id}/items");
+        addTemplate(methodTemplates, false, "/{id}/items/{itemId}");
+        addTemplate(methodTemplates, false, "/{id: \\d+}/audit");
+        methodMapper = new RequestMapper<>(methodTemplates);
+
+        literalPath = "/api/resource" + (templates / 2) + "/42";
+    }
+
+    private static void addTemplate(ArrayList<RequestMapper.RequestPath<String>> list, boolean prefix, String path) {
+        list.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(path, prefix), path));
+    }
+
+    @Benchmark
+    public Object classLiteral() {
+        return classMapper.map(literalPath);
+    }
+
+    @Benchmark
+    public Object classPathParam() {
+        return classMapper.map("/api/users/1234/orders");
+    }
+
+    @Benchmark
+    public Object classRegex() {
+        return classMapper.map("/api/files/docs/2024/report.pdf");
+    }
+
+    @Benchmark
+    public Object classMiss() {
+        return classMapper.map("/unknown/path");
+    }
+
+    @Benchmark
+    public Object methodLiteral() {
+        return methodMapper.map("/search");
+    }
+
+    @Benchmark
+    public Object methodPathParams() {
+        return methodMapper.map("/42/items/7");
+    }
+
+    @Benchmark
+    public Object methodRegex() {
+        return methodMapper.map("/42/audit");
+    }
+}
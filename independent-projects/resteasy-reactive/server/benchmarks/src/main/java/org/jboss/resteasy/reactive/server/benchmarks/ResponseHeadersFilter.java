@@ -0,0 +1,20 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class ResponseHeadersFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        responseContext.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, "no-store");
+        Object requestId = requestContext.getProperty(BenchmarkApplication.REQUEST_ID);
+        if (requestId != null) {
+            responseContext.getHeaders().putSingle(BenchmarkApplication.REQUEST_ID, requestId);
+        }
+    }
+}
@@ -14,6 +14,7 @@
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 
@@ -81,6 +82,18 @@
      * Note: those are decoded.
      */
     private Object pathParamValues;
+    /**
+     * If this is set the path parameters have been captured lazily, and instead of {@link #pathParamValues} they are
+     * described by their start and end offset into this string. They are only turned into strings (or directly into
+     * numbers or UUIDs) when they are actually read.
+     * <p>
+     * Just like {@link #pathParamValues} the offsets of a single path param are stored directly in
+     * {@link #pathParamStart} and {@link #pathParamEnd}, while multiple params use {@link #pathParamBounds}.
+     */
+    private String pathParamSource;
+    private int[] pathParamBounds;
+    private int pathParamStart = -1;
+    private int pathParamEnd;
 
     private UriInfo uriInfo;
     /**
@@ -179,6 +192,7 @@ public void restart(RuntimeResource target, boolean setLocatorTarget) {
         position = 0;
         parameters = target.getParameterTypes().length == 0 ? EMPTY_ARRAY : new Object[target.getParameterTypes().length];
         if (setLocatorTarget) {
+            materializePathParams();
             setProperty(PreviousResource.PROPERTY_KEY, new PreviousResource(this.target, pathParamValues,
                     (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY)));
         }
@@ -226,6 +240,8 @@ public Object[] getParameters() {
     }
 
     public void setMaxPathParams(int maxPathParams) {
+        pathParamSource = null;
+        pathParamBounds = null;
         if (maxPathParams > 1) {
             pathParamValues = new String[maxPathParams];
         } else {
@@ -233,10 +249,100 @@ public void setMaxPathParams(int maxPathParams) {
         }
     }
 
+    /**
+     * Prepares for the path parameters to be captured lazily, as offsets into the given path.
+     *
+     * @param source the path the parameters are matched against, which is usually the path without prefix
+     * @param maxPathParams the maximum number of path parameters
+     * @see #setPathParamBounds(int, String, int, int)
+     */
+    public void setMaxPathParams(int maxPathParams, String source) {
+        pathParamValues = null;
+        pathParamSource = source;
+        pathParamStart = -1;
+        if (maxPathParams > 1) {
+            pathParamBounds = new int[maxPathParams * 2];
+            Arrays.fill(pathParamBounds, -1);
+        } else {
+            pathParamBounds = null;
+        }
+    }
+
     public String getPathParam(int index, boolean encoded) {
+        if (pathParamSource != null) {
+            String pathParam = lazyPathParam(index);
+            return encoded ? pathParam : Encode.decodePath(pathParam);
+        }
         return doGetPathParam(index, pathParamValues, encoded);
     }
 
+    /**
+     * Returns the path parameter converted to a {@link Long}, without creating an intermediate string if the
+     * parameter has been captured lazily and does not need to be decoded.
+     *
+     * @throws NumberFormatException if the parameter is not a valid {@code long}
+     */
+    public Long getPathParamAsLong(int index, boolean encoded) {
+        if (pathParamSource != null) {
+            int start = lazyPathParamStart(index);
+            if (start == -1) {
+                return null;
+            }
+            int end = lazyPathParamEnd(index);
+            if (!needsDecoding(start, end)) {
+                return Long.parseLong(pathParamSource, start, end, 10);
+            }
+        }
+        String pathParam = getPathParam(index, encoded);
+        return pathParam == null ? null : Long.valueOf(pathParam);
+    }
+
+    /**
+     * Returns the path parameter converted to an {@link Integer}, without creating an intermediate string if the
+     * parameter has been captured lazily and does not need to be decoded.
+     *
+     * @throws NumberFormatException if the parameter is not a valid {@code int}
+     */
+    public Integer getPathParamAsInt(int index, boolean encoded) {
+        if (pathParamSource != null) {
+            int start = lazyPathParamStart(index);
+            if (start == -1) {
+                return null;
+            }
+            int end = lazyPathParamEnd(index);
+            if (!needsDecoding(start, end)) {
+                return Integer.parseInt(pathParamSource, start, end, 10);
+            }
+        }
+        String pathParam = getPathParam(index, encoded);
+        return pathParam == null ? null : Integer.valueOf(pathParam);
+    }
+
+    /**
+     * Returns the path parameter converted to a {@link UUID}, without creating an intermediate string if the
+     * parameter has been captured lazily, does not need to be decoded and uses the canonical 36 character format.
+     *
+     * @throws IllegalArgumentException if the parameter is not a valid UUID
+     */
+    public UUID getPathParamAsUUID(int index, boolean encoded) {
+        if (pathParamSource != null) {
+            int start = lazyPathParamStart(index);
+            if (start == -1) {
+                return null;
+            }
+            int end = lazyPathParamEnd(index);
+            if (end - start == 36 && !needsDecoding(start, end)) {
+                UUID result = parseCanonicalUUID(pathParamSource, start);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        // non canonical representations are left to the JDK, as it accepts more than just the canonical form
+        String pathParam = getPathParam(index, encoded);
+        return pathParam == null ? null : UUID.fromString(pathParam);
+    }
+
     private String doGetPathParam(int index, Object pathParamValues, boolean encoded) {
         if (pathParamValues instanceof String[]) {
             String pathParam = ((String[]) pathParamValues)[index];
@@ -250,6 +356,9 @@ private String doGetPathParam(int index, Object pathParamValues, boolean encoded
     }
 
     public ResteasyReactiveRequestContext setPathParamValue(int index, String value) {
+        if (pathParamSource != null) {
+            materializePathParams();
+        }
         if (pathParamValues instanceof String[]) {
             ((String[]) pathParamValues)[index] = value;
         } else {
@@ -261,6 +370,127 @@ public ResteasyReactiveRequestContext setPathParamValue(int index, String value)
         return this;
     }
 
+    /**
+     * Records the bounds of a path parameter that was matched against {@code path}.
+     * <p>
+     * If the path parameters are captured lazily (see {@link #setMaxPathParams(int, String)}), {@code path} must
+     * either be the path that was passed there, or a suffix of it (such as the remaining path after a class level
+     * match), in which case the bounds are translated. Otherwise the value is extracted immediately.
+     */
+    public ResteasyReactiveRequestContext setPathParamBounds(int index, String path, int start, int end) {
+        if (pathParamSource == null) {
+            return setPathParamValue(index, path.substring(start, end));
+        }
+        if (path != pathParamSource) {
+            int offset = pathParamSource.length() - path.length();
+            if (start == end) {
+                // an empty value can come from anywhere, this also covers the '/' used when there is nothing remaining
+                start = end = path.length();
+            }
+            if (offset < 0 || !pathParamSource.regionMatches(start + offset, path, start, end - start)) {
+                return setPathParamValue(index, path.substring(start, end));
+            }
+            start += offset;
+            end += offset;
+        }
+        if (pathParamBounds != null) {
+            pathParamBounds[index * 2] = start;
+            pathParamBounds[index * 2 + 1] = end;
+        } else {
+            if (index > 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            pathParamStart = start;
+            pathParamEnd = end;
+        }
+        return this;
+    }
+
+    /**
+     * Turns lazily captured path parameters into their string values, so that they can be used independently of the
+     * path they were matched against.
+     */
+    private void materializePathParams() {
+        String source = pathParamSource;
+        if (source == null) {
+            return;
+        }
+        int[] bounds = pathParamBounds;
+        if (bounds != null) {
+            String[] values = new String[bounds.length / 2];
+            for (int i = 0; i < values.length; ++i) {
+                int start = bounds[i * 2];
+                if (start != -1) {
+                    values[i] = source.substring(start, bounds[i * 2 + 1]);
+                }
+            }
+            pathParamValues = values;
+        } else {
+            pathParamValues = pathParamStart == -1 ? null : source.substring(pathParamStart, pathParamEnd);
+        }
+        pathParamSource = null;
+        pathParamBounds = null;
+    }
+
+    private String lazyPathParam(int index) {
+        int start = lazyPathParamStart(index);
+        return start == -1 ? null : pathParamSource.substring(start, lazyPathParamEnd(index));
+    }
+
+    private int lazyPathParamStart(int index) {
+        if (pathParamBounds != null) {
+            return pathParamBounds[index * 2];
+        }
+        if (index > 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return pathParamStart;
+    }
+
+    private int lazyPathParamEnd(int index) {
+        return pathParamBounds != null ? pathParamBounds[index * 2 + 1] : pathParamEnd;
+    }
+
+    private boolean needsDecoding(int start, int end) {
+        String source = pathParamSource;
+        for (int i = start; i < end; ++i) {
+            if (source.charAt(i) == '%') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a UUID in the canonical {@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx} format, starting at the given
+     * offset.
+     *
+     * @return the UUID, or {@code null} if the value is not in canonical format
+     */
+    private static UUID parseCanonicalUUID(String value, int offset) {
+        if (value.charAt(offset + 8) != '-' || value.charAt(offset + 13) != '-' || value.charAt(offset + 18) != '-'
+                || value.charAt(offset + 23) != '-') {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 36; ++i) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int digit = Character.digit(value.charAt(offset + i), 16);
+            if (digit == -1) {
+                return null;
+            }
+            if (i < 19) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+        }
+        return new UUID(msb, lsb);
+    }
+
     public void setUriInfo(UriInfo uriInfo) {
         this.uriInfo = uriInfo;
     }
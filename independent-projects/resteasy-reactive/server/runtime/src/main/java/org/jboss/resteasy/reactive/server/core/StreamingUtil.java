@@ -33,31 +33,18 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
         }
         byte[] data;
         try {
-            data = serialiseEntity(context, entity);
+            data = serialiseEntity(context, entity, prefix, suffix);
         } catch (Exception e) {
             CompletableFuture<?> ret = new CompletableFuture<>();
             ret.completeExceptionally(e);
             return ret;
         }
         setHeaders(context, response, customizers);
-        if (prefix != null) {
-            byte[] prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
-            byte[] prefixedData = new byte[prefixBytes.length + data.length];
-            System.arraycopy(prefixBytes, 0, prefixedData, 0, prefixBytes.length);
-            System.arraycopy(data, 0, prefixedData, prefixBytes.length, data.length);
-            data = prefixedData;
-        }
-        if (suffix != null) {
-            byte[] suffixBytes = suffix.getBytes(StandardCharsets.US_ASCII);
-            byte[] suffixedData = new byte[data.length + suffixBytes.length];
-            System.arraycopy(data, 0, suffixedData, 0, data.length);
-            System.arraycopy(suffixBytes, 0, suffixedData, data.length, suffixBytes.length);
-            data = suffixedData;
-        }
         return response.write(data);
     }
 
-    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity, String prefix,
+            String suffix) throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
@@ -68,6 +55,10 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
         StreamingOutputStream baos = new StreamingOutputStream();
+        // the prefix and the suffix are written around the entity to avoid copying it
+        if (prefix != null) {
+            baos.write(prefix.getBytes(StandardCharsets.US_ASCII));
+        }
         boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
@@ -82,6 +73,9 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
             throw new IllegalStateException(
                     "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
         }
+        if (suffix != null) {
+            baos.write(suffix.getBytes(StandardCharsets.US_ASCII));
+        }
         return baos.toByteArray();
     }
 
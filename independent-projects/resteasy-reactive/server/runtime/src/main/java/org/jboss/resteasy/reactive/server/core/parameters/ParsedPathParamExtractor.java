@@ -0,0 +1,66 @@
+package org.jboss.resteasy.reactive.server.core.parameters;
+
+import jakarta.ws.rs.NotFoundException;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+
+/**
+ * Extracts a single path parameter that is converted straight from the request path, without going through a
+ * {@link org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter} and without creating an
+ * intermediate string when possible.
+ */
+public class ParsedPathParamExtractor implements ParameterExtractor {
+
+    private final int index;
+    private final boolean encoded;
+    private final Type type;
+
+    public enum Type {
+        Long,
+        Integer,
+        UUID;
+    }
+
+    public ParsedPathParamExtractor(int index, boolean encoded, Type type) {
+        this.index = index;
+        this.encoded = encoded;
+        this.type = type;
+    }
+
+    /**
+     * @return the type to use for the given parameter type name, or {@code null} if it can't be parsed directly
+     */
+    public static Type typeOf(String parameterType) {
+        switch (parameterType) {
+            case "long":
+            case "java.lang.Long":
+                return Type.Long;
+            case "int":
+            case "java.lang.Integer":
+                return Type.Integer;
+            case "java.util.UUID":
+                return Type.UUID;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Object extractParameter(ResteasyReactiveRequestContext context) {
+        try {
+            switch (type) {
+                case Long:
+                    return context.getPathParamAsLong(index, encoded);
+                case Integer:
+                    return context.getPathParamAsInt(index, encoded);
+                case UUID:
+                    return context.getPathParamAsUUID(index, encoded);
+                default:
+                    throw new IllegalStateException("Unknown type " + type);
+            }
+        } catch (IllegalArgumentException e) {
+            // same as a failing converter would result in for a path parameter
+            throw new NotFoundException(e);
+        }
+    }
+}
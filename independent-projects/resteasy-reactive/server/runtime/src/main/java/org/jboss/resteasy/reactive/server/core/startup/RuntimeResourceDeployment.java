@@ -58,6 +58,7 @@
 import org.jboss.resteasy.reactive.server.core.parameters.MultipartFormParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.NullParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.ParsedPathParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
@@ -357,7 +358,15 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
             ParameterConverter converter = null;
             ParamConverterProviders paramConverterProviders = info.getParamConverterProviders();
             boolean userProviderConvertersExist = !paramConverterProviders.getParamConverterProviders().isEmpty();
-            if (param.converter != null) {
+            ParsedPathParamExtractor.Type parsedType = null;
+            if ((extractor instanceof PathParamExtractor) && !userProviderConvertersExist && param.isSingle()
+                    && (param.getDefaultValue() == null)) {
+                parsedType = ParsedPathParamExtractor.typeOf(param.type);
+            }
+            if (parsedType != null) {
+                // these are parsed straight from the request path, so no converter is needed
+                extractor = new ParsedPathParamExtractor(pathParameterIndexes.get(param.name), param.encoded, parsedType);
+            } else if (param.converter != null) {
                 converter = param.converter.get();
                 if (userProviderConvertersExist) {
                     Method javaMethod = lazyMethod.getMethod();
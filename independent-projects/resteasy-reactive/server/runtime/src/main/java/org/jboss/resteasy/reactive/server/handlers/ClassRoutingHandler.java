@@ -79,12 +79,12 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
             }
         }
         String remaining = getRemaining(requestContext);
-        RequestMapper.RequestMatch<RuntimeResource> target = mapper.map(remaining);
+        RequestMapper.RequestMatch<RuntimeResource> target = mapper.mapWithBounds(remaining);
         if (target == null) {
             if (requestContext.getMethod().equals(HttpMethod.HEAD)) {
                 mapper = mappers.get(HttpMethod.GET);
                 if (mapper != null) {
-                    target = mapper.map(remaining);
+                    target = mapper.mapWithBounds(remaining);
                 }
             }
 
@@ -150,12 +150,13 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
 
         requestContext.restart(target.value);
         requestContext.setRemaining(target.remaining);
-        for (int i = 0; i < target.pathParamValues.length; ++i) {
-            String pathParamValue = target.pathParamValues[i];
-            if (pathParamValue == null) {
+        int[] pathParamBounds = target.pathParamBounds;
+        for (int i = 0; i < pathParamBounds.length; i += 2) {
+            int start = pathParamBounds[i];
+            if (start == -1) {
                 break;
             }
-            requestContext.setPathParamValue(i + parameterOffset, pathParamValue);
+            requestContext.setPathParamBounds(i / 2 + parameterOffset, target.path, start, pathParamBounds[i + 1]);
         }
     }
 
@@ -10,6 +10,7 @@
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.OutboundSseEvent;
@@ -23,6 +24,7 @@
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 
@@ -86,6 +88,9 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         // Huge hack to stream valid json
         private volatile String nextJsonPrefix;
         private volatile boolean hadItem;
+        // several writes may be in flight, only the first failure is handled
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private final AtomicBoolean waitingForDrain = new AtomicBoolean();
 
         StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext,
                 List<StreamingResponseCustomizer> staticCustomizers, Publisher publisher,
@@ -105,9 +110,12 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         public void onNext(Object item) {
             List<StreamingResponseCustomizer> customizers = determineCustomizers(!hadItem);
             hadItem = true;
-            StreamingUtil.send(requestContext, customizers, item, messagePrefix(), messageSuffix())
+            String prefix = messagePrefix();
+            // next item will need this prefix if json
+            nextJsonPrefix = encodeAsJsonArray ? "," : null;
+            StreamingUtil.send(requestContext, customizers, item, prefix, messageSuffix())
                     .handle((v, t) -> {
-                        if (t != null) {
+                        if (t != null && failed.compareAndSet(false, true)) {
                             // need to cancel because the exception didn't come from the Multi
                             try {
                                 subscription.cancel();
@@ -115,14 +123,38 @@ public void onNext(Object item) {
                                 t2.printStackTrace();
                             }
                             handleException(requestContext, t);
-                        } else {
-                            // next item will need this prefix if json
-                            nextJsonPrefix = encodeAsJsonArray ? "," : null;
-                            // send in the next item
-                            subscription.request(demand);
                         }
                         return null;
                     });
+            requestNext();
+        }
+
+        /**
+         * Requests the next items as long as the response can buffer them, instead of waiting for each item to be
+         * written, so that the items are sent without delay while the memory used by a slow client stays bounded.
+         */
+        private void requestNext() {
+            if (failed.get()) {
+                return;
+            }
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (!response.isWriteQueueFull()) {
+                subscription.request(demand);
+                return;
+            }
+            waitingForDrain.set(true);
+            response.addDrainHandler(this::drained);
+            // the queue may have been drained before the handler was added
+            if (!response.isWriteQueueFull()) {
+                drained();
+            }
+        }
+
+        private void drained() {
+            if (waitingForDrain.compareAndSet(true, false) && !failed.get()) {
+                // send in the next item
+                subscription.request(demand);
+            }
         }
 
         private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst) {
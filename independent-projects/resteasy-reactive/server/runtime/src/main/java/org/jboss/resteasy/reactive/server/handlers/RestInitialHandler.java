@@ -58,7 +58,7 @@ public void beginProcessing(Object externalHttpContext, Throwable throwable) {
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        RequestMapper.RequestMatch<InitialMatch> target = mappers.map(requestContext.getPathWithoutPrefix());
+        RequestMapper.RequestMatch<InitialMatch> target = mappers.mapWithBounds(requestContext.getPathWithoutPrefix());
         if (target == null) {
             ProvidersImpl providers = requestContext.getProviders();
             ExceptionMapper<NotFoundException> exceptionMapper = providers.getExceptionMapper(NotFoundException.class);
@@ -74,14 +74,16 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
             }
         }
         requestContext.restart(target.value.handlers);
-        requestContext.setMaxPathParams(target.value.maxPathParams);
+        // the path params are only extracted from the path if they are actually read
+        requestContext.setMaxPathParams(target.value.maxPathParams, target.path);
         requestContext.setRemaining(target.remaining);
-        for (int i = 0; i < target.pathParamValues.length; ++i) {
-            String pathParamValue = target.pathParamValues[i];
-            if (pathParamValue == null) {
+        int[] pathParamBounds = target.pathParamBounds;
+        for (int i = 0; i < pathParamBounds.length; i += 2) {
+            int start = pathParamBounds[i];
+            if (start == -1) {
                 break;
             }
-            requestContext.setPathParamValue(i, target.pathParamValues[i]);
+            requestContext.setPathParamBounds(i / 2, target.path, start, pathParamBounds[i + 1]);
         }
     }
 
@@ -54,6 +54,31 @@ PathMatch<T> match(String path) {
         return defaultMatch(path);
     }
 
+    /**
+     * Allocation free variant of {@link #match(String)}.
+     *
+     * @param path The relative path to match
+     * @return The matched prefix and its value, or {@code null} if only the default handler applies
+     */
+    SubstringMap.SubstringMatch<T> matchPrefix(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next;
+                }
+            }
+        }
+        return null;
+    }
+
+    T getDefaultHandler() {
+        return defaultHandler;
+    }
+
     PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
@@ -160,6 +185,8 @@ private void dumpValue(T value, int level) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
             }
+        } else if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
         }
     }
 
@@ -11,14 +11,18 @@
 public class RequestMapper<T> {
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    /**
+     * The candidates grouped by stem, sorted and compiled into one {@link RouteTrie} per stem
+     */
+    private final PathMatcher<RouteTrie<T>> routes;
+    private final PathMatcher.Builder<RouteTrie<T>> routesBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
+        routesBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -33,7 +37,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
         aggregates.forEach(this::sortAggregates);
         aggregates.forEach(this::addPrefixPaths);
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        routes = routesBuilder.build();
     }
 
     private void sortAggregates(String stem, List<RequestPath<T>> list) {
@@ -46,101 +50,138 @@ public int compare(RequestPath<T> t1, RequestPath<T> t2) {
     }
 
     private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
+        routesBuilder.addPrefixPath(stem, new RouteTrie<>(list));
     }
 
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path));
-        if (result != null) {
-            return result;
+        return map(path, false);
+    }
+
+    /**
+     * Same as {@link #map(String)}, but the path parameters are not extracted from the path. Instead
+     * {@link RequestMatch#pathParamBounds} contains the offsets of each parameter in {@link RequestMatch#path}, so that
+     * the caller can decide if and when the values are actually materialised.
+     */
+    public RequestMatch<T> mapWithBounds(String path) {
+        return map(path, true);
+    }
+
+    private RequestMatch<T> map(String path, boolean captureBounds) {
+        SubstringMap.SubstringMatch<RouteTrie<T>> prefix = routes.matchPrefix(path);
+        if (prefix != null) {
+            RequestMatch<T> result = mapFromRoutes(path, prefix.getKey().length(), prefix.getValue(), captureBounds);
+            if (result != null) {
+                return result;
+            }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+        // matchPos == 1 corresponds to '/' as a root level match
+        return mapFromRoutes(path, 1, routes.getDefaultHandler(), captureBounds);
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
-        var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
+    private RequestMatch<T> mapFromRoutes(String path, int matchPos, RouteTrie<T> trie, boolean captureBounds) {
+        if (trie == null) {
             return null;
         }
+        int index = trie.find(path, matchPos);
+        if (index == RouteTrie.NO_MATCH) {
+            return null;
+        }
+        // the trie only tells us which template wins, we still need to capture the parameters
+        return mapFromTemplate(path, matchPos, trie.getTemplates().get(index), captureBounds);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> mapFromTemplate(String path, int matchPos, RequestPath<T> potentialMatch,
+            boolean captureBounds) {
         int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String group : segment.groups) {
+        String[] params = null;
+        int[] bounds = null;
+        if (captureBounds) {
+            bounds = (maxParams > 0) ? new int[maxParams * 2] : EMPTY_INT_ARRAY;
+        } else {
+            params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        }
+        int paramCount = 0;
+        boolean prefixAllowed = potentialMatch.prefixTemplate;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                Matcher matcher = segment.pattern.matcher(path);
+                if (!matcher.find(matchPos)) {
+                    return null;
+                }
+                if (matcher.start() != matchPos) {
+                    // a custom regex is always the last component, the remainder is treated as an unmatched suffix
+                    break;
+                }
+                matchPos = matcher.end();
+                for (String group : segment.groups) {
+                    if (captureBounds) {
+                        // an unmatched optional group has a start of -1, which terminates the parameters just like null
+                        bounds[paramCount * 2] = matcher.start(group);
+                        bounds[paramCount * 2 + 1] = matcher.end(group);
+                        paramCount++;
+                    } else {
                         params[paramCount++] = matcher.group(group);
                     }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (!path.regionMatches(matchPos, segment.literalText, 0, segment.literalText.length())) {
+                    return null;
+                }
+                matchPos += segment.literalText.length();
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                if (captureBounds) {
+                    bounds[paramCount * 2] = start;
+                    bounds[paramCount * 2 + 1] = matchPos;
+                    paramCount++;
+                } else {
                     params[paramCount++] = path.substring(start, matchPos);
                 }
             }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+        }
+        if (captureBounds) {
+            if (paramCount < maxParams) {
+                bounds[paramCount * 2] = -1;
             }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
-                }
+        } else if (paramCount < params.length) {
+            params[paramCount] = null;
+        }
+        boolean fullMatch = matchPos == pathLength;
+        boolean doPrefixMatch = false;
+        if (!fullMatch) {
+            //according to the spec every template ends with (/.*)?
+            if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+            } else if (path.charAt(matchPos) == '/') {
+                doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+        }
+        if (fullMatch || doPrefixMatch) {
+            String remaining;
+            if (fullMatch) {
+                remaining = "";
+            } else {
+                if (matchPos == 1) {
+                    remaining = path;
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    remaining = path.substring(matchPos);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            if (captureBounds) {
+                return new RequestMatch(potentialMatch.template, potentialMatch.value, path, bounds, remaining);
+            }
+            return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
         }
         return null;
     }
@@ -179,31 +220,56 @@ public void dump(int level) {
         /**
          * The matched parameters in order.
          * <p>
-         * Note that this array may be larger than required, and padded with null values at the end
+         * Note that this array may be larger than required, and padded with null values at the end.
+         * <p>
+         * This is {@code null} if the match was obtained from {@link RequestMapper#mapWithBounds(String)}.
          */
         public final String[] pathParamValues;
+        /**
+         * The path that was matched, only set if the match was obtained from {@link RequestMapper#mapWithBounds(String)}.
+         */
+        public final String path;
+        /**
+         * The start and end offset in {@link #path} of each matched parameter, in order, only set if the match was
+         * obtained from {@link RequestMapper#mapWithBounds(String)}.
+         * <p>
+         * Note that this array may be larger than required, in which case the start offset following the last parameter
+         * is -1
+         */
+        public final int[] pathParamBounds;
         public final String remaining;
 
         public RequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
             this.template = template;
             this.value = value;
             this.pathParamValues = pathParamValues;
+            this.path = null;
+            this.pathParamBounds = null;
+            this.remaining = remaining;
+        }
+
+        public RequestMatch(URITemplate template, T value, String path, int[] pathParamBounds, String remaining) {
+            this.template = template;
+            this.value = value;
+            this.pathParamValues = null;
+            this.path = path;
+            this.pathParamBounds = pathParamBounds;
             this.remaining = remaining;
         }
 
         @Override
         public String toString() {
+            if (pathParamBounds != null) {
+                return "RequestMatch{ value: " + value + ", template: " + template + ", path: " + path
+                        + ", pathParamBounds: " + Arrays.toString(pathParamBounds) + " }";
+            }
             return "RequestMatch{ value: " + value + ", template: " + template + ", pathParamValues: "
                     + Arrays.toString(pathParamValues) + " }";
         }
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
-    }
-
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        this.routes.dump(0);
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
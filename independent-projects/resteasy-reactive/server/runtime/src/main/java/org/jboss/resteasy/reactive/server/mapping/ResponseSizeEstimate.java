@@ -0,0 +1,39 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+/**
+ * Keeps track of the size of the bodies written by an endpoint, so that the buffer its next response is serialized
+ * into can be allocated with the right size upfront, instead of growing by small chunks.
+ * <p>
+ * The estimate immediately follows larger responses, but only decreases slowly when the responses get smaller, so
+ * that an occasional small response (an error for example) does not shrink it.
+ * <p>
+ * The estimate is a plain field, updated without synchronization: it is only a hint, so reading a stale value or
+ * losing an update is harmless. To avoid writing to a field shared by all the requests of an endpoint on every
+ * response, the estimate is not updated by the responses that are only slightly smaller than it.
+ */
+public final class ResponseSizeEstimate {
+
+    // each smaller response decreases the estimate by 1/8th of the difference
+    private static final int DECREASE_SHIFT = 3;
+    // responses smaller than the estimate by less than 1/16th of it leave it unchanged
+    private static final int THRESHOLD_SHIFT = 4;
+
+    private int estimate;
+
+    /**
+     * @return the expected size of the next response, or {@code 0} if nothing was written yet
+     */
+    public int get() {
+        return estimate;
+    }
+
+    public void record(long size) {
+        int current = estimate;
+        int value = (int) Math.min(size, Integer.MAX_VALUE);
+        if (value > current) {
+            estimate = value;
+        } else if (current - value > current >> THRESHOLD_SHIFT) {
+            estimate = current - ((current - value) >> DECREASE_SHIFT);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+
+/**
+ * An immutable radix tree over all the templates that share a stem.
+ * <p>
+ * Literal components are stored as compressed edges, {@link URITemplate.Type#DEFAULT_REGEX} components as a single
+ * parameter edge that consumes everything up to the next {@code /}, and {@link URITemplate.Type#CUSTOM_REGEX}
+ * components (which are always the last component of a template) are attached to the node where the literal and
+ * default parameter prefix of the template ends.
+ * <p>
+ * Templates are identified by their position in the sorted candidate list, and the lookup returns the lowest matching
+ * position. This gives exactly the same result as trying every candidate in order, but only visits the branches of the
+ * tree that match the path, and does not allocate anything unless a custom regex needs to be evaluated.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+final class RouteTrie<T> implements Dumpable {
+
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    private final ArrayList<RequestMapper.RequestPath<T>> templates;
+    private final Node root;
+
+    RouteTrie(ArrayList<RequestMapper.RequestPath<T>> templates) {
+        this.templates = templates;
+        NodeBuilder builder = new NodeBuilder();
+        for (int index = 0; index < templates.size(); index++) {
+            builder.add(templates.get(index).template.components, 1, index);
+        }
+        this.root = builder.build();
+    }
+
+    ArrayList<RequestMapper.RequestPath<T>> getTemplates() {
+        return templates;
+    }
+
+    @Override
+    public void dump(int level) {
+        for (RequestMapper.RequestPath<T> template : templates) {
+            template.dump(level);
+        }
+    }
+
+    /**
+     * Finds the first template (in candidate order) that matches the given path.
+     *
+     * @param path the full request path
+     * @param start the position just after the stem
+     * @return the index of the template, or {@link #NO_MATCH}
+     */
+    int find(String path, int start) {
+        return find(root, path, start, NO_MATCH);
+    }
+
+    private int find(Node node, String path, int pos, int best) {
+        if (node.minIndex >= best) {
+            // nothing in this subtree can beat what we already have
+            return best;
+        }
+        int[] terminals = node.terminals;
+        for (int i = 0; i < terminals.length; ++i) {
+            int index = terminals[i];
+            if (index >= best) {
+                break;
+            }
+            if (acceptsEnd(index, path, pos)) {
+                best = index;
+                break;
+            }
+        }
+        int[] regexTerminals = node.regexTerminals;
+        for (int i = 0; i < regexTerminals.length; ++i) {
+            int index = regexTerminals[i];
+            if (index >= best) {
+                break;
+            }
+            if (regexMatches(index, path, pos)) {
+                best = index;
+                break;
+            }
+        }
+        int pathLength = path.length();
+        if (pos < pathLength) {
+            char[] firstChars = node.firstChars;
+            if (firstChars.length > 0) {
+                char c = path.charAt(pos);
+                for (int i = 0; i < firstChars.length; ++i) {
+                    if (firstChars[i] == c) {
+                        String edge = node.edges[i];
+                        if (path.regionMatches(pos, edge, 0, edge.length())) {
+                            best = find(node.children[i], path, pos + edge.length(), best);
+                        }
+                        break;
+                    }
+                }
+            }
+            Node paramChild = node.paramChild;
+            if (paramChild != null) {
+                int end = path.indexOf('/', pos);
+                best = find(paramChild, path, end == -1 ? pathLength : end, best);
+            }
+        }
+        return best;
+    }
+
+    private boolean acceptsEnd(int index, String path, int matchPos) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        //according to the spec every template ends with (/.*)?
+        boolean prefixAllowed = templates.get(index).prefixTemplate;
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1;
+        } else if (path.charAt(matchPos) == '/') {
+            return prefixAllowed || matchPos == pathLength - 1;
+        }
+        return false;
+    }
+
+    private boolean regexMatches(int index, String path, int pos) {
+        URITemplate.TemplateComponent[] components = templates.get(index).template.components;
+        Matcher matcher = components[components.length - 1].pattern.matcher(path);
+        if (!matcher.find(pos)) {
+            return false;
+        }
+        // if the regex only matches further along the path, the remainder is treated as an unmatched suffix
+        return acceptsEnd(index, path, matcher.start() == pos ? matcher.end() : pos);
+    }
+
+    private static final class Node {
+        /**
+         * The lowest template index that can be reached from this node, used to prune the search
+         */
+        final int minIndex;
+        final int[] terminals;
+        final int[] regexTerminals;
+        final char[] firstChars;
+        final String[] edges;
+        final Node[] children;
+        final Node paramChild;
+
+        Node(int minIndex, int[] terminals, int[] regexTerminals, char[] firstChars, String[] edges, Node[] children,
+                Node paramChild) {
+            this.minIndex = minIndex;
+            this.terminals = terminals;
+            this.regexTerminals = regexTerminals;
+            this.firstChars = firstChars;
+            this.edges = edges;
+            this.children = children;
+            this.paramChild = paramChild;
+        }
+    }
+
+    /**
+     * Mutable character level tree, that is compressed into {@link Node} instances once all templates are added.
+     */
+    private static final class NodeBuilder {
+        final Map<Character, NodeBuilder> literals = new TreeMap<>();
+        final List<Integer> terminals = new ArrayList<>(1);
+        final List<Integer> regexTerminals = new ArrayList<>(1);
+        NodeBuilder param;
+
+        void add(URITemplate.TemplateComponent[] components, int componentIndex, int templateIndex) {
+            NodeBuilder current = this;
+            for (int i = componentIndex; i < components.length; ++i) {
+                URITemplate.TemplateComponent component = components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    String literal = component.literalText;
+                    for (int pos = 0; pos < literal.length(); ++pos) {
+                        current = current.literals.computeIfAbsent(literal.charAt(pos), c -> new NodeBuilder());
+                    }
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (current.param == null) {
+                        current.param = new NodeBuilder();
+                    }
+                    current = current.param;
+                } else {
+                    // a custom regex always swallows the remainder of the template
+                    current.regexTerminals.add(templateIndex);
+                    return;
+                }
+            }
+            current.terminals.add(templateIndex);
+        }
+
+        boolean isPassThrough() {
+            return terminals.isEmpty() && regexTerminals.isEmpty() && param == null && literals.size() == 1;
+        }
+
+        Node build() {
+            int size = literals.size();
+            char[] firstChars = new char[size];
+            String[] edges = new String[size];
+            Node[] children = new Node[size];
+            int minIndex = NO_MATCH;
+            int pos = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : literals.entrySet()) {
+                StringBuilder edge = new StringBuilder().append(entry.getKey().charValue());
+                NodeBuilder next = entry.getValue();
+                while (next.isPassThrough()) {
+                    Map.Entry<Character, NodeBuilder> only = next.literals.entrySet().iterator().next();
+                    edge.append(only.getKey().charValue());
+                    next = only.getValue();
+                }
+                firstChars[pos] = entry.getKey();
+                edges[pos] = edge.toString();
+                children[pos] = next.build();
+                minIndex = Math.min(minIndex, children[pos].minIndex);
+                pos++;
+            }
+            Node paramChild = param == null ? null : param.build();
+            if (paramChild != null) {
+                minIndex = Math.min(minIndex, paramChild.minIndex);
+            }
+            int[] terminalArray = toArray(terminals);
+            int[] regexTerminalArray = toArray(regexTerminals);
+            if (terminalArray.length > 0) {
+                minIndex = Math.min(minIndex, terminalArray[0]);
+            }
+            if (regexTerminalArray.length > 0) {
+                minIndex = Math.min(minIndex, regexTerminalArray[0]);
+            }
+            return new Node(minIndex, terminalArray, regexTerminalArray, firstChars, edges, children, paramChild);
+        }
+
+        /**
+         * Templates are added in index order, so the result is already sorted
+         */
+        private static int[] toArray(List<Integer> values) {
+            if (values.isEmpty()) {
+                return EMPTY_INT_ARRAY;
+            }
+            int[] result = new int[values.size()];
+            for (int i = 0; i < result.length; ++i) {
+                result[i] = values.get(i);
+            }
+            return result;
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class RuntimeResource {
     private final Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score;
     private final MediaType streamElementType;
     private final Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers;
+    private final ResponseSizeEstimate responseSizeEstimate = new ResponseSizeEstimate();
 
     public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
             List<MediaType> consumes,
@@ -154,6 +155,13 @@ public Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwab
         return classExceptionMappers;
     }
 
+    /**
+     * The size of the responses written by this endpoint so far, used to size the output buffers
+     */
+    public ResponseSizeEstimate getResponseSizeEstimate() {
+        return responseSizeEstimate;
+    }
+
     @Override
     public String toString() {
         return "RuntimeResource{ method: " + javaMethodName + ", path: " + path + "}";
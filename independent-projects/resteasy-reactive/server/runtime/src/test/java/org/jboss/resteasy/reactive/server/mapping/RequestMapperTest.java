@@ -0,0 +1,82 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void literalTakesPrecedenceOverParameter() {
+        RequestMapper<String> mapper = methodMapper("/{id}", "/search", "/{id}/items", "/{id}/items/{itemId}");
+        assertMatch(mapper.map("/search"), "/search", "");
+        assertMatch(mapper.map("/searching"), "/{id}", "", "searching");
+        assertMatch(mapper.map("/42/items"), "/{id}/items", "", "42");
+        assertMatch(mapper.map("/42/items/7"), "/{id}/items/{itemId}", "", "42", "7");
+        assertMatch(mapper.map("/42/items/"), "/{id}/items", "/", "42");
+        assertNull(mapper.map("/42/other"));
+    }
+
+    @Test
+    public void customRegex() {
+        RequestMapper<String> mapper = methodMapper("/{id: \\d+}/audit", "/{name}/audit");
+        assertMatch(mapper.map("/42/audit"), "/{id: \\d+}/audit", "", "42");
+        assertMatch(mapper.map("/abc/audit"), "/{name}/audit", "", "abc");
+        assertNull(mapper.map("/42/other"));
+    }
+
+    @Test
+    public void prefixTemplates() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (String path : new String[] { "/hello", "/hello/world", "/users/{userId}/orders", "/files/{path: .+}" }) {
+            templates.add(new RequestMapper.RequestPath<>(true, new URITemplate(path, true), path));
+        }
+        RequestMapper<String> mapper = new RequestMapper<>(templates);
+        assertMatch(mapper.map("/hello"), "/hello", "");
+        assertMatch(mapper.map("/hello/there"), "/hello", "/there");
+        assertMatch(mapper.map("/hello/world/again"), "/hello/world", "/again");
+        assertMatch(mapper.map("/users/1234/orders/5"), "/users/{userId}/orders", "/5", "1234");
+        assertMatch(mapper.map("/files/a/b/c.txt"), "/files/{path: .+}", "", "a/b/c.txt");
+        assertNull(mapper.map("/helloworld"));
+        assertNull(mapper.map("/unknown"));
+    }
+
+    @Test
+    public void boundsInsteadOfValues() {
+        RequestMapper<String> mapper = methodMapper("/{id}", "/{id}/items/{itemId}", "/{id: \\d+}/audit");
+        RequestMapper.RequestMatch<String> match = mapper.mapWithBounds("/42/items/7");
+        assertEquals("/{id}/items/{itemId}", match.value);
+        assertNull(match.pathParamValues);
+        assertEquals("/42/items/7", match.path);
+        assertArrayEquals(new int[] { 1, 3, 10, 11 }, match.pathParamBounds);
+
+        match = mapper.mapWithBounds("/42/audit");
+        assertEquals("/{id: \\d+}/audit", match.value);
+        assertEquals(1, match.pathParamBounds[0]);
+        assertEquals(3, match.pathParamBounds[1]);
+        // the bounds are padded just like the values
+        assertEquals(-1, match.pathParamBounds[2]);
+        assertNull(mapper.mapWithBounds("/42/other"));
+    }
+
+    private static RequestMapper<String> methodMapper(String... paths) {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (String path : paths) {
+            templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(path, false), path));
+        }
+        return new RequestMapper<>(templates);
+    }
+
+    private static void assertMatch(RequestMapper.RequestMatch<String> match, String expectedTemplate,
+            String expectedRemaining, String... expectedParams) {
+        assertEquals(expectedTemplate, match.value);
+        assertEquals(expectedRemaining, match.remaining);
+        String[] params = new String[expectedParams.length];
+        System.arraycopy(match.pathParamValues, 0, params, 0, expectedParams.length);
+        assertArrayEquals(expectedParams, params);
+    }
+}
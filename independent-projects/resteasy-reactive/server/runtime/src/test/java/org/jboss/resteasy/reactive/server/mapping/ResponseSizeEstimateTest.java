@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseSizeEstimateTest {
+
+    private final ResponseSizeEstimate estimate = new ResponseSizeEstimate();
+
+    @Test
+    public void followsLargerResponses() {
+        assertEquals(0, estimate.get());
+        estimate.record(1000);
+        assertEquals(1000, estimate.get());
+        estimate.record(5000);
+        assertEquals(5000, estimate.get());
+    }
+
+    @Test
+    public void slowlyDecreasesWithSmallerResponses() {
+        estimate.record(8000);
+        estimate.record(0);
+        assertEquals(7000, estimate.get());
+        for (int i = 0; i < 100; i++) {
+            estimate.record(100);
+        }
+        assertEquals(100, estimate.get(), 10);
+    }
+
+    @Test
+    public void slightlySmallerResponsesAreIgnored() {
+        estimate.record(1600);
+        estimate.record(1550);
+        assertEquals(1600, estimate.get());
+        estimate.record(1400);
+        assertEquals(1575, estimate.get());
+    }
+
+    @Test
+    public void largeSizesAreCapped() {
+        estimate.record(Long.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, estimate.get());
+    }
+}
@@ -41,6 +41,7 @@ private static boolean isVirtualThread() {
     }
 
     private final int minChunkSize;
+    private final int firstChunkSize;
     private final int capacity;
     private ByteBuf buffer;
     private ArrayDeque<ByteBuf> otherBuffers;
@@ -48,7 +49,12 @@ private static boolean isVirtualThread() {
     private boolean anyHeap;
 
     private AppendBuffer(int minChunkSize, int capacity) {
+        this(minChunkSize, minChunkSize, capacity);
+    }
+
+    private AppendBuffer(int minChunkSize, int firstChunkSize, int capacity) {
         this.minChunkSize = Math.min(minChunkSize, capacity);
+        this.firstChunkSize = Math.min(Math.max(minChunkSize, firstChunkSize), capacity);
         this.capacity = capacity;
         this.anyHeap = false;
     }
@@ -77,6 +83,14 @@ public static AppendBuffer withMinChunks(int minChunkSize, int capacity) {
         return new AppendBuffer(minChunkSize, capacity);
     }
 
+    /**
+     * Like {@link #withMinChunks(int, int)}, but the first {@link ByteBuf} allocated after each {@link #clear}
+     * has a minimum capacity of {@code firstChunkSize}, so that data of an expected size fits in a single buffer.
+     */
+    public static AppendBuffer withMinChunks(int minChunkSize, int firstChunkSize, int capacity) {
+        return new AppendBuffer(minChunkSize, firstChunkSize, capacity);
+    }
+
     private ByteBuf lastBuffer() {
         if (otherBuffers == null || otherBuffers.isEmpty()) {
             return buffer;
@@ -122,8 +136,8 @@ public int append(byte[] bytes, int off, int len) {
         assert toWrite > 0;
         final int chunkCapacity;
         if (minChunkSize > 0) {
-            // Cannot allocate less than minChunkSize, till the limit of capacity left
-            chunkCapacity = Math.min(Math.max(minChunkSize, toWrite), availableCapacity);
+            // Cannot allocate less than minChunkSize (or firstChunkSize for the first chunk), till the limit of capacity left
+            chunkCapacity = Math.min(Math.max(buffer == null ? firstChunkSize : minChunkSize, toWrite), availableCapacity);
         } else {
             chunkCapacity = toWrite;
         }
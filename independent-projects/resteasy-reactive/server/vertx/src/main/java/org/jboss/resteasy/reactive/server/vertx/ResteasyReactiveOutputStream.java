@@ -11,6 +11,8 @@
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.LazyResponse;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.ResponseSizeEstimate;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -27,6 +29,8 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     private final ResteasyReactiveRequestContext context;
     protected final HttpServerRequest request;
     private final AppendBuffer appendBuffer;
+    private final ResponseSizeEstimate responseSizeEstimate;
+    private long bytesWritten;
     private boolean committed;
 
     private boolean closed;
@@ -38,8 +42,13 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     public ResteasyReactiveOutputStream(VertxResteasyReactiveRequestContext context) {
         this.context = context;
         this.request = context.getContext().request();
+        RuntimeResource target = context.getTarget();
+        this.responseSizeEstimate = target == null ? null : target.getResponseSizeEstimate();
+        int minChunkSize = context.getDeployment().getResteasyReactiveConfig().getMinChunkSize();
+        // allocate a buffer that can hold a response of the size the endpoint usually writes
         this.appendBuffer = AppendBuffer.withMinChunks(
-                context.getDeployment().getResteasyReactiveConfig().getMinChunkSize(),
+                minChunkSize,
+                responseSizeEstimate == null ? minChunkSize : responseSizeEstimate.get(),
                 context.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
         request.response().exceptionHandler(new Handler<Throwable>() {
             @Override
@@ -82,6 +91,13 @@ Buffer createBuffer(ByteBuf data) {
     }
 
     public void write(ByteBuf data, boolean last) throws IOException {
+        // all the writes end up here, whether they went through the append buffer or not
+        if (data != null) {
+            bytesWritten += data.readableBytes();
+        }
+        if (last && responseSizeEstimate != null) {
+            responseSizeEstimate.record(bytesWritten);
+        }
         if (last && data == null) {
             request.response().end((Handler<AsyncResult<Void>>) null);
             return;